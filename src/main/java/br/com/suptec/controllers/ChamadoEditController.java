@@ -2,7 +2,9 @@ package br.com.suptec.controllers;
 
 import br.com.suptec.models.Chamado;
 import br.com.suptec.services.ChamadoService;
+import br.com.suptec.services.ChamadoService.ResultadoEscrita;
 import br.com.suptec.utils.AlertUtils;
+import br.com.suptec.utils.AsyncUtils;
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
@@ -103,12 +105,23 @@ public class ChamadoEditController {
 
         Chamado atualizado = construirChamadoAtualizado();
 
-        boolean sucesso = chamadoService.atualizarChamado(atualizado);
+        // Envio em segundo plano (com as novas tentativas a resposta pode
+        // demorar); a janela fica desabilitada até o resultado
+        txtTitulo.getScene().getRoot().setDisable(true);
+        AsyncUtils.naThreadDeUi(chamadoService.atualizarChamadoAsync(atualizado), this::exibirResultado);
+    }
 
-        if (sucesso) {
+    private void exibirResultado(ResultadoEscrita resultado) {
+        txtTitulo.getScene().getRoot().setDisable(false);
+        if (resultado == ResultadoEscrita.ENVIADA) {
             AlertUtils.showSuccess("Sucesso", "Chamado atualizado com sucesso!");
             if (onSaveCallback != null) onSaveCallback.run();
             fecharJanela();
+        } else if (resultado == ResultadoEscrita.PENDENTE) {
+            AlertUtils.showInfo("Sem Conexão",
+                "A API está inacessível. A alteração foi guardada e será enviada automaticamente quando a conexão voltar.");
+            if (onSaveCallback != null) onSaveCallback.run();
+            fecharJanela();
         } else {
             AlertUtils.showError("Erro ao Atualizar", "Não foi possível atualizar o chamado. Verifique logs e API.");
         }
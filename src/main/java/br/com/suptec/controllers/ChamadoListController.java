@@ -1,7 +1,9 @@
 package br.com.suptec.controllers;
 
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 
 import br.com.suptec.controllers.helpers.ChamadoActionHandler;
 import br.com.suptec.controllers.helpers.ChamadoSearchHandler;
@@ -10,7 +12,10 @@ import br.com.suptec.controllers.helpers.ChamadoTableConfigurator;
 import br.com.suptec.core.SceneManager;
 import br.com.suptec.models.Chamado;
 import br.com.suptec.services.ChamadoService;
+import br.com.suptec.services.FilaEscritas;
 import br.com.suptec.utils.AlertUtils;
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.Log;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
@@ -111,7 +116,7 @@ public class ChamadoListController implements Initializable {
             btnEditar, 
             btnExcluir
         );
-        this.actionHandler = new ChamadoActionHandler(this::recarregarChamados);
+        this.actionHandler = new ChamadoActionHandler(() -> recarregarChamados());
     }
 
     private void configurarComponentes() {
@@ -129,30 +134,75 @@ public class ChamadoListController implements Initializable {
         
         searchHandler.inicializarFiltros();
         searchHandler.configurarBuscaAutomatica(searchField);
-        searchHandler.configurarFiltroPrioridade(searchField);
+        searchHandler.configurarFiltroPrioridade();
         selectionManager.configurarSelecao();
+        configurarAvisoDeConflito();
         recarregarChamados();
     }
 
-    private void recarregarChamados() {
-        try {
-            searchHandler.carregarTodosChamados();
-        } catch (Exception e) {
+    /**
+     * Avisa quando uma edição/exclusão feita sem conexão é rejeitada pela API
+     * ao ser reenviada, e recarrega a lista com os dados do servidor.
+     * O ChamadoService é um singleton: o aviso guarda esta tela apenas por
+     * referência fraca e é removido ao sair dela
+     */
+    private void configurarAvisoDeConflito() {
+        WeakReference<ChamadoListController> tela = new WeakReference<>(this);
+        chamadoService.setAoDetectarConflito(conflito -> AsyncUtils.executarNaUi(() -> {
+            ChamadoListController controller = tela.get();
+            if (controller != null) {
+                controller.avisarConflito(conflito);
+            }
+        }));
+    }
+
+    private void avisarConflito(FilaEscritas.Conflito conflito) {
+        String operacao = conflito.tipo == FilaEscritas.Tipo.EXCLUIR ? "exclusao" : "edicao";
+        AlertUtils.showWarning("Alteracao Nao Sincronizada",
+            "A API rejeitou a " + operacao + " do chamado feita sem conexao (status " + conflito.statusCode + ").\n\n"
+            + "ID: " + conflito.chamadoID + "\n\n"
+            + "A lista sera recarregada com os dados do servidor.");
+        recarregarChamados(true);
+    }
+
+    private CompletableFuture<?> recarregarChamados() {
+        return recarregarChamados(false);
+    }
+
+    /**
+     * Recarrega a tabela; com forcarAtualizacao a lista é baixada novamente da API
+     */
+    private CompletableFuture<?> recarregarChamados(boolean forcarAtualizacao) {
+        CompletableFuture<?> futuro = searchHandler.carregarTodosChamados(forcarAtualizacao);
+        AsyncUtils.naThreadDeUi(futuro, chamados -> {}, e -> {
             AlertUtils.showError("Erro", "Nao foi possivel carregar a lista de chamados.");
-            System.err.println("Erro ao carregar chamados: " + e.getMessage());
-        }
+            Log.erro("Erro ao carregar chamados: " + e.getMessage());
+        });
+        return futuro;
     }
 
     @FXML
     private void handleVoltar() {
+        chamadoService.setAoDetectarConflito(null);
         Stage stage = (Stage) btnVoltar.getScene().getWindow();
         SceneManager.loadScene(stage, "/fxml/MainMenuView.fxml", "SUPTEC - Menu Principal", 1600, 1000, false, false);
     }
 
     @FXML
     private void handleAtualizar() {
-        recarregarChamados();
-        AlertUtils.showInfo("Atualizado", "Lista de chamados atualizada com sucesso!");
+        // A contagem pode ler a fila do disco: fora da thread de UI
+        CompletableFuture<Integer> pendentes = recarregarChamados(true)
+            .thenCompose(chamados -> AsyncUtils.emSegundoPlano(chamadoService::getTotalPendentes));
+        AsyncUtils.naThreadDeUi(pendentes, total -> {
+            if (total > 0) {
+                AlertUtils.showInfo("Alteracoes Pendentes",
+                    "Lista de chamados atualizada, mas " + total + " alteracao(oes) feita(s) sem conexao "
+                    + "ainda nao chegaram a API.\n\n"
+                    + "Elas foram salvas para envio posterior e serao enviadas automaticamente quando a conexao voltar.");
+            } else {
+                AlertUtils.showInfo("Atualizado", "Lista de chamados atualizada com sucesso!");
+            }
+        });
     }
 
     @FXML
@@ -4,6 +4,7 @@ import java.net.URL;
 import java.util.Properties;
 import java.util.ResourceBundle;
 
+import br.com.suptec.utils.Log;
 import br.com.suptec.utils.SettingsService;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -114,7 +115,7 @@ public class ConfigController implements Initializable {
         // Replace root to preserve Stage size
         br.com.suptec.core.SceneManager.replaceRootPreserveStage(stage, "/fxml/MainMenuView.fxml", "SUPTEC - Menu");
         } catch (Exception e) {
-            System.err.println("Erro ao voltar para o menu: " + e.getMessage());
+            Log.erro("Erro ao voltar para o menu: " + e.getMessage());
         }
     }
 }
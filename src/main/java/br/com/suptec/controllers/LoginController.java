@@ -7,6 +7,7 @@ import java.util.prefs.Preferences;
 import br.com.suptec.core.SceneManager;
 import br.com.suptec.services.AuthService;
 import br.com.suptec.utils.AlertUtils;
+import br.com.suptec.utils.Log;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.CheckBox;
@@ -38,7 +39,7 @@ public class LoginController implements Initializable {
             Image logoImage = new Image(getClass().getResourceAsStream("/images/LogoSuptechLogin.jpg"));
             imgLogo.setImage(logoImage);
         } catch (Exception e) {
-            System.err.println("Erro ao carregar logo: " + e.getMessage());
+            Log.erro("Erro ao carregar logo: " + e.getMessage());
             // A imagem não será exibida, mas o programa continua funcionando
         }
 
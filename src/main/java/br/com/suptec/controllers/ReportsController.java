@@ -4,13 +4,18 @@ import java.net.URL;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import br.com.suptec.models.Chamado;
 import br.com.suptec.models.Usuario;
 import br.com.suptec.services.ChamadoService;
 import br.com.suptec.services.UserManagementService;
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.Log;
+import br.com.suptec.utils.TextoUtils;
 import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.geometry.Insets;
@@ -60,12 +65,12 @@ public class ReportsController implements Initializable {
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         // Configurar e carregar dados
-        carregarDados();
+        carregarDados(false);
     }
 
     @FXML
     private void handleAtualizar() {
-        carregarDados();
+        carregarDados(true);
     }
 
     @FXML
@@ -74,15 +79,27 @@ public class ReportsController implements Initializable {
             javafx.stage.Stage stage = (javafx.stage.Stage) lblTotalChamados.getScene().getWindow();
             br.com.suptec.core.SceneManager.loadScene(stage, "/fxml/MainMenuView.fxml", "SUPTEC - Menu Principal", 1600, 1000, true, false);
         } catch (Exception e) {
-            System.err.println("Erro ao voltar para o menu: " + e.getMessage());
+            Log.erro("Erro ao voltar para o menu: " + e.getMessage());
         }
     }
 
-    private void carregarDados() {
-        try {
-            List<Chamado> chamados = chamadoService.listarChamados();
-            var usuarios = userService.listarUsuarios();
+    /**
+     * Busca chamados e usuários em paralelo, sem bloquear a tela, e monta os
+     * relatórios quando ambos estiverem disponíveis
+     */
+    private void carregarDados(boolean forcarAtualizacao) {
+        CompletableFuture<ObservableList<Chamado>> chamadosFuturo = chamadoService.listarChamadosAsync(forcarAtualizacao);
+        CompletableFuture<ObservableList<Usuario>> usuariosFuturo = userService.listarUsuariosAsync();
+
+        AsyncUtils.naThreadDeUi(
+            CompletableFuture.allOf(chamadosFuturo, usuariosFuturo),
+            concluido -> exibirDados(chamadosFuturo.join(), usuariosFuturo.join()),
+            e -> Log.erro("Erro ao carregar relatórios: " + e.getMessage())
+        );
+    }
 
+    private void exibirDados(List<Chamado> chamados, List<Usuario> usuarios) {
+        try {
             int total = chamados.size();
             int fechados = (int) chamados.stream()
                 .filter(c -> c.getStatus() != null && c.getStatus().equalsIgnoreCase("fechado"))
@@ -316,12 +333,11 @@ public class ReportsController implements Initializable {
                     }
                 });
             } catch (Exception ex) {
-                System.err.println("Erro ao montar relatório mensal: " + ex.getMessage());
+                Log.erro("Erro ao montar relatório mensal: " + ex.getMessage());
             }
 
         } catch (Exception e) {
-            System.err.println("Erro ao carregar relatórios: " + e.getMessage());
-            e.printStackTrace();
+            Log.erro("Erro ao carregar relatórios: " + e.getMessage(), e);
         }
     }
 
@@ -335,9 +351,9 @@ public class ReportsController implements Initializable {
 
     private String normalizePrioridade(String p) {
         if (p == null) return "Baixa";
-        String v = p.trim().toLowerCase();
+        String v = TextoUtils.normalizar(p.trim());
         if (v.contains("alta")) return "Alta";
-        if (v.contains("media") || v.contains("média")) return "Media";
+        if (v.contains("media")) return "Media";
         return "Baixa";
     }
 }
@@ -4,6 +4,7 @@ import br.com.suptec.models.Usuario;
 import br.com.suptec.models.Usuario.TipoUsuario;
 import br.com.suptec.services.UserManagementService;
 import br.com.suptec.utils.AlertUtils;
+import br.com.suptec.utils.AsyncUtils;
 import br.com.suptec.utils.FieldValidator;
 import javafx.fxml.FXML;
 import javafx.scene.control.CheckBox;
@@ -186,9 +187,15 @@ public class UserEditController {
         // Criar objeto com dados atualizados
         Usuario usuarioAtualizado = construirUsuarioAtualizado();
 
-        // Enviar para API
-        boolean sucesso = userManagementService.atualizarUsuario(usuarioAtualizado);
+        // Enviar para API em segundo plano (com as novas tentativas a resposta
+        // pode demorar); a janela fica desabilitada até o resultado
+        txtNome.getScene().getRoot().setDisable(true);
+        AsyncUtils.naThreadDeUi(AsyncUtils.emSegundoPlano(() -> userManagementService.atualizarUsuario(usuarioAtualizado)),
+            this::exibirResultado);
+    }
 
+    private void exibirResultado(boolean sucesso) {
+        txtNome.getScene().getRoot().setDisable(false);
         if (sucesso) {
             AlertUtils.showSuccess(
                 "Sucesso",
@@ -8,6 +8,7 @@ import br.com.suptec.models.Usuario.TipoUsuario;
 import br.com.suptec.services.UserRegistrationService;
 import br.com.suptec.utils.AlertUtils;
 import br.com.suptec.utils.FieldValidator;
+import br.com.suptec.utils.Log;
 import br.com.suptec.utils.ValidationUtils;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -148,7 +149,7 @@ public class UserFormController implements Initializable {
             }
 
         } catch (Exception e) {
-            System.err.println("✗ Erro ao cadastrar usuário: " + e.getMessage());
+            Log.erro("✗ Erro ao cadastrar usuário: " + e.getMessage());
             AlertUtils.showError("Erro inesperado", 
                 "Ocorreu um erro ao tentar cadastrar o usuário:\n" + e.getMessage());
         }
@@ -11,6 +11,8 @@ import br.com.suptec.core.SceneManager;
 import br.com.suptec.models.Usuario;
 import br.com.suptec.services.UserManagementService;
 import br.com.suptec.utils.AlertUtils;
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.Log;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Button;
@@ -116,12 +118,10 @@ public class UserListController implements Initializable {
      * Recarrega a lista de usuários (usado como callback)
      */
     private void recarregarUsuarios() {
-        try {
-            searchHandler.carregarTodosUsuarios();
-        } catch (Exception e) {
+        AsyncUtils.naThreadDeUi(searchHandler.carregarTodosUsuarios(), usuarios -> {}, e -> {
             AlertUtils.showError("Erro", "Não foi possível carregar a lista de usuários.");
-            System.err.println("Erro ao carregar usuários: " + e.getMessage());
-        }
+            Log.erro("Erro ao carregar usuários: " + e.getMessage());
+        });
     }
 
     // ==================== HANDLERS DE NAVEGAÇÃO ====================
@@ -151,9 +151,9 @@ public class UserListController implements Initializable {
      */
     @FXML
     private void handleEditar() {
-        System.out.println("Botão Editar clicado!");
+        Log.debug("Botão Editar clicado!");
         Usuario selecionado = selectionManager.getUsuarioSelecionado();
-        System.out.println("Usuário selecionado: " + (selecionado != null ? selecionado.getNome() : "NULO"));
+        Log.debug(() -> "Usuário selecionado: " + (selecionado != null ? selecionado.getNome() : "NULO"));
         actionHandler.handleEditar(selecionado);
     }
 
@@ -180,7 +180,7 @@ public class UserListController implements Initializable {
      */
     @FXML
     private void handleAtualizar() {
-        searchHandler.limparBusca(searchField);
-        AlertUtils.showSuccess("Atualizado", "Lista de usuários atualizada!");
+        AsyncUtils.naThreadDeUi(searchHandler.limparBusca(searchField), usuarios ->
+            AlertUtils.showSuccess("Atualizado", "Lista de usuários atualizada!"));
     }
 }
@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import br.com.suptec.core.SceneManager;
 import br.com.suptec.services.AuthService;
+import br.com.suptec.utils.Log;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
@@ -36,7 +37,7 @@ public class HeaderController {
             Image logoImage = new Image(getClass().getResourceAsStream("/images/LogoSemFundo.png"));
             imgLogo.setImage(logoImage);
         } catch (Exception e) {
-            System.err.println("Erro ao carregar logo do header: " + e.getMessage());
+            Log.erro("Erro ao carregar logo do header: " + e.getMessage());
             // A imagem não será exibida, mas o programa continua funcionando
         }
     }
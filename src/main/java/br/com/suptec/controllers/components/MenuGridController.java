@@ -2,6 +2,7 @@ package br.com.suptec.controllers.components;
 
 import br.com.suptec.core.SceneManager;
 import br.com.suptec.utils.AlertUtils;
+import br.com.suptec.utils.Log;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.input.MouseEvent;
@@ -26,7 +27,7 @@ public class MenuGridController {
             // Carregar a tela de lista de usuários com as mesmas dimensões do menu principal e sem permitir maximizar
             SceneManager.loadScene(stage, "/fxml/UserListView.fxml", "SUPTEC - Gerenciamento de Usuários", 1600, 1000, true, false);
         } catch (Exception e) {
-            System.err.println("✗ Erro ao abrir tela de usuários: " + e.getMessage());
+            Log.erro("✗ Erro ao abrir tela de usuários: " + e.getMessage());
             AlertUtils.showError("Erro", "Não foi possível abrir a tela de usuários.");
         }
     }
@@ -38,16 +39,15 @@ public class MenuGridController {
     @FXML
     private void handleChamados(MouseEvent event) {
         try {
-            System.out.println("=== Abrindo tela de chamados ===");
+            Log.debug("=== Abrindo tela de chamados ===");
             // Obter o Stage atual através do evento
             Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-            System.out.println("Stage obtido: " + stage);
+            Log.debug(() -> "Stage obtido: " + stage);
             // Carregar a tela de lista de chamados com as mesmas dimensões do menu principal
             SceneManager.loadScene(stage, "/fxml/ChamadoListView.fxml", "SUPTEC - Gerenciamento de Chamados", 1600, 1000, false, false);
-            System.out.println("Tela carregada com sucesso!");
+            Log.debug("Tela carregada com sucesso!");
         } catch (Exception e) {
-            System.err.println("Erro ao abrir tela de chamados: " + e.getMessage());
-            e.printStackTrace();
+            Log.erro("Erro ao abrir tela de chamados: " + e.getMessage(), e);
             AlertUtils.showError("Erro", "Nao foi possivel abrir a tela de chamados.");
         }
     }
@@ -64,8 +64,7 @@ public class MenuGridController {
             // Carregar a tela de relatórios
             SceneManager.loadScene(stage, "/fxml/ReportsView.fxml", "SUPTEC - Relatórios", 1600, 1000, false, false);
         } catch (Exception e) {
-            System.err.println("Erro ao abrir tela de relatórios: " + e.getMessage());
-            e.printStackTrace();
+            Log.erro("Erro ao abrir tela de relatórios: " + e.getMessage(), e);
             AlertUtils.showError("Erro", "Não foi possível abrir a tela de relatórios.");
         }
     }
@@ -83,8 +82,7 @@ public class MenuGridController {
         // Replace root to preserve Stage size (avoid window resizing)
         SceneManager.replaceRootPreserveStage(stage, "/fxml/ConfigView.fxml", "SUPTEC - Configurações");
         } catch (Exception e) {
-            System.err.println("Erro ao abrir tela de configurações: " + e.getMessage());
-            e.printStackTrace();
+            Log.erro("Erro ao abrir tela de configurações: " + e.getMessage(), e);
             AlertUtils.showError("Erro", "Não foi possível abrir a tela de configurações.");
         }
     }
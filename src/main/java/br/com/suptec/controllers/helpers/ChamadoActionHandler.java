@@ -2,7 +2,10 @@ package br.com.suptec.controllers.helpers;
 
 import br.com.suptec.models.Chamado;
 import br.com.suptec.services.ChamadoService;
+import br.com.suptec.services.ChamadoService.ResultadoEscrita;
 import br.com.suptec.utils.AlertUtils;
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.Log;
 
 /**
  * Classe responsável por gerenciar as ações sobre chamados
@@ -77,8 +80,7 @@ public class ChamadoActionHandler {
 
             stage.showAndWait();
         } catch (Exception e) {
-            System.err.println("Erro ao abrir tela de edição de chamado: " + e.getMessage());
-            e.printStackTrace();
+            Log.erro("Erro ao abrir tela de edição de chamado: " + e.getMessage(), e);
             AlertUtils.showError("Erro", "Não foi possível abrir a tela de edição do chamado.\n\nErro: " + e.getMessage());
         }
     }
@@ -117,9 +119,13 @@ public class ChamadoActionHandler {
             return;
         }
 
-        boolean sucesso = chamadoService.excluirChamado(chamado);
-        
-        if (sucesso) {
+        // Envio em segundo plano: com as novas tentativas a resposta pode demorar
+        AsyncUtils.naThreadDeUi(chamadoService.excluirChamadoAsync(chamado),
+            resultado -> exibirResultadoExclusao(chamado, resultado));
+    }
+
+    private void exibirResultadoExclusao(Chamado chamado, ResultadoEscrita resultado) {
+        if (resultado == ResultadoEscrita.ENVIADA) {
             AlertUtils.showSuccess(
                 "Sucesso",
                 "Chamado excluido com sucesso!\n\n" +
@@ -127,6 +133,15 @@ public class ChamadoActionHandler {
                 "Titulo: " + chamado.getTitulo()
             );
             
+            onDataChanged.run();
+        } else if (resultado == ResultadoEscrita.PENDENTE) {
+            AlertUtils.showInfo(
+                "Sem Conexao",
+                "A API esta inacessivel. A exclusao foi guardada e sera enviada " +
+                "automaticamente quando a conexao voltar.\n\n" +
+                "ID: " + chamado.getChamadoID()
+            );
+            
             onDataChanged.run();
         } else {
             AlertUtils.showError(
@@ -1,8 +1,18 @@
 package br.com.suptec.controllers.helpers;
 
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
 import br.com.suptec.models.Chamado;
 import br.com.suptec.services.ChamadoService;
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.TextoUtils;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableView;
@@ -11,6 +21,12 @@ import javafx.scene.control.TextField;
 /**
  * Classe responsável por gerenciar a busca e filtragem de chamados
  * Aplica o princípio Single Responsibility (SRP)
+ *
+ * A tabela exibe sempre a mesma lista: todos os chamados carregados,
+ * envolvidos por um FilteredList (busca + prioridade) e um SortedList
+ * (ordenação pelas colunas). Buscar ou trocar a prioridade apenas substitui
+ * o predicado, de modo que a tabela recebe alterações incrementais e mantém
+ * a seleção, a ordenação e o estado das células.
  */
 public class ChamadoSearchHandler {
     
@@ -18,6 +34,14 @@ public class ChamadoSearchHandler {
     private final TableView<Chamado> tableView;
     private final Label totalLabel;
     private final ComboBox<String> filtroPrioridade;
+    private final DebouncedSearch<Set<String>> pesquisa;
+
+    private final ObservableList<Chamado> todos = FXCollections.observableArrayList();
+    private final FilteredList<Chamado> filtrados = new FilteredList<>(todos);
+
+    // Último termo pesquisado e IDs encontrados (null = sem filtro de texto)
+    private String termoAtual = "";
+    private Set<String> idsEncontrados;
 
     public ChamadoSearchHandler(
             ChamadoService chamadoService, 
@@ -29,37 +53,149 @@ public class ChamadoSearchHandler {
         this.tableView = tableView;
         this.totalLabel = totalLabel;
         this.filtroPrioridade = filtroPrioridade;
+        this.pesquisa = new DebouncedSearch<>(this::buscar, this::exibirResultados);
+
+        SortedList<Chamado> ordenados = new SortedList<>(filtrados);
+        ordenados.comparatorProperty().bind(tableView.comparatorProperty());
+        tableView.setItems(ordenados);
     }
 
+    /**
+     * Configura a busca ao digitar: aguarda o usuário parar de digitar,
+     * executa em segundo plano e publica apenas o resultado mais recente
+     */
     public void configurarBuscaAutomatica(TextField searchField) {
         searchField.textProperty().addListener((observable, oldValue, newValue) -> {
-            realizarBusca(newValue);
+            termoAtual = newValue != null ? newValue : "";
+            pesquisa.solicitar(newValue);
         });
     }
 
+    /**
+     * Executa a busca imediatamente (em segundo plano)
+     */
     public void realizarBusca(String termo) {
-        ObservableList<Chamado> resultados = chamadoService.buscarChamados(termo);
-        
-        String prioridadeSelecionada = filtroPrioridade.getValue();
-        if (prioridadeSelecionada != null && !prioridadeSelecionada.equals("Todas")) {
-            resultados = filtrarPorPrioridade(resultados, prioridadeSelecionada);
+        termoAtual = termo != null ? termo : "";
+        pesquisa.executarAgora(termo);
+    }
+
+    /**
+     * Executado fora da thread de UI. A busca é feita sobre a cópia local, a
+     * mesma exibida em todos: não consulta a API
+     * @return IDs dos chamados encontrados, ou null para termo vazio (todos)
+     */
+    private Set<String> buscar(String termo) {
+        if (termo == null || termo.trim().isEmpty()) {
+            return null;
         }
-        
-        tableView.setItems(resultados);
-        atualizarContador(resultados.size());
+        Set<String> ids = new HashSet<>();
+        for (Chamado chamado : chamadoService.buscarChamados(termo)) {
+            ids.add(chamado.getChamadoID());
+        }
+        return ids;
     }
 
-    private ObservableList<Chamado> filtrarPorPrioridade(ObservableList<Chamado> chamados, String prioridade) {
-        return chamados.filtered(c -> 
-            c.getPrioridade() != null && c.getPrioridade().equalsIgnoreCase(prioridade)
-        );
+    private void exibirResultados(Set<String> ids) {
+        idsEncontrados = ids;
+        aplicarFiltros();
+    }
+
+    /**
+     * Substitui o predicado da lista filtrada (busca + prioridade)
+     */
+    private void aplicarFiltros() {
+        Set<String> ids = idsEncontrados;
+        String prioridade = filtroPrioridade.getValue();
+        boolean filtrarPrioridade = prioridade != null && !prioridade.equals("Todas");
+
+        preservandoSelecao(() -> {
+            if (ids == null && !filtrarPrioridade) {
+                filtrados.setPredicate(null);
+            } else {
+                filtrados.setPredicate(c -> (ids == null || ids.contains(c.getChamadoID()))
+                    && (!filtrarPrioridade || TextoUtils.equivalentes(c.getPrioridade(), prioridade)));
+            }
+        });
+        atualizarContador(filtrados.size());
     }
 
-    public ObservableList<Chamado> carregarTodosChamados() {
-        ObservableList<Chamado> chamados = chamadoService.listarChamados();
-        tableView.setItems(chamados);
-        atualizarContador(chamados.size());
-        return chamados;
+    /**
+     * Executa a alteração da lista e seleciona novamente o chamado que estava
+     * selecionado (pelo ID, pois a recarga traz novas instâncias), se ele
+     * continuar visível
+     */
+    private void preservandoSelecao(Runnable alteracao) {
+        Chamado selecionado = tableView.getSelectionModel().getSelectedItem();
+        alteracao.run();
+        if (selecionado == null || selecionado == tableView.getSelectionModel().getSelectedItem()) {
+            return;
+        }
+        ObservableList<Chamado> itens = tableView.getItems();
+        for (int i = 0; i < itens.size(); i++) {
+            if (Objects.equals(itens.get(i).getChamadoID(), selecionado.getChamadoID())) {
+                tableView.getSelectionModel().clearAndSelect(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Carrega todos os chamados em segundo plano e publica na tabela quando
+     * a resposta chegar (a thread de UI não fica bloqueada)
+     */
+    public CompletableFuture<ObservableList<Chamado>> carregarTodosChamados() {
+        return carregarTodosChamados(false);
+    }
+
+    /**
+     * Carrega todos os chamados em segundo plano
+     * @param forcarAtualizacao true para ignorar o cache local e consultar a API
+     */
+    public CompletableFuture<ObservableList<Chamado>> carregarTodosChamados(boolean forcarAtualizacao) {
+        pesquisa.cancelar();
+        totalLabel.setText("Carregando chamados...");
+
+        // Tabela vazia (abertura da tela): exibe a cópia gravada em disco
+        // enquanto a API é consultada
+        boolean[] exibindoCopiaLocal = new boolean[1];
+        if (todos.isEmpty()) {
+            AsyncUtils.naThreadDeUi(chamadoService.carregarCopiaLocalAsync(), locais -> {
+                if (!locais.isEmpty() && todos.isEmpty()) {
+                    exibindoCopiaLocal[0] = true;
+                    todos.setAll(locais);
+                    totalLabel.setText(filtrados.size() + " chamado(s) (cópia local, atualizando...)");
+                }
+            });
+        }
+
+        // Linhas exibidas progressivamente enquanto o download não termina
+        // (não substituem a cópia local, que já está completa)
+        boolean[] recebendoLotes = new boolean[1];
+        CompletableFuture<ObservableList<Chamado>> futuro = chamadoService.listarChamadosAsync(
+            forcarAtualizacao,
+            lote -> AsyncUtils.executarNaUi(() -> {
+                if (exibindoCopiaLocal[0]) {
+                    return;
+                }
+                if (!recebendoLotes[0]) {
+                    recebendoLotes[0] = true;
+                    todos.clear();
+                }
+                todos.addAll(lote);
+                totalLabel.setText(todos.size() + " chamado(s) carregado(s)...");
+            })
+        );
+        AsyncUtils.naThreadDeUi(futuro, chamados -> {
+            preservandoSelecao(() -> todos.setAll(chamados));
+            if (termoAtual.trim().isEmpty()) {
+                // A busca pendente (se houver) foi cancelada acima
+                exibirResultados(null);
+            } else {
+                // Dados novos: refaz a busca do termo digitado
+                pesquisa.executarAgora(termoAtual);
+            }
+        });
+        return futuro;
     }
 
     private void atualizarContador(int total) {
@@ -81,9 +217,10 @@ public class ChamadoSearchHandler {
         filtroPrioridade.setValue("Todas");
     }
 
-    public void configurarFiltroPrioridade(TextField searchField) {
-        filtroPrioridade.valueProperty().addListener((obs, oldVal, newVal) -> {
-            realizarBusca(searchField.getText());
-        });
+    /**
+     * Trocar a prioridade apenas substitui o predicado (não refaz a busca)
+     */
+    public void configurarFiltroPrioridade() {
+        filtroPrioridade.valueProperty().addListener((obs, oldVal, newVal) -> aplicarFiltros());
     }
 }
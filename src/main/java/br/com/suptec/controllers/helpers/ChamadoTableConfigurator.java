@@ -1,10 +1,11 @@
 package br.com.suptec.controllers.helpers;
 
 import br.com.suptec.models.Chamado;
+import br.com.suptec.models.Chamado.Coluna;
+import br.com.suptec.utils.TextoUtils;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
-import javafx.scene.control.cell.PropertyValueFactory;
 
 /**
  * Classe responsável pela configuração da TableView de chamados
@@ -32,15 +33,17 @@ public class ChamadoTableConfigurator {
         TableColumn<Chamado, String> colDataAbertura,
         TableColumn<Chamado, String> colRespostaDoTecnico) {
         
-        colId.setCellValueFactory(new PropertyValueFactory<>("chamadoID"));
-        colTitulo.setCellValueFactory(new PropertyValueFactory<>("titulo"));
-        colPrioridade.setCellValueFactory(new PropertyValueFactory<>("prioridade"));
-    colNomeUsuario.setCellValueFactory(new PropertyValueFactory<>("nomeDoUsuario"));
-    colStatus.setCellValueFactory(new PropertyValueFactory<>("status"));
-        colEmailUsuario.setCellValueFactory(new PropertyValueFactory<>("emailFormatado"));
-        colSetorUsuario.setCellValueFactory(new PropertyValueFactory<>("setorFormatado"));
-        colDataAbertura.setCellValueFactory(new PropertyValueFactory<>("dataAberturaFormatada"));
-        colRespostaDoTecnico.setCellValueFactory(new PropertyValueFactory<>("respostaDoTecnicoFormatada"));
+        // Propriedades guardadas no próprio chamado (sem reflexão nem novo
+        // wrapper a cada renderização de célula)
+        colId.setCellValueFactory(c -> c.getValue().propriedade(Coluna.ID));
+        colTitulo.setCellValueFactory(c -> c.getValue().propriedade(Coluna.TITULO));
+        colPrioridade.setCellValueFactory(c -> c.getValue().propriedade(Coluna.PRIORIDADE));
+        colNomeUsuario.setCellValueFactory(c -> c.getValue().propriedade(Coluna.NOME_USUARIO));
+        colStatus.setCellValueFactory(c -> c.getValue().propriedade(Coluna.STATUS));
+        colEmailUsuario.setCellValueFactory(c -> c.getValue().propriedade(Coluna.EMAIL_USUARIO));
+        colSetorUsuario.setCellValueFactory(c -> c.getValue().propriedade(Coluna.SETOR_USUARIO));
+        colDataAbertura.setCellValueFactory(c -> c.getValue().propriedade(Coluna.DATA_ABERTURA));
+        colRespostaDoTecnico.setCellValueFactory(c -> c.getValue().propriedade(Coluna.RESPOSTA_DO_TECNICO));
 
     aplicarEstilosPrioridade(colPrioridade);
     configurarLarguraColunas(colId, colTitulo, colPrioridade, colStatus, colNomeUsuario, 
@@ -59,12 +62,11 @@ public class ChamadoTableConfigurator {
                 } else {
                     setText(prioridade);
                     
-                    switch (prioridade.toLowerCase()) {
+                    switch (TextoUtils.normalizar(prioridade)) {
                         case "baixa":
                             setStyle("-fx-text-fill: #28a745; -fx-font-weight: bold;");
                             break;
                         case "media":
-                        case "média":
                             setStyle("-fx-text-fill: #ffc107; -fx-font-weight: bold;");
                             break;
                         case "alta":
@@ -0,0 +1,110 @@
+package br.com.suptec.controllers.helpers;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.ConfigLoader;
+import br.com.suptec.utils.Log;
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+
+/**
+ * Pipeline de busca "ao digitar" com debounce.
+ *
+ * - Cada tecla reinicia um período de silêncio; a busca só dispara quando o
+ *   usuário para de digitar (busca.debounce.ms no application.properties)
+ * - A busca roda em segundo plano, fora da thread de UI
+ * - Uma nova solicitação cancela a anterior e apenas o resultado da última
+ *   solicitação é publicado (latest-wins)
+ *
+ * Deve ser usado a partir da thread de UI.
+ *
+ * @param <T> Tipo do resultado da busca
+ */
+public class DebouncedSearch<T> {
+
+    private final PauseTransition pausa;
+    private final Function<String, T> busca;
+    private final Consumer<T> publicar;
+
+    private String termoPendente;
+    private long geracao;
+    private CompletableFuture<T> emAndamento;
+
+    /**
+     * @param busca Função executada em segundo plano com o termo digitado
+     * @param publicar Callback executado na thread de UI com o resultado mais recente
+     */
+    public DebouncedSearch(Function<String, T> busca, Consumer<T> publicar) {
+        this(Duration.millis(Long.parseLong(
+                ConfigLoader.getInstance().getProperty("busca.debounce.ms", "300"))), busca, publicar);
+    }
+
+    /**
+     * @param periodoSilencio Tempo sem digitação antes de executar a busca
+     * @param busca Função executada em segundo plano com o termo digitado
+     * @param publicar Callback executado na thread de UI com o resultado mais recente
+     */
+    public DebouncedSearch(Duration periodoSilencio, Function<String, T> busca, Consumer<T> publicar) {
+        this.busca = busca;
+        this.publicar = publicar;
+        this.pausa = new PauseTransition(periodoSilencio);
+        this.pausa.setOnFinished(e -> disparar(termoPendente));
+    }
+
+    /**
+     * Agenda a busca para depois do período de silêncio (reinicia a contagem a
+     * cada chamada)
+     */
+    public void solicitar(String termo) {
+        termoPendente = termo;
+        cancelarEmAndamento();
+        pausa.playFromStart();
+    }
+
+    /**
+     * Executa a busca imediatamente, descartando qualquer busca pendente
+     */
+    public void executarAgora(String termo) {
+        pausa.stop();
+        cancelarEmAndamento();
+        disparar(termo);
+    }
+
+    /**
+     * Cancela buscas agendadas ou em andamento sem publicar resultado
+     */
+    public void cancelar() {
+        pausa.stop();
+        cancelarEmAndamento();
+    }
+
+    private void cancelarEmAndamento() {
+        geracao++;
+        if (emAndamento != null) {
+            emAndamento.cancel(false);
+            emAndamento = null;
+        }
+    }
+
+    private void disparar(String termo) {
+        final long minhaGeracao = ++geracao;
+        CompletableFuture<T> futuro = AsyncUtils.emSegundoPlano(() -> busca.apply(termo));
+        emAndamento = futuro;
+
+        AsyncUtils.naThreadDeUi(futuro, resultado -> {
+            // Resultado de uma busca superada por outra mais recente: descartar
+            if (minhaGeracao == geracao) {
+                emAndamento = null;
+                publicar.accept(resultado);
+            }
+        }, erro -> {
+            if (!(erro instanceof CancellationException)) {
+                Log.erro("Erro na busca: " + erro.getMessage());
+            }
+        });
+    }
+}
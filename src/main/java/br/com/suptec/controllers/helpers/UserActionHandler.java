@@ -4,6 +4,8 @@ import br.com.suptec.models.Usuario;
 import br.com.suptec.services.AuthService;
 import br.com.suptec.services.UserManagementService;
 import br.com.suptec.utils.AlertUtils;
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.Log;
 
 /**
  * Classe responsável por gerenciar as ações sobre usuários
@@ -64,14 +66,13 @@ public class UserActionHandler {
                 );
                 stage.getIcons().add(icon);
             } catch (Exception iconError) {
-                System.err.println("Aviso: Não foi possível carregar o ícone da janela");
+                Log.aviso("Aviso: Não foi possível carregar o ícone da janela");
             }
             
             stage.showAndWait();
 
         } catch (Exception e) {
-            System.err.println("Erro ao abrir tela de edição: " + e.getMessage());
-            e.printStackTrace();
+            Log.erro("Erro ao abrir tela de edição: " + e.getMessage(), e);
             AlertUtils.showError(
                 "Erro",
                 "Não foi possível abrir a tela de edição.\n\nErro: " + e.getMessage()
@@ -97,17 +98,17 @@ public class UserActionHandler {
                 "Isso pode indicar um problema na sincronização com a API.\n" +
                 "Tente atualizar a lista de usuários."
             );
-            System.err.println("✗ Tentativa de exclusão de usuário sem ID válido: " + usuario.getNome());
+            Log.erro("✗ Tentativa de exclusão de usuário sem ID válido: " + usuario.getNome());
             return;
         }
 
         // Log detalhado para debug
-        System.out.println("\n=== DEBUG: DADOS DO USUÁRIO PARA EXCLUSÃO ===");
-        System.out.println("ID: " + usuario.getId());
-        System.out.println("Nome: " + usuario.getNome());
-        System.out.println("Email: " + usuario.getEmail());
-        System.out.println("Tipo: " + usuario.getTipo());
-        System.out.println("===============================================\n");
+        Log.debug("\n=== DEBUG: DADOS DO USUÁRIO PARA EXCLUSÃO ===");
+        Log.debug(() -> "ID: " + usuario.getId());
+        Log.debug(() -> "Nome: " + usuario.getNome());
+        Log.debug(() -> "Email: " + usuario.getEmail());
+        Log.debug(() -> "Tipo: " + usuario.getTipo());
+        Log.debug("===============================================\n");
 
         // Confirmação com mais detalhes
         boolean confirmado = AlertUtils.showConfirmation(
@@ -127,7 +128,7 @@ public class UserActionHandler {
         );
         
         if (!confirmado) {
-            System.out.println("⚠ Exclusão cancelada pelo usuário");
+            Log.info("⚠ Exclusão cancelada pelo usuário");
             return;
         }
 
@@ -141,14 +142,18 @@ public class UserActionHandler {
                 "Você não pode excluir o próprio usuário que está logado no sistema.\n\n" +
                 "Por favor, peça a outro administrador para realizar esta operação."
             );
-            System.out.println("⚠ Tentativa de excluir o próprio usuário bloqueada");
+            Log.info("⚠ Tentativa de excluir o próprio usuário bloqueada");
             return;
         }
 
         // Tentar excluir via API
-        System.out.println("\n=== INICIANDO PROCESSO DE EXCLUSÃO ===");
-        boolean sucesso = userManagementService.excluirUsuario(usuario);
-        
+        Log.info("\n=== INICIANDO PROCESSO DE EXCLUSÃO ===");
+        // Envio em segundo plano: com as novas tentativas a resposta pode demorar
+        AsyncUtils.naThreadDeUi(AsyncUtils.emSegundoPlano(() -> userManagementService.excluirUsuario(usuario)),
+            sucesso -> exibirResultadoExclusao(usuario, sucesso));
+    }
+
+    private void exibirResultadoExclusao(Usuario usuario, boolean sucesso) {
         if (sucesso) {
             AlertUtils.showSuccess(
                 "Sucesso", 
@@ -156,10 +161,10 @@ public class UserActionHandler {
             );
             
             // Recarregar lista de usuários
-            System.out.println("🔄 Recarregando lista de usuários...");
+            Log.info("🔄 Recarregando lista de usuários...");
             onDataChanged.run();
             
-            System.out.println("=== EXCLUSÃO CONCLUÍDA COM SUCESSO ===\n");
+            Log.info("=== EXCLUSÃO CONCLUÍDA COM SUCESSO ===\n");
         } else {
             AlertUtils.showError(
                 "Erro ao Excluir", 
@@ -174,7 +179,7 @@ public class UserActionHandler {
                 )
             );
             
-            System.out.println("=== EXCLUSÃO FALHOU ===\n");
+            Log.info("=== EXCLUSÃO FALHOU ===\n");
         }
     }
 
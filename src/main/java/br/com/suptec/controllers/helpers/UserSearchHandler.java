@@ -1,7 +1,10 @@
 package br.com.suptec.controllers.helpers;
 
+import java.util.concurrent.CompletableFuture;
+
 import br.com.suptec.models.Usuario;
 import br.com.suptec.services.UserManagementService;
+import br.com.suptec.utils.AsyncUtils;
 import javafx.collections.ObservableList;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableView;
@@ -16,39 +19,50 @@ public class UserSearchHandler {
     private final UserManagementService userManagementService;
     private final TableView<Usuario> tableView;
     private final Label totalLabel;
+    private final DebouncedSearch<ObservableList<Usuario>> pesquisa;
 
     public UserSearchHandler(UserManagementService userManagementService, TableView<Usuario> tableView, Label totalLabel) {
         this.userManagementService = userManagementService;
         this.tableView = tableView;
         this.totalLabel = totalLabel;
+        this.pesquisa = new DebouncedSearch<>(userManagementService::buscarUsuarios, this::exibirResultados);
     }
 
     /**
-     * Configura o listener de busca em tempo real
+     * Configura o listener de busca em tempo real (com debounce, sobre a
+     * cópia local dos usuários)
      */
     public void configurarBuscaAutomatica(TextField searchField) {
         searchField.textProperty().addListener((observable, oldValue, newValue) -> {
-            realizarBusca(newValue);
+            pesquisa.solicitar(newValue);
         });
     }
 
     /**
-     * Realiza a busca de usuários baseado no termo informado
+     * Realiza a busca de usuários imediatamente (em segundo plano)
      */
     public void realizarBusca(String termo) {
-        ObservableList<Usuario> resultados = userManagementService.buscarUsuarios(termo);
+        pesquisa.executarAgora(termo);
+    }
+
+    private void exibirResultados(ObservableList<Usuario> resultados) {
         tableView.setItems(resultados);
         atualizarContador(resultados.size());
     }
 
     /**
-     * Carrega todos os usuários do serviço
+     * Carrega todos os usuários do serviço em segundo plano e publica na
+     * tabela quando a resposta chegar
      */
-    public ObservableList<Usuario> carregarTodosUsuarios() {
-        ObservableList<Usuario> usuarios = userManagementService.listarUsuarios();
-        tableView.setItems(usuarios);
-        atualizarContador(usuarios.size());
-        return usuarios;
+    public CompletableFuture<ObservableList<Usuario>> carregarTodosUsuarios() {
+        pesquisa.cancelar();
+        totalLabel.setText("Carregando usuários...");
+        CompletableFuture<ObservableList<Usuario>> futuro = userManagementService.listarUsuariosAsync();
+        AsyncUtils.naThreadDeUi(futuro, usuarios -> {
+            tableView.setItems(usuarios);
+            atualizarContador(usuarios.size());
+        });
+        return futuro;
     }
 
     /**
@@ -61,8 +75,8 @@ public class UserSearchHandler {
     /**
      * Limpa a busca e recarrega todos os usuários
      */
-    public void limparBusca(TextField searchField) {
+    public CompletableFuture<ObservableList<Usuario>> limparBusca(TextField searchField) {
         searchField.clear();
-        carregarTodosUsuarios();
+        return carregarTodosUsuarios();
     }
 }
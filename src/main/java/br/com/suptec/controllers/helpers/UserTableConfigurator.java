@@ -1,9 +1,9 @@
 package br.com.suptec.controllers.helpers;
 
 import br.com.suptec.models.Usuario;
+import br.com.suptec.models.Usuario.Coluna;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
-import javafx.scene.control.cell.PropertyValueFactory;
 
 /**
  * Classe responsável pela configuração da TableView de usuários
@@ -27,12 +27,13 @@ public class UserTableConfigurator {
             TableColumn<Usuario, String> colSetor,
             TableColumn<Usuario, String> colTipo) {
         
-        // Vincular colunas às propriedades do modelo
-        colNome.setCellValueFactory(new PropertyValueFactory<>("nome"));
-        colEmail.setCellValueFactory(new PropertyValueFactory<>("email"));
-        colTelefone.setCellValueFactory(new PropertyValueFactory<>("telefone"));
-        colSetor.setCellValueFactory(new PropertyValueFactory<>("setorOuEspecialidade")); // Exibe Setor ou Especialidade
-        colTipo.setCellValueFactory(new PropertyValueFactory<>("tipoDescricao"));
+        // Vincular colunas às propriedades guardadas no próprio usuário
+        // (sem reflexão nem novo wrapper a cada renderização de célula)
+        colNome.setCellValueFactory(c -> c.getValue().propriedade(Coluna.NOME));
+        colEmail.setCellValueFactory(c -> c.getValue().propriedade(Coluna.EMAIL));
+        colTelefone.setCellValueFactory(c -> c.getValue().propriedade(Coluna.TELEFONE));
+        colSetor.setCellValueFactory(c -> c.getValue().propriedade(Coluna.SETOR_OU_ESPECIALIDADE)); // Exibe Setor ou Especialidade
+        colTipo.setCellValueFactory(c -> c.getValue().propriedade(Coluna.TIPO));
 
         // Configurar largura proporcional
         configurarLarguraColunas(colNome, colEmail, colTelefone, colSetor, colTipo);
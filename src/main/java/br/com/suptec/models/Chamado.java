@@ -3,11 +3,16 @@ package br.com.suptec.models;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+import br.com.suptec.utils.TextoUtils;
+import javafx.beans.property.ReadOnlyStringProperty;
+
 /**
  * Modelo que representa um chamado (ticket) do sistema
  * Contém apenas os campos retornados pela API de Chamados
  */
 public class Chamado {
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
     private String chamadoID; // GUID da API
     private String nomeDoUsuario;
     private String emailDoUsuario;
@@ -18,6 +23,16 @@ public class Chamado {
     private String status; // novo campo: ex: "ABERTO", "FECHADO", etc.
     private String respostaDoTecnico; // Resposta do técnico ao chamado
     private LocalDateTime dataAbertura;
+    // Chave de busca normalizada (calculada sob demanda, descartada pelos setters)
+    private transient String chaveBusca;
+    // Textos de exibição (calculados por prepararExibicao ou sob demanda,
+    // descartados pelos setters)
+    private transient String dataAberturaFormatada;
+    private transient String emailFormatado;
+    private transient String setorFormatado;
+    private transient String respostaDoTecnicoFormatada;
+    // Propriedades das células da tabela (criadas quando o chamado é exibido)
+    private transient volatile PropriedadesExibicao<Coluna> propriedades;
 
     // Enum para prioridades
     public enum Prioridade {
@@ -41,6 +56,14 @@ public class Chamado {
         }
     }
 
+    // Colunas exibidas na tabela de chamados (ver propriedade(Coluna))
+    public enum Coluna {
+        ID, TITULO, PRIORIDADE, STATUS, NOME_USUARIO, EMAIL_USUARIO,
+        SETOR_USUARIO, DATA_ABERTURA, RESPOSTA_DO_TECNICO;
+
+        private static final Coluna[] TODAS = values();
+    }
+
     // Construtores
     public Chamado() {}
 
@@ -61,51 +84,155 @@ public class Chamado {
 
     // Getters e Setters
     public String getChamadoID() { return chamadoID; }
-    public void setChamadoID(String chamadoID) { this.chamadoID = chamadoID; }
+    public void setChamadoID(String chamadoID) { this.chamadoID = chamadoID; alterado(); }
 
     public String getNomeDoUsuario() { return nomeDoUsuario; }
-    public void setNomeDoUsuario(String nomeDoUsuario) { this.nomeDoUsuario = nomeDoUsuario; }
+    public void setNomeDoUsuario(String nomeDoUsuario) { this.nomeDoUsuario = nomeDoUsuario; alterado(); }
 
     public String getEmailDoUsuario() { return emailDoUsuario; }
-    public void setEmailDoUsuario(String emailDoUsuario) { this.emailDoUsuario = emailDoUsuario; }
+    public void setEmailDoUsuario(String emailDoUsuario) { this.emailDoUsuario = emailDoUsuario; alterado(); }
 
     public String getSetorDoUsuario() { return setorDoUsuario; }
-    public void setSetorDoUsuario(String setorDoUsuario) { this.setorDoUsuario = setorDoUsuario; }
+    public void setSetorDoUsuario(String setorDoUsuario) { this.setorDoUsuario = setorDoUsuario; alterado(); }
 
     public String getTitulo() { return titulo; }
-    public void setTitulo(String titulo) { this.titulo = titulo; }
+    public void setTitulo(String titulo) { this.titulo = titulo; alterado(); }
 
     public String getDescricao() { return descricao; }
-    public void setDescricao(String descricao) { this.descricao = descricao; }
+    public void setDescricao(String descricao) { this.descricao = descricao; alterado(); }
 
     public String getPrioridade() { return prioridade; }
-    public void setPrioridade(String prioridade) { this.prioridade = prioridade; }
+    public void setPrioridade(String prioridade) { this.prioridade = prioridade; alterado(); }
 
     public String getStatus() { return status; }
-    public void setStatus(String status) { this.status = status; }
+    public void setStatus(String status) { this.status = status; alterado(); }
 
     public String getRespostaDoTecnico() { return respostaDoTecnico; }
-    public void setRespostaDoTecnico(String respostaDoTecnico) { this.respostaDoTecnico = respostaDoTecnico; }
+    public void setRespostaDoTecnico(String respostaDoTecnico) { this.respostaDoTecnico = respostaDoTecnico; alterado(); }
 
     public LocalDateTime getDataAbertura() { return dataAbertura; }
-    public void setDataAbertura(LocalDateTime dataAbertura) { this.dataAbertura = dataAbertura; }
+    public void setDataAbertura(LocalDateTime dataAbertura) { this.dataAbertura = dataAbertura; alterado(); }
+
+    /**
+     * Campos pesquisáveis (titulo, descricao, nomeDoUsuario, emailDoUsuario,
+     * setorDoUsuario e prioridade) sem acentos e em minúsculas, calculados uma
+     * única vez por chamado. Ver {@link TextoUtils#chaveBusca(String...)}.
+     */
+    public String getChaveBusca() {
+        String chave = chaveBusca;
+        if (chave == null) {
+            chave = TextoUtils.chaveBusca(titulo, descricao, nomeDoUsuario, emailDoUsuario, setorDoUsuario, prioridade);
+            chaveBusca = chave;
+        }
+        return chave;
+    }
 
-    // Métodos auxiliares
+    /**
+     * Propriedade com o texto exibido na coluna, criada na primeira vez que
+     * a célula é renderizada. Após um setter, os textos são recalculados na
+     * próxima chamada (feita pela tabela, na thread de UI)
+     */
+    public ReadOnlyStringProperty propriedade(Coluna coluna) {
+        if (propriedades == null) {
+            propriedades = new PropriedadesExibicao<>(this, Coluna.TODAS, this::textoDaColuna);
+        }
+        return propriedades.obter(coluna);
+    }
+
+    /**
+     * Indica se o chamado já foi exibido em uma tabela (possui propriedades
+     * ligadas a células)
+     */
+    public boolean isExibido() {
+        return propriedades != null;
+    }
+
+    /**
+     * Publica nas células que exibem o chamado os valores alterados pelos
+     * setters. Chamar na thread de UI após alterar um chamado já exibido.
+     */
+    public void atualizarExibicao() {
+        PropriedadesExibicao<Coluna> atuais = propriedades;
+        if (atuais != null) {
+            atuais.atualizar();
+        }
+    }
+
+    private String textoDaColuna(Coluna coluna) {
+        switch (coluna) {
+            case ID: return chamadoID;
+            case TITULO: return titulo;
+            case PRIORIDADE: return prioridade;
+            case STATUS: return status;
+            case NOME_USUARIO: return nomeDoUsuario;
+            case EMAIL_USUARIO: return getEmailFormatado();
+            case SETOR_USUARIO: return getSetorFormatado();
+            case DATA_ABERTURA: return getDataAberturaFormatada();
+            case RESPOSTA_DO_TECNICO: return getRespostaDoTecnicoFormatada();
+            default: return null;
+        }
+    }
+
+    /**
+     * Descarta os valores derivados dos campos (chamado pelos setters)
+     */
+    private void alterado() {
+        chaveBusca = null;
+        dataAberturaFormatada = null;
+        emailFormatado = null;
+        setorFormatado = null;
+        respostaDoTecnicoFormatada = null;
+        if (propriedades != null) {
+            propriedades.marcarAlterado();
+        }
+    }
+
+    /**
+     * Calcula os textos de exibição (data formatada, "N/A", "Sem resposta").
+     * Chamado ao ler o chamado da API ou do disco, fora da thread de UI, para
+     * que a renderização da tabela não formate nada durante a rolagem.
+     */
+    public void prepararExibicao() {
+        getDataAberturaFormatada();
+        getEmailFormatado();
+        getSetorFormatado();
+        getRespostaDoTecnicoFormatada();
+    }
+
+    // Métodos auxiliares (textos de exibição, calculados uma única vez)
     public String getDataAberturaFormatada() {
-        if (dataAbertura == null) return "N/A";
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        return dataAbertura.format(formatter);
+        String texto = dataAberturaFormatada;
+        if (texto == null) {
+            texto = dataAbertura != null ? dataAbertura.format(FORMATO_DATA) : "N/A";
+            dataAberturaFormatada = texto;
+        }
+        return texto;
     }
 
     public String getEmailFormatado() {
-        return (emailDoUsuario != null && !emailDoUsuario.trim().isEmpty()) ? emailDoUsuario : "N/A";
+        String texto = emailFormatado;
+        if (texto == null) {
+            texto = (emailDoUsuario != null && !emailDoUsuario.trim().isEmpty()) ? emailDoUsuario : "N/A";
+            emailFormatado = texto;
+        }
+        return texto;
     }
 
     public String getSetorFormatado() {
-        return (setorDoUsuario != null && !setorDoUsuario.trim().isEmpty()) ? setorDoUsuario : "N/A";
+        String texto = setorFormatado;
+        if (texto == null) {
+            texto = (setorDoUsuario != null && !setorDoUsuario.trim().isEmpty()) ? setorDoUsuario : "N/A";
+            setorFormatado = texto;
+        }
+        return texto;
     }
 
     public String getRespostaDoTecnicoFormatada() {
-        return (respostaDoTecnico != null && !respostaDoTecnico.trim().isEmpty()) ? respostaDoTecnico : "Sem resposta";
+        String texto = respostaDoTecnicoFormatada;
+        if (texto == null) {
+            texto = (respostaDoTecnico != null && !respostaDoTecnico.trim().isEmpty()) ? respostaDoTecnico : "Sem resposta";
+            respostaDoTecnicoFormatada = texto;
+        }
+        return texto;
     }
 }
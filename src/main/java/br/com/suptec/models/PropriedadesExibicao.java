@@ -0,0 +1,85 @@
+package br.com.suptec.models;
+
+import java.util.function.Function;
+
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+
+/**
+ * Propriedades observáveis com os textos exibidos nas colunas das tabelas,
+ * criadas sob demanda (na primeira vez que uma célula do registro é
+ * exibida) e reaproveitadas nas renderizações seguintes.
+ *
+ * Substitui o PropertyValueFactory, que a cada renderização de célula
+ * localiza o getter por reflexão e cria um novo wrapper para o valor.
+ *
+ * Os setters do registro apenas marcam os textos como desatualizados (podem
+ * rodar em qualquer thread); o recálculo é feito uma única vez, na próxima
+ * leitura pela tabela ou em {@link #atualizar()} (na thread de UI), mesmo que
+ * vários campos tenham sido alterados. As células visíveis não releem a
+ * propriedade sozinhas: quem altera um registro já exibido deve chamar
+ * {@link #atualizar()} na thread de UI para que elas mostrem os novos valores.
+ *
+ * @param <C> Enum com as colunas do modelo
+ */
+class PropriedadesExibicao<C extends Enum<C>> {
+
+    private final Object dono;
+    private final C[] colunas;
+    private final Function<C, String> texto;
+    private final ReadOnlyStringWrapper[] propriedades;
+    private volatile boolean desatualizado;
+
+    /**
+     * @param dono Registro exibido (bean das propriedades)
+     * @param colunas Todas as constantes do enum
+     * @param texto Texto exibido em cada coluna
+     */
+    PropriedadesExibicao(Object dono, C[] colunas, Function<C, String> texto) {
+        this.dono = dono;
+        this.colunas = colunas;
+        this.texto = texto;
+        this.propriedades = new ReadOnlyStringWrapper[colunas.length];
+    }
+
+    /**
+     * Propriedade da coluna, com os textos recalculados se o registro foi
+     * alterado desde a última leitura (chamado na thread de UI)
+     */
+    ReadOnlyStringProperty obter(C coluna) {
+        atualizar();
+        ReadOnlyStringWrapper propriedade = propriedades[coluna.ordinal()];
+        if (propriedade == null) {
+            propriedade = new ReadOnlyStringWrapper(dono, coluna.name(), texto.apply(coluna));
+            propriedades[coluna.ordinal()] = propriedade;
+        }
+        return propriedade.getReadOnlyProperty();
+    }
+
+    /**
+     * Publica os textos recalculados nas propriedades já criadas, se o
+     * registro foi alterado (chamado na thread de UI). As células ligadas a
+     * elas são notificadas e redesenhadas.
+     */
+    void atualizar() {
+        if (!desatualizado) {
+            return;
+        }
+        desatualizado = false;
+        for (C coluna : colunas) {
+            ReadOnlyStringWrapper propriedade = propriedades[coluna.ordinal()];
+            if (propriedade != null) {
+                propriedade.set(texto.apply(coluna));
+            }
+        }
+    }
+
+    /**
+     * Marca os textos como desatualizados (após um setter). Não altera as
+     * propriedades, que estão ligadas a células: isso é feito por
+     * {@link #atualizar()}.
+     */
+    void marcarAlterado() {
+        desatualizado = true;
+    }
+}
@@ -1,5 +1,8 @@
 package br.com.suptec.models;
 
+import br.com.suptec.utils.TextoUtils;
+import javafx.beans.property.ReadOnlyStringProperty;
+
 public class Usuario {
     private String id; // GUID da API (ex: "896c3968-c67f-493f-0089-08de0feba950")
     private String nome;
@@ -9,6 +12,10 @@ public class Usuario {
     private String setor;
     private String especialidade; // Para técnicos
     private TipoUsuario tipo;
+    // Chave de busca normalizada (calculada sob demanda, descartada pelos setters)
+    private transient String chaveBusca;
+    // Propriedades das células da tabela (criadas quando o usuário é exibido)
+    private transient PropriedadesExibicao<Coluna> propriedades;
 
     // Enum para tipos de usuário
     public enum TipoUsuario {
@@ -32,6 +39,13 @@ public class Usuario {
         }
     }
 
+    // Colunas exibidas na tabela de usuários (ver propriedade(Coluna))
+    public enum Coluna {
+        NOME, EMAIL, TELEFONE, SETOR_OU_ESPECIALIDADE, TIPO;
+
+        private static final Coluna[] TODAS = values();
+    }
+
     // Construtores
     public Usuario() {}
 
@@ -49,31 +63,77 @@ public class Usuario {
     public void setId(String id) { this.id = id; }
 
     public String getNome() { return nome; }
-    public void setNome(String nome) { this.nome = nome; }
+    public void setNome(String nome) { this.nome = nome; alterado(); }
 
     public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
+    public void setEmail(String email) { this.email = email; alterado(); }
 
     public String getSenha() { return senha; }
     public void setSenha(String senha) { this.senha = senha; }
 
     public String getTelefone() { return telefone; }
-    public void setTelefone(String telefone) { this.telefone = telefone; }
+    public void setTelefone(String telefone) { this.telefone = telefone; alterado(); }
 
     public String getSetor() { return setor; }
-    public void setSetor(String setor) { this.setor = setor; }
+    public void setSetor(String setor) { this.setor = setor; alterado(); }
 
     public String getEspecialidade() { return especialidade; }
-    public void setEspecialidade(String especialidade) { this.especialidade = especialidade; }
+    public void setEspecialidade(String especialidade) { this.especialidade = especialidade; alterado(); }
 
     public TipoUsuario getTipo() { return tipo; }
-    public void setTipo(TipoUsuario tipo) { this.tipo = tipo; }
+    public void setTipo(TipoUsuario tipo) { this.tipo = tipo; alterado(); }
 
     // Método auxiliar para obter descrição do tipo
     public String getTipoDescricao() {
         return tipo != null ? tipo.getDescricao() : "";
     }
     
+    /**
+     * Nome, email, tipo, setor e especialidade sem acentos e em minúsculas,
+     * calculados uma única vez por usuário (ver {@link TextoUtils#chaveBusca(String...)})
+     */
+    public String getChaveBusca() {
+        String chave = chaveBusca;
+        if (chave == null) {
+            chave = TextoUtils.chaveBusca(nome, email, getTipoDescricao(), setor, especialidade);
+            chaveBusca = chave;
+        }
+        return chave;
+    }
+
+    /**
+     * Propriedade com o texto exibido na coluna, criada na primeira vez que
+     * a célula é renderizada. Após um setter, os textos são recalculados na
+     * próxima chamada (feita pela tabela, na thread de UI)
+     */
+    public ReadOnlyStringProperty propriedade(Coluna coluna) {
+        if (propriedades == null) {
+            propriedades = new PropriedadesExibicao<>(this, Coluna.TODAS, this::textoDaColuna);
+        }
+        return propriedades.obter(coluna);
+    }
+
+    private String textoDaColuna(Coluna coluna) {
+        switch (coluna) {
+            case NOME: return nome;
+            case EMAIL: return email;
+            case TELEFONE: return telefone;
+            case SETOR_OU_ESPECIALIDADE: return getSetorOuEspecialidade();
+            case TIPO: return getTipoDescricao();
+            default: return null;
+        }
+    }
+
+    /**
+     * Descarta os valores derivados dos campos (chamado pelos setters)
+     */
+    private void alterado() {
+        chaveBusca = null;
+        if (propriedades != null) {
+            propriedades.marcarAlterado();
+        }
+    }
+
     /**
      * Retorna Setor para GERENTE e USUARIO, ou Especialidade para TECNICO
      */
@@ -1,23 +1,74 @@
 package br.com.suptec.services;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import br.com.suptec.utils.AsyncUtils;
 import br.com.suptec.utils.ConfigLoader;
+import br.com.suptec.utils.Log;
 
+/**
+ * Cliente HTTP base para a API REST.
+ *
+ * Cada operação existe em duas formas: síncrona (ex: {@link #getWithAuth}) e
+ * assíncrona (ex: {@link #getWithAuthAsync}), que não bloqueia a thread de UI.
+ * As requisições usam o {@link HttpTransport} compartilhado, cujo executor tem
+ * número limitado de threads; para atualizar a tela use
+ * {@link AsyncUtils#naThreadDeUi(CompletableFuture, java.util.function.Consumer)}.
+ *
+ * As requisições GET passam pelo {@link HttpCache} do transporte (quando
+ * ativo): são enviadas como condicionais e respostas 304 Not Modified são
+ * servidas do cache, chegando ao chamador como 200 com o corpo armazenado.
+ * Nas lidas em stream apenas os validadores são guardados e o 304 chega ao
+ * leitor, que responde com os dados que já mantém.
+ *
+ * Todas as requisições anunciam Accept-Encoding e os corpos compactados são
+ * descompactados pelo {@link CompressaoHttp} do transporte antes de chegar
+ * aos chamadores.
+ */
 public class ApiService {
     private final String BASE_URL;
+    private final String caminhoBase;
+    private final HttpTransport transport;
     private final HttpClient client;
 
     public ApiService() {
-        this.BASE_URL = ConfigLoader.getInstance().getApiBaseUrl();
-        System.out.println("🔧 ApiService inicializado com URL: " + BASE_URL);
-        this.client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(ConfigLoader.getInstance().getApiTimeout()))
-                .build();
+        this(HttpTransport.getInstance());
+    }
+
+    /**
+     * @param transport Transporte HTTP compartilhado (pool de conexões único)
+     */
+    public ApiService(HttpTransport transport) {
+        this(transport, ConfigLoader.getInstance().getApiBaseUrl());
+    }
+
+    /**
+     * @param transport Transporte HTTP
+     * @param baseUrl URL base da API (terminada em barra)
+     */
+    ApiService(HttpTransport transport, String baseUrl) {
+        this.BASE_URL = baseUrl;
+        this.caminhoBase = URI.create(BASE_URL).getPath();
+        Log.info("🔧 ApiService inicializado com URL: " + BASE_URL);
+        this.transport = transport;
+        this.client = transport.getClient();
     }
 
     /**
@@ -27,51 +78,7 @@ public class ApiService {
      * @return Response com status code e body
      */
     public ApiResponse post(String endpoint, String jsonBody) {
-        try {
-            String url = BASE_URL + endpoint;
-            
-            System.out.println("\n🌐 === POST REQUEST ===");
-            System.out.println("URL: " + url);
-            System.out.println("Content-Type: application/json");
-            System.out.println("Body: " + jsonBody);
-            System.out.println("=====================\n");
-            
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Content-Type", "application/json")
-                    .header("Accept", "application/json")
-                    .timeout(Duration.ofSeconds(30))
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .build();
-
-            System.out.println("📤 Enviando requisição...");
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            
-            System.out.println("\n📥 === POST RESPONSE ===");
-            System.out.println("Status: " + response.statusCode());
-            System.out.println("Body: " + (response.body() != null ? response.body() : "null"));
-            System.out.println("=======================\n");
-            
-            return new ApiResponse(response.statusCode(), response.body());
-        } catch (java.net.ConnectException e) {
-            System.err.println("❌ ERRO DE CONEXÃO: Não foi possível conectar ao servidor");
-            System.err.println("   URL tentada: " + BASE_URL + endpoint);
-            System.err.println("   Verifique se a API está rodando");
-            System.err.println("   Detalhes: " + e.getMessage());
-            return new ApiResponse(-1, null);
-        } catch (java.net.http.HttpTimeoutException e) {
-            System.err.println("❌ TIMEOUT: A requisição demorou muito tempo");
-            System.err.println("   URL: " + BASE_URL + endpoint);
-            System.err.println("   Detalhes: " + e.getMessage());
-            return new ApiResponse(-1, null);
-        } catch (Exception e) {
-            System.err.println("❌ ERRO NA REQUISIÇÃO POST");
-            System.err.println("   Endpoint: " + endpoint);
-            System.err.println("   Tipo: " + e.getClass().getName());
-            System.err.println("   Mensagem: " + e.getMessage());
-            e.printStackTrace();
-            return new ApiResponse(-1, null);
-        }
+        return postAsync(endpoint, jsonBody).join();
     }
 
     /**
@@ -80,20 +87,7 @@ public class ApiService {
      * @return Response com status code e body
      */
     public ApiResponse get(String endpoint) {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL + endpoint))
-                    .header("Accept", "application/json")
-                    .timeout(Duration.ofSeconds(30))
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            return new ApiResponse(response.statusCode(), response.body());
-        } catch (Exception e) {
-            System.err.println("Erro na requisição GET para " + endpoint + ": " + e.getMessage());
-            return new ApiResponse(-1, null);
-        }
+        return getAsync(endpoint).join();
     }
 
     /**
@@ -103,27 +97,7 @@ public class ApiService {
      * @return Response com status code e body
      */
     public ApiResponse getWithAuth(String endpoint, String token) {
-        try {
-            String url = BASE_URL + endpoint;
-            System.out.println("GET Request: " + url);
-            System.out.println("Authorization: Bearer " + (token != null ? token.substring(0, Math.min(20, token.length())) + "..." : "null"));
-            
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Accept", "application/json")
-                    .header("Authorization", "Bearer " + token)
-                    .timeout(Duration.ofSeconds(30))
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            System.out.println("📡 Response Status: " + response.statusCode());
-            return new ApiResponse(response.statusCode(), response.body());
-        } catch (Exception e) {
-            System.err.println("Erro na requisição GET com autenticação para " + endpoint + ": " + e.getMessage());
-            e.printStackTrace();
-            return new ApiResponse(-1, null);
-        }
+        return getWithAuthAsync(endpoint, token).join();
     }
 
     /**
@@ -132,20 +106,7 @@ public class ApiService {
      * @return Response com status code e body
      */
     public ApiResponse delete(String endpoint) {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL + endpoint))
-                    .header("Accept", "application/json")
-                    .timeout(Duration.ofSeconds(30))
-                    .DELETE()
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            return new ApiResponse(response.statusCode(), response.body());
-        } catch (Exception e) {
-            System.err.println("Erro na requisição DELETE para " + endpoint + ": " + e.getMessage());
-            return new ApiResponse(-1, null);
-        }
+        return deleteAsync(endpoint).join();
     }
 
     /**
@@ -155,21 +116,7 @@ public class ApiService {
      * @return Response com status code e body
      */
     public ApiResponse deleteWithAuth(String endpoint, String token) {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL + endpoint))
-                    .header("Accept", "application/json")
-                    .header("Authorization", "Bearer " + token)
-                    .timeout(Duration.ofSeconds(30))
-                    .DELETE()
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            return new ApiResponse(response.statusCode(), response.body());
-        } catch (Exception e) {
-            System.err.println("Erro na requisição DELETE com autenticação para " + endpoint + ": " + e.getMessage());
-            return new ApiResponse(-1, null);
-        }
+        return deleteWithAuthAsync(endpoint, token).join();
     }
 
     /**
@@ -179,21 +126,7 @@ public class ApiService {
      * @return Response com status code e body
      */
     public ApiResponse put(String endpoint, String jsonBody) {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL + endpoint))
-                    .header("Content-Type", "application/json")
-                    .header("Accept", "application/json")
-                    .timeout(Duration.ofSeconds(30))
-                    .PUT(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            return new ApiResponse(response.statusCode(), response.body());
-        } catch (Exception e) {
-            System.err.println("Erro na requisição PUT para " + endpoint + ": " + e.getMessage());
-            return new ApiResponse(-1, null);
-        }
+        return putAsync(endpoint, jsonBody).join();
     }
 
     /**
@@ -204,22 +137,7 @@ public class ApiService {
      * @return Response com status code e body
      */
     public ApiResponse putWithAuth(String endpoint, String jsonBody, String token) {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL + endpoint))
-                    .header("Content-Type", "application/json")
-                    .header("Accept", "application/json")
-                    .header("Authorization", "Bearer " + token)
-                    .timeout(Duration.ofSeconds(30))
-                    .PUT(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            return new ApiResponse(response.statusCode(), response.body());
-        } catch (Exception e) {
-            System.err.println("Erro na requisição PUT com autenticação para " + endpoint + ": " + e.getMessage());
-            return new ApiResponse(-1, null);
-        }
+        return putWithAuthAsync(endpoint, jsonBody, token).join();
     }
 
     /**
@@ -230,34 +148,686 @@ public class ApiService {
      * @return Response com status code e body
      */
     public ApiResponse postWithAuth(String endpoint, String jsonBody, String token) {
+        return postWithAuthAsync(endpoint, jsonBody, token).join();
+    }
+
+    /**
+     * Executa uma requisição PUT com token de autenticação enviando o JSON já
+     * serializado em bytes UTF-8 (ex: gerado por {@link br.com.suptec.utils.JsonUtils#escreverJson})
+     * @param endpoint Endpoint da API (sem a barra inicial)
+     * @param jsonBody Corpo da requisição em JSON (UTF-8)
+     * @param token Token JWT de autenticação
+     * @return Response com status code e body
+     */
+    public ApiResponse putWithAuth(String endpoint, byte[] jsonBody, String token) {
+        return putWithAuthAsync(endpoint, jsonBody, token).join();
+    }
+
+    // ==================== API ASSÍNCRONA ====================
+
+    /**
+     * Versão assíncrona de {@link #post(String, String)}
+     */
+    public CompletableFuture<ApiResponse> postAsync(String endpoint, String jsonBody) {
+        String url = BASE_URL + endpoint;
+
+        Log.debug("\n🌐 === POST REQUEST ===");
+        Log.debug(() -> "URL: " + url);
+        Log.debug("Content-Type: application/json");
+        Log.debug(() -> "Body: " + jsonBody);
+        Log.debug("=====================\n");
+
+        Log.debug("📤 Enviando requisição...");
+        return enviarAsync("POST", endpoint, corpoJson(jsonBody), null, null).thenApply(response -> {
+            if (response.getStatusCode() != -1 && Log.isDebugAtivo()) {
+                Log.debug("\n📥 === POST RESPONSE ===");
+                Log.debug("Status: " + response.getStatusCode());
+                Log.debug("Body: " + (response.getBody() != null ? response.getBody() : "null"));
+                Log.debug("=======================\n");
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Versão assíncrona de {@link #get(String)}
+     */
+    public CompletableFuture<ApiResponse> getAsync(String endpoint) {
+        return compartilharGet(endpoint, null, null);
+    }
+
+    /**
+     * Versão assíncrona de {@link #getWithAuth(String, String)}
+     */
+    public CompletableFuture<ApiResponse> getWithAuthAsync(String endpoint, String token) {
+        return getWithAuthAsync(endpoint, token, null);
+    }
+
+    /**
+     * Versão assíncrona de {@link #getWithAuth(String, String)} limitada ao
+     * prazo de uma operação composta: o timeout da requisição nunca passa do
+     * tempo restante e não há novas tentativas depois do prazo
+     * @param prazo Prazo da operação (null = apenas o timeout do endpoint)
+     */
+    public CompletableFuture<ApiResponse> getWithAuthAsync(String endpoint, String token, Prazo prazo) {
+        Log.debug(() -> "GET Request: " + BASE_URL + endpoint);
+        Log.debug(() -> "Authorization: Bearer " + (token != null ? token.substring(0, Math.min(20, token.length())) + "..." : "null"));
+
+        return compartilharGet(endpoint, token, prazo).thenApply(response -> {
+            if (response.getStatusCode() != -1) {
+                Log.debug(() -> "📡 Response Status: " + response.getStatusCode());
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Versão assíncrona de {@link #delete(String)}
+     */
+    public CompletableFuture<ApiResponse> deleteAsync(String endpoint) {
+        return enviarAsync("DELETE", endpoint, null, null, null);
+    }
+
+    /**
+     * Versão assíncrona de {@link #deleteWithAuth(String, String)}
+     */
+    public CompletableFuture<ApiResponse> deleteWithAuthAsync(String endpoint, String token) {
+        return enviarAsync("DELETE", endpoint, null, token, null);
+    }
+
+    /**
+     * Versão assíncrona de {@link #put(String, String)}
+     */
+    public CompletableFuture<ApiResponse> putAsync(String endpoint, String jsonBody) {
+        return enviarAsync("PUT", endpoint, corpoJson(jsonBody), null, null);
+    }
+
+    /**
+     * Versão assíncrona de {@link #putWithAuth(String, String, String)}
+     */
+    public CompletableFuture<ApiResponse> putWithAuthAsync(String endpoint, String jsonBody, String token) {
+        return enviarAsync("PUT", endpoint, corpoJson(jsonBody), token, null);
+    }
+
+    /**
+     * Versão assíncrona de {@link #putWithAuth(String, byte[], String)}
+     */
+    public CompletableFuture<ApiResponse> putWithAuthAsync(String endpoint, byte[] jsonBody, String token) {
+        return enviarAsync("PUT", endpoint, HttpRequest.BodyPublishers.ofByteArray(jsonBody), token, null);
+    }
+
+    /**
+     * Versão assíncrona de {@link #postWithAuth(String, String, String)}
+     */
+    public CompletableFuture<ApiResponse> postWithAuthAsync(String endpoint, String jsonBody, String token) {
+        return enviarAsync("POST", endpoint, corpoJson(jsonBody), token, null);
+    }
+
+    /**
+     * Executa um GET autenticado entregando o corpo da resposta como stream,
+     * sem carregá-lo inteiro em memória. O leitor roda em uma thread de
+     * leitura dedicada e pode processar os dados à medida que chegam.
+     * Em falha de conexão o leitor recebe status -1 e um stream vazio.
+     * @param endpoint Endpoint da API (sem a barra inicial)
+     * @param token Token JWT de autenticação
+     * @param leitor Consome o status e o corpo da resposta e produz o resultado
+     */
+    public <T> CompletableFuture<T> getStreamWithAuthAsync(String endpoint, String token, LeitorStream<T> leitor) {
+        return getStreamWithAuthAsync(endpoint, token, false, leitor);
+    }
+
+    /**
+     * Versão de {@link #getStreamWithAuthAsync(String, String, LeitorStream)}
+     * que pode revalidar os dados que o chamador já possui.
+     * @param condicional true se o chamador ainda mantém os dados lidos da
+     *                    última resposta 200 deste endpoint: a requisição leva
+     *                    os validadores (ETag/Last-Modified) dessa resposta e o
+     *                    leitor pode receber 304 com corpo vazio, indicando que
+     *                    esses dados continuam atuais
+     */
+    public <T> CompletableFuture<T> getStreamWithAuthAsync(String endpoint, String token, boolean condicional,
+                                                          LeitorStream<T> leitor) {
+        Log.debug(() -> "GET Request (stream): " + BASE_URL + endpoint);
+
+        RequisicoesCompartilhadas compartilhadas = transport.getRequisicoesCompartilhadas();
+        if (compartilhadas == null) {
+            return getStreamDaRede(endpoint, token, condicional, leitor, null, null);
+        }
+
+        // Quem inicia a requisição lê o stream; quem chega enquanto ela está em
+        // andamento relê, com o próprio leitor, a cópia dos bytes recebidos.
+        // Um 304 só serve a quem também tem os dados: condicionais agrupam à parte
+        String chave = (condicional ? "stream-condicional\n" : "stream\n")
+            + RequisicoesCompartilhadas.chave(token, endpoint);
+        AtomicReference<CompletableFuture<T>> proprio = new AtomicReference<>();
+        CompletableFuture<CorpoLido> corpo = compartilhadas.executar(chave, () -> {
+            CompletableFuture<CorpoLido> publicado = new CompletableFuture<>();
+            proprio.set(getStreamDaRede(endpoint, token, condicional, leitor, publicado, chave));
+            return publicado;
+        });
+        if (proprio.get() != null) {
+            return proprio.get();
+        }
+        Log.debug(() -> "🔗 GET compartilhado com requisição em andamento: " + endpoint);
+        return corpo.thenComposeAsync(lido -> {
+            if (lido.corpo == null) {
+                // O corpo não foi copiado (ninguém aguardava quando a leitura começou)
+                return getStreamDaRede(endpoint, token, condicional, leitor, null, null);
+            }
+            return CompletableFuture.completedFuture(
+                lerCorpo(leitor, lido.statusCode, new ByteArrayInputStream(lido.corpo), endpoint));
+        }, transport.getExecutorLeitura());
+    }
+
+    /**
+     * Executa o GET em streaming. O corpo não é guardado no {@link HttpCache}:
+     * as listagens lidas em stream são grandes e guardá-las como byte[]
+     * anularia a leitura registro a registro (quem as consome já mantém os
+     * dados interpretados, ex: {@link ChamadoCache}). Apenas os validadores
+     * de uma resposta 200 lida até o fim são guardados, para as requisições
+     * condicionais seguintes.
+     * @param publicado Completado com o status e uma cópia do corpo, para as
+     *                  chamadas agrupadas a esta requisição (null se não houver)
+     * @param chave Chave do agrupamento em {@link RequisicoesCompartilhadas}
+     *              (null se a requisição não for compartilhada)
+     */
+    private <T> CompletableFuture<T> getStreamDaRede(String endpoint, String token, boolean condicional,
+                                                      LeitorStream<T> leitor,
+                                                      CompletableFuture<CorpoLido> publicado, String chave) {
+        HttpCache cache = transport.getCache();
+        HttpCache.Entrada validadores = condicional && cache != null ? cache.obterValidadores(token, endpoint) : null;
+        HttpRequest request;
+        try {
+            request = requisicaoGet(endpoint, token, validadores);
+        } catch (Exception e) {
+            tratarFalha("GET", endpoint, e);
+            publicar(publicado, -1, new byte[0]);
+            return CompletableFuture.supplyAsync(
+                () -> lerCorpo(leitor, -1, InputStream.nullInputStream(), endpoint), transport.getExecutorLeitura());
+        }
+
+        CompletableFuture<T> resultado = enviarComRetry(request, HttpResponse.BodyHandlers.ofInputStream(), true, null)
+                .handleAsync((response, e) -> {
+                    if (e != null) {
+                        tratarFalha("GET", endpoint, e);
+                        publicar(publicado, -1, new byte[0]);
+                        return lerCorpo(leitor, -1, InputStream.nullInputStream(), endpoint);
+                    }
+                    Log.debug(() -> "📡 Response Status: " + response.statusCode());
+                    try (InputStream corpo = abrirCorpo(response)) {
+                        // Copiar o corpo só vale a pena se alguém já aguarda esta resposta;
+                        // a partir daqui, novas chamadas fazem a própria requisição
+                        boolean aguardada = publicado != null
+                            && transport.getRequisicoesCompartilhadas().encerrarAgrupamento(chave);
+                        T lido;
+                        if (!aguardada) {
+                            // Sem cópia: quem se juntou no último instante refaz a requisição
+                            publicar(publicado, response.statusCode(), null);
+                            lido = lerCorpo(leitor, response.statusCode(), corpo, endpoint);
+                        } else {
+                            // Guarda uma cópia dos bytes à medida que o leitor consome o stream
+                            CopiaInputStream copia = new CopiaInputStream(corpo);
+                            lido = lerCorpo(leitor, response.statusCode(), copia, endpoint);
+                            publicar(publicado, response.statusCode(), copia.concluir());
+                        }
+                        if (cache != null) {
+                            atualizarValidadores(cache, token, endpoint, validadores, response);
+                        }
+                        return lido;
+                    } catch (IOException ioe) {
+                        throw new CompletionException(ioe);
+                    } finally {
+                        transport.registrarFim(request.uri(), response.version());
+                    }
+                }, transport.getExecutorLeitura());
+        if (publicado != null) {
+            // Erro do leitor: as chamadas agrupadas recebem a mesma falha
+            resultado.whenComplete((lido, e) -> {
+                if (e != null) {
+                    publicado.completeExceptionally(e);
+                }
+            });
+        }
+        return resultado;
+    }
+
+    /**
+     * Registra no cache o resultado de um GET em streaming já lido pelo leitor
+     */
+    private static void atualizarValidadores(HttpCache cache, String token, String endpoint,
+                                             HttpCache.Entrada validadores, HttpResponse<?> response) {
+        if (response.statusCode() == 304 && validadores != null) {
+            cache.revalidada(validadores, response.headers());
+        } else if (response.statusCode() == 200) {
+            cache.registrarFalta();
+            cache.armazenarValidadores(token, endpoint, response.headers());
+        }
+    }
+
+    private static void publicar(CompletableFuture<CorpoLido> publicado, int statusCode, byte[] corpo) {
+        if (publicado != null) {
+            publicado.complete(new CorpoLido(statusCode, corpo));
+        }
+    }
+
+    /**
+     * Status e corpo de uma resposta lida em streaming, repassados às
+     * chamadas agrupadas à mesma requisição (corpo null = não copiado, a
+     * chamada deve fazer a própria requisição)
+     */
+    private static class CorpoLido {
+        final int statusCode;
+        final byte[] corpo;
+
+        CorpoLido(int statusCode, byte[] corpo) {
+            this.statusCode = statusCode;
+            this.corpo = corpo;
+        }
+    }
+
+    private <T> T lerCorpo(LeitorStream<T> leitor, int statusCode, InputStream corpo, String endpoint) {
+        try {
+            return leitor.ler(statusCode, corpo);
+        } catch (IOException e) {
+            Log.erro("❌ Erro ao ler resposta de " + endpoint + ": " + e.getMessage());
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Consumidor do corpo de uma resposta lida em streaming
+     */
+    @FunctionalInterface
+    public interface LeitorStream<T> {
+        /**
+         * @param statusCode Status HTTP (-1 em falha de conexão)
+         * @param corpo Corpo da resposta (fechado automaticamente após a leitura)
+         */
+        T ler(int statusCode, InputStream corpo) throws IOException;
+    }
+
+    /**
+     * Stream que copia os bytes lidos, para repassar às chamadas agrupadas o
+     * corpo que está sendo consumido pelo leitor
+     */
+    private static class CopiaInputStream extends FilterInputStream {
+        private final ByteArrayOutputStream copia = new ByteArrayOutputStream(8192);
+
+        CopiaInputStream(InputStream origem) {
+            super(origem);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                copia.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int inicio, int tamanho) throws IOException {
+            int lidos = super.read(buffer, inicio, tamanho);
+            if (lidos > 0) {
+                copia.write(buffer, inicio, lidos);
+            }
+            return lidos;
+        }
+
+        /**
+         * Lê o restante do corpo (o leitor pode parar antes do fim) e devolve a cópia
+         */
+        byte[] concluir() throws IOException {
+            transferTo(OutputStream.nullOutputStream());
+            return copia.toByteArray();
+        }
+    }
+
+    /**
+     * Monta um GET, condicional se houver resposta armazenada para revalidar
+     */
+    private HttpRequest requisicaoGet(String endpoint, String token, HttpCache.Entrada emCache) {
+        HttpRequest.Builder builder = novaRequisicao("GET", endpoint, null, token);
+        if (emCache != null) {
+            if (emCache.etag != null) {
+                builder.header("If-None-Match", emCache.etag);
+            }
+            if (emCache.lastModified != null) {
+                builder.header("If-Modified-Since", emCache.lastModified);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Monta a requisição HTTP com os cabeçalhos padrão da API
+     * @param metodo Verbo HTTP (GET, POST, PUT, DELETE)
+     * @param endpoint Endpoint da API (sem a barra inicial)
+     * @param corpo Corpo em JSON (apenas POST/PUT), null para requisições sem corpo
+     * @param token Token JWT (null para requisições sem autenticação)
+     */
+    private HttpRequest construirRequisicao(String metodo, String endpoint, HttpRequest.BodyPublisher corpo, String token) {
+        return novaRequisicao(metodo, endpoint, corpo, token).build();
+    }
+
+    private HttpRequest.Builder novaRequisicao(String metodo, String endpoint, HttpRequest.BodyPublisher corpo, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + endpoint))
+                .header("Accept", "application/json")
+                .timeout(transport.getPoliticaTimeout().timeoutPara(metodo, endpoint));
+
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+
+        CompressaoHttp compressao = transport.getCompressao();
+        if (compressao != null) {
+            builder.header("Accept-Encoding", compressao.getAcceptEncoding());
+        }
+
+        if (corpo != null) {
+            builder.header("Content-Type", "application/json")
+                   .method(metodo, corpo);
+        } else {
+            builder.method(metodo, HttpRequest.BodyPublishers.noBody());
+        }
+
+        return builder;
+    }
+
+    private static HttpRequest.BodyPublisher corpoJson(String jsonBody) {
+        return jsonBody != null ? HttpRequest.BodyPublishers.ofString(jsonBody) : null;
+    }
+
+    /**
+     * Envia a requisição sem bloquear a thread chamadora.
+     * Falhas de rede são convertidas em ApiResponse com status -1 (mesmo
+     * contrato dos métodos síncronos), portanto o futuro nunca completa com erro.
+     */
+    private CompletableFuture<ApiResponse> enviarAsync(String metodo, String endpoint, HttpRequest.BodyPublisher corpo,
+                                                       String token, Prazo prazo) {
+        try {
+            HttpRequest request = construirRequisicao(metodo, endpoint, corpo, token);
+            return enviarComRetry(request, HttpResponse.BodyHandlers.ofByteArray(), false, prazo)
+                    .thenApply(response -> {
+                        // Escritas bem-sucedidas podem ter alterado as listagens em cache
+                        HttpCache cache = transport.getCache();
+                        if (cache != null && response.statusCode() >= 200 && response.statusCode() < 300) {
+                            cache.exigirRevalidacao(token);
+                        }
+                        return new ApiResponse(response.statusCode(), texto(lerBytes(response)));
+                    })
+                    .exceptionally(e -> tratarFalha(metodo, endpoint, e));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(tratarFalha(metodo, endpoint, e));
+        }
+    }
+
+    /**
+     * GET assíncrono agrupado com um GET idêntico (mesmo token e endpoint) que
+     * já esteja em andamento, quando o agrupamento está habilitado
+     */
+    private CompletableFuture<ApiResponse> compartilharGet(String endpoint, String token, Prazo prazo) {
+        RequisicoesCompartilhadas compartilhadas = transport.getRequisicoesCompartilhadas();
+        if (compartilhadas == null) {
+            return enviarGetAsync(endpoint, token, prazo);
+        }
+        return compartilhadas.executar(RequisicoesCompartilhadas.chave(token, endpoint),
+            () -> enviarGetAsync(endpoint, token, prazo));
+    }
+
+    /**
+     * GET assíncrono passando pelo cache HTTP: serve respostas ainda frescas
+     * sem acessar a rede e revalida as demais com uma requisição condicional
+     */
+    private CompletableFuture<ApiResponse> enviarGetAsync(String endpoint, String token, Prazo prazo) {
+        HttpCache cache = transport.getCache();
+        if (cache == null) {
+            return enviarAsync("GET", endpoint, null, token, prazo);
+        }
+
+        HttpCache.Entrada emCache = cache.obter(token, endpoint);
+        if (emCache != null && emCache.isFresca()) {
+            cache.registrarAcerto();
+            return CompletableFuture.completedFuture(new ApiResponse(200, texto(emCache.corpo)));
+        }
+
         try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL + endpoint))
-                    .header("Content-Type", "application/json")
-                    .header("Accept", "application/json")
-                    .header("Authorization", "Bearer " + token)
-                    .timeout(Duration.ofSeconds(30))
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            return new ApiResponse(response.statusCode(), response.body());
+            HttpRequest request = requisicaoGet(endpoint, token, emCache);
+            return enviarComRetry(request, HttpResponse.BodyHandlers.ofByteArray(), false, prazo)
+                    .thenApply(response -> {
+                        if (response.statusCode() == 304 && emCache != null) {
+                            cache.revalidada(emCache, response.headers());
+                            return new ApiResponse(200, texto(emCache.corpo));
+                        }
+                        cache.registrarFalta();
+                        byte[] corpo = lerBytes(response);
+                        if (response.statusCode() == 200) {
+                            cache.armazenar(token, endpoint, response.headers(), corpo);
+                        }
+                        return new ApiResponse(response.statusCode(), texto(corpo));
+                    })
+                    .exceptionally(e -> tratarFalha("GET", endpoint, e));
         } catch (Exception e) {
-            System.err.println("Erro na requisição POST com autenticação para " + endpoint + ": " + e.getMessage());
-            return new ApiResponse(-1, null);
+            return CompletableFuture.completedFuture(tratarFalha("GET", endpoint, e));
+        }
+    }
+
+    /**
+     * Corpo da resposta já descompactado conforme o Content-Encoding
+     */
+    private byte[] lerBytes(HttpResponse<byte[]> response) {
+        CompressaoHttp compressao = transport.getCompressao();
+        // 204/304 não têm corpo, mesmo que o servidor repita o Content-Encoding
+        if (compressao == null || response.statusCode() == 204 || response.statusCode() == 304) {
+            return response.body();
+        }
+        try {
+            return compressao.decodificar(response.headers().firstValue("Content-Encoding").orElse(null), response.body());
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Stream do corpo da resposta, descompactado conforme o Content-Encoding
+     */
+    private InputStream abrirCorpo(HttpResponse<InputStream> response) throws IOException {
+        CompressaoHttp compressao = transport.getCompressao();
+        // 204/304 não têm corpo, mesmo que o servidor repita o Content-Encoding
+        if (compressao == null || response.statusCode() == 204 || response.statusCode() == 304) {
+            return response.body();
+        }
+        try {
+            return compressao.decodificar(response.headers().firstValue("Content-Encoding").orElse(null), response.body());
+        } catch (IOException e) {
+            response.body().close();
+            throw e;
         }
     }
 
+    private static String texto(byte[] corpo) {
+        return new String(corpo, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Envia a requisição aplicando a {@link PoliticaRetry} do transporte:
+     * falhas transitórias de verbos idempotentes são repetidas após o backoff.
+     * @param corpoEmStream true se o chamador lê o corpo em streaming e libera
+     *                      a conexão (registrarFim) ao terminar a leitura
+     * @param prazo Prazo da operação composta (null se não houver)
+     */
+    private <B> CompletableFuture<HttpResponse<B>> enviarComRetry(
+            HttpRequest request, HttpResponse.BodyHandler<B> handler, boolean corpoEmStream, Prazo prazo) {
+        PoliticaRetry politica = transport.getPoliticaRetry();
+        if (politica != null) {
+            politica.registrarRequisicao();
+        }
+        return tentar(request, handler, corpoEmStream, politica, prazo, 1);
+    }
+
+    private <B> CompletableFuture<HttpResponse<B>> tentar(HttpRequest original, HttpResponse.BodyHandler<B> handler,
+            boolean corpoEmStream, PoliticaRetry politica, Prazo prazo, int tentativa) {
+        // Prazo da operação: o timeout desta tentativa não passa do tempo restante.
+        // Verificado antes do circuit breaker, que pode liberar esta requisição
+        // como a única de teste do circuito meio-aberto
+        HttpRequest request;
+        if (prazo != null) {
+            if (prazo.isEsgotado()) {
+                return CompletableFuture.failedFuture(new HttpTimeoutException("Prazo da operação esgotado"));
+            }
+            Duration timeout = original.timeout().orElse(Duration.ofSeconds(30));
+            request = HttpRequest.newBuilder(original, (nome, valor) -> true).timeout(prazo.limitar(timeout)).build();
+        } else {
+            request = original;
+        }
+
+        // Circuito aberto: falha imediata, sem esperar pela rede
+        DisjuntorApi disjuntor = transport.getDisjuntor();
+        String grupo = grupoDe(original.uri());
+        if (disjuntor != null && !disjuntor.permitir(grupo)) {
+            return CompletableFuture.failedFuture(new CircuitoAbertoException(grupo));
+        }
+
+        transport.registrarInicio(request.uri());
+        CompletableFuture<HttpResponse<B>> envio;
+        try {
+            envio = client.sendAsync(request, handler);
+        } catch (RuntimeException e) {
+            // Requisição não enviada: não diz nada sobre a API, mas libera a
+            // requisição de teste do circuito (se era ela)
+            if (disjuntor != null) {
+                disjuntor.desistir(grupo);
+            }
+            transport.registrarFim(request.uri(), null);
+            return CompletableFuture.failedFuture(e);
+        }
+        return envio
+                .handle((response, e) -> {
+                    Throwable causa = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (disjuntor != null) {
+                        if (causa != null || isIndisponivel(response.statusCode())) {
+                            disjuntor.registrarFalha(grupo);
+                        } else {
+                            disjuntor.registrarSucesso(grupo);
+                        }
+                    }
+                    boolean transitoria = causa != null
+                        ? PoliticaRetry.isFalhaTransitoria(causa)
+                        : PoliticaRetry.isStatusTransitorio(response.statusCode());
+                    long atraso = politica != null && transitoria
+                        ? politica.proximoAtraso(request.method(), tentativa, response != null ? response.headers() : null)
+                        : -1;
+                    if (atraso >= 0 && prazo != null && atraso >= prazo.restanteMillis()) {
+                        // Não há tempo para outra tentativa dentro do prazo
+                        atraso = -1;
+                    }
+
+                    if (atraso < 0) {
+                        if (causa != null || !corpoEmStream) {
+                            transport.registrarFim(request.uri(), response != null ? response.version() : null);
+                        }
+                        if (causa != null) {
+                            return CompletableFuture.<HttpResponse<B>>failedFuture(causa);
+                        }
+                        if (tentativa > 1 && !transitoria) {
+                            politica.registrarRecuperada();
+                        }
+                        return CompletableFuture.completedFuture(response);
+                    }
+
+                    descartarCorpo(response);
+                    transport.registrarFim(request.uri(), response != null ? response.version() : null);
+                    Log.aviso("⚠ " + request.method() + " " + request.uri().getPath() + " falhou ("
+                        + (causa != null ? causa.getClass().getSimpleName() : "status " + response.statusCode())
+                        + "), nova tentativa em " + atraso + " ms");
+                    Executor aposAtraso = CompletableFuture.delayedExecutor(atraso, TimeUnit.MILLISECONDS, transport.getExecutor());
+                    return CompletableFuture.supplyAsync(() -> null, aposAtraso)
+                        .thenCompose(ignorado -> tentar(original, handler, corpoEmStream, politica, prazo, tentativa + 1));
+                })
+                .thenCompose(resultado -> resultado);
+    }
+
+    /**
+     * Status que indicam API indisponível (contam como falha no circuit breaker)
+     */
+    private static boolean isIndisponivel(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    /**
+     * Grupo de endpoints do circuit breaker: primeiro segmento do endpoint
+     * (ex: "Chamado" para Chamado/ListarChamados)
+     */
+    private String grupoDe(URI uri) {
+        String caminho = uri.getPath();
+        if (caminho.startsWith(caminhoBase)) {
+            caminho = caminho.substring(caminhoBase.length());
+        }
+        int barra = caminho.indexOf('/');
+        return barra > 0 ? caminho.substring(0, barra) : caminho;
+    }
+
+    /**
+     * Fecha o corpo em streaming de uma resposta descartada (libera a conexão)
+     */
+    private static void descartarCorpo(HttpResponse<?> response) {
+        if (response != null && response.body() instanceof InputStream) {
+            try {
+                ((InputStream) response.body()).close();
+            } catch (IOException e) {
+                // Conexão já encerrada
+            }
+        }
+    }
+
+    /**
+     * Registra a falha da requisição e devolve a resposta de erro padrão (-1)
+     */
+    private ApiResponse tratarFalha(String metodo, String endpoint, Throwable erro) {
+        Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+
+        if (causa instanceof CircuitoAbertoException) {
+            Log.erro("❌ " + causa.getMessage() + ": " + metodo + " " + endpoint + " não enviado");
+        } else if (causa instanceof java.net.ConnectException) {
+            Log.erro("❌ ERRO DE CONEXÃO: Não foi possível conectar ao servidor");
+            Log.erro("   URL tentada: " + BASE_URL + endpoint);
+            Log.erro("   Verifique se a API está rodando");
+            Log.erro("   Detalhes: " + causa.getMessage());
+        } else if (causa instanceof java.net.http.HttpTimeoutException) {
+            Log.erro("❌ TIMEOUT: A requisição demorou muito tempo");
+            Log.erro("   URL: " + BASE_URL + endpoint);
+            Log.erro("   Detalhes: " + causa.getMessage());
+        } else {
+            Log.erro("❌ ERRO NA REQUISIÇÃO " + metodo);
+            Log.erro("   Endpoint: " + endpoint);
+            Log.erro("   Tipo: " + causa.getClass().getName());
+            Log.erro("   Mensagem: " + causa.getMessage());
+        }
+        return new ApiResponse(-1, null, causa);
+    }
+
     /**
      * Classe interna para representar a resposta da API
      */
     public static class ApiResponse {
         private final int statusCode;
         private final String body;
+        private final Throwable falha;
 
         public ApiResponse(int statusCode, String body) {
+            this(statusCode, body, null);
+        }
+
+        /**
+         * @param falha Causa de uma resposta -1 (falha de conexão, timeout,
+         *              circuito aberto), null se houve resposta da API
+         */
+        public ApiResponse(int statusCode, String body, Throwable falha) {
             this.statusCode = statusCode;
             this.body = body;
+            this.falha = falha;
         }
 
         public int getStatusCode() {
@@ -271,5 +841,19 @@ public class ApiService {
         public boolean isSuccess() {
             return statusCode >= 200 && statusCode < 300;
         }
+
+        /**
+         * Causa da falha quando não houve resposta da API (status -1), ou null
+         */
+        public Throwable getFalha() {
+            return falha;
+        }
+
+        /**
+         * true se a requisição não teve resposta dentro do timeout/prazo
+         */
+        public boolean isTimeout() {
+            return falha instanceof HttpTimeoutException;
+        }
     }
 }
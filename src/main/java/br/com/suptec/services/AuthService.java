@@ -6,6 +6,7 @@ import br.com.suptec.models.api.LoginRequest;
 import br.com.suptec.models.api.LoginResponse;
 import br.com.suptec.services.ApiService.ApiResponse;
 import br.com.suptec.utils.JsonUtils;
+import br.com.suptec.utils.Log;
 
 /**
  * Serviço responsável pela autenticação de usuários
@@ -21,7 +22,7 @@ public class AuthService {
     private String nomeUsuarioLogado;
 
     private AuthService() {
-        this.apiService = new ApiService();
+        this.apiService = new ApiService(HttpTransport.getInstance());
     }
     
     public static AuthService getInstance() {
@@ -44,70 +45,70 @@ public class AuthService {
             String jsonRequest = JsonUtils.toJson(loginRequest);
             
             if (jsonRequest == null) {
-                System.err.println("❌ ERRO: Falha ao serializar requisição de login");
+                Log.erro("❌ ERRO: Falha ao serializar requisição de login");
                 return false;
             }
 
-            System.out.println("\n========================================");
-            System.out.println("🔐 INICIANDO LOGIN DE GERENTE");
-            System.out.println("========================================");
-            System.out.println("📧 Email: " + email);
-            System.out.println("📝 JSON Request: " + jsonRequest);
-            System.out.println("🌐 Endpoint: AuthDesktop/LoginDesktop");
+            Log.debug("\n========================================");
+            Log.debug("🔐 INICIANDO LOGIN DE GERENTE");
+            Log.debug("========================================");
+            Log.debug(() -> "📧 Email: " + email);
+            Log.debug(() -> "📝 JSON Request: " + jsonRequest);
+            Log.debug("🌐 Endpoint: AuthDesktop/LoginDesktop");
 
             // Fazer chamada para API específica de desktop (só gerentes)
             ApiResponse response = apiService.post("AuthDesktop/LoginDesktop", jsonRequest);
             
-            System.out.println("\n📡 RESPOSTA DA API:");
-            System.out.println("Status Code: " + response.getStatusCode());
-            System.out.println("Body: " + (response.getBody() != null ? response.getBody() : "null"));
-            System.out.println("========================================\n");
+            Log.debug("\n📡 RESPOSTA DA API:");
+            Log.debug(() -> "Status Code: " + response.getStatusCode());
+            Log.debug(() -> "Body: " + (response.getBody() != null ? response.getBody() : "null"));
+            Log.debug("========================================\n");
             
             // Verificar erro de conexão
             if (response.getStatusCode() == -1) {
-                System.err.println("❌ ERRO DE CONEXÃO: Não foi possível conectar à API");
-                System.err.println("   Verifique se a API está rodando em http://localhost:5165");
+                Log.erro("❌ ERRO DE CONEXÃO: Não foi possível conectar à API");
+                Log.erro("   Verifique se a API está rodando em http://localhost:5165");
                 return false;
             }
 
             // Verificar se foi bem-sucedido
             if (!response.isSuccess()) {
-                System.err.println("❌ LOGIN FALHOU - Status: " + response.getStatusCode());
+                Log.erro("❌ LOGIN FALHOU - Status: " + response.getStatusCode());
                 
                 if (response.getStatusCode() == 401) {
-                    System.err.println("   Motivo: Credenciais inválidas ou usuário não é gerente");
+                    Log.erro("   Motivo: Credenciais inválidas ou usuário não é gerente");
                 } else if (response.getStatusCode() == 404) {
-                    System.err.println("   Motivo: Endpoint não encontrado ou usuário não cadastrado como gerente");
+                    Log.erro("   Motivo: Endpoint não encontrado ou usuário não cadastrado como gerente");
                 } else if (response.getStatusCode() == 400) {
-                    System.err.println("   Motivo: Requisição inválida - verifique formato dos dados");
+                    Log.erro("   Motivo: Requisição inválida - verifique formato dos dados");
                 } else if (response.getStatusCode() == 500) {
-                    System.err.println("   Motivo: Erro interno no servidor da API");
+                    Log.erro("   Motivo: Erro interno no servidor da API");
                 }
                 
                 if (response.getBody() != null && !response.getBody().isEmpty()) {
-                    System.err.println("   Resposta da API: " + response.getBody());
+                    Log.erro("   Resposta da API: " + response.getBody());
                 }
                 return false;
             }
 
             // Processar resposta
             if (response.getBody() == null || response.getBody().trim().isEmpty()) {
-                System.err.println("❌ ERRO: Resposta da API está vazia");
+                Log.erro("❌ ERRO: Resposta da API está vazia");
                 return false;
             }
 
-            System.out.println("🔍 Parseando resposta JSON...");
+            Log.debug("🔍 Parseando resposta JSON...");
             LoginResponse loginResponse = JsonUtils.fromJson(response.getBody(), LoginResponse.class);
             
             if (loginResponse == null) {
-                System.err.println("❌ ERRO: Falha ao parsear resposta JSON");
-                System.err.println("   JSON recebido: " + response.getBody());
+                Log.erro("❌ ERRO: Falha ao parsear resposta JSON");
+                Log.erro("   JSON recebido: " + response.getBody());
                 return false;
             }
             
             if (!loginResponse.isSuccess()) {
-                System.err.println("❌ ERRO: Token não encontrado na resposta");
-                System.err.println("   LoginResponse.token = " + loginResponse.getToken());
+                Log.erro("❌ ERRO: Token não encontrado na resposta");
+                Log.erro("   LoginResponse.token = " + loginResponse.getToken());
                 return false;
             }
 
@@ -116,19 +117,18 @@ public class AuthService {
             this.emailUsuarioLogado = email;
             this.nomeUsuarioLogado = extrairNomeDoToken(loginResponse.getToken());
             
-            System.out.println("✅ LOGIN REALIZADO COM SUCESSO!");
-            System.out.println("✅ Usuário: " + this.nomeUsuarioLogado);
-            System.out.println("✅ Token: " + this.tokenAtual.substring(0, Math.min(30, this.tokenAtual.length())) + "...");
-            System.out.println("✅ Acesso desktop autorizado");
-            System.out.println("========================================\n");
+            Log.info("✅ LOGIN REALIZADO COM SUCESSO!");
+            Log.info("✅ Usuário: " + this.nomeUsuarioLogado);
+            Log.debug(() -> "✅ Token: " + this.tokenAtual.substring(0, Math.min(30, this.tokenAtual.length())) + "...");
+            Log.info("✅ Acesso desktop autorizado");
+            Log.info("========================================\n");
             
             return true;
 
         } catch (Exception e) {
-            System.err.println("❌ EXCEÇÃO DURANTE LOGIN:");
-            System.err.println("   Mensagem: " + e.getMessage());
-            System.err.println("   Classe: " + e.getClass().getName());
-            e.printStackTrace();
+            Log.erro("❌ EXCEÇÃO DURANTE LOGIN:");
+            Log.erro("   Mensagem: " + e.getMessage());
+            Log.erro("   Classe: " + e.getClass().getName(), e);
             return false;
         }
     }
@@ -180,7 +180,7 @@ public class AuthService {
 
             return "Usuário";
         } catch (Exception e) {
-            System.err.println("Erro ao extrair nome do token: " + e.getMessage());
+            Log.erro("Erro ao extrair nome do token: " + e.getMessage());
             if (emailUsuarioLogado != null) {
                 String nome = emailUsuarioLogado.split("@")[0];
                 return nome.substring(0, 1).toUpperCase() + nome.substring(1);
@@ -215,6 +215,10 @@ public class AuthService {
      */
     public void logout() {
         this.tokenAtual = null;
+        HttpCache cache = HttpTransport.getInstance().getCache();
+        if (cache != null) {
+            cache.limpar();
+        }
         this.emailUsuarioLogado = null;
         this.nomeUsuarioLogado = null;
     }
@@ -0,0 +1,91 @@
+package br.com.suptec.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import br.com.suptec.utils.TextoUtils;
+
+/**
+ * Refinamento incremental das buscas "ao digitar".
+ *
+ * Guarda o último termo pesquisado e os registros encontrados. Quando o novo
+ * termo contém o anterior (ex: "impr" → "impre") e os dados não mudaram
+ * desde então, todo registro que casa com o novo termo também casava com o
+ * anterior: basta filtrar os resultados anteriores, em vez de percorrer
+ * todos os dados. Nos demais casos (termo apagado ou trocado, dados
+ * alterados) é feita a busca completa.
+ *
+ * A ordem dos resultados é a mesma da busca completa (o filtro a preserva).
+ *
+ * @param <T> Tipo dos registros pesquisados
+ */
+class BuscaIncremental<T> {
+
+    private final Function<T, String> chaveBusca;
+
+    private long geracao;
+    private String ultimoTermo;
+    private List<T> ultimosResultados;
+
+    private long completas;
+    private long refinadas;
+
+    /**
+     * @param chaveBusca Chave de busca do registro (campos normalizados com
+     *                   {@link TextoUtils#chaveBusca(String...)})
+     */
+    BuscaIncremental(Function<T, String> chaveBusca) {
+        this.chaveBusca = chaveBusca;
+    }
+
+    /**
+     * Busca o termo, refinando o resultado anterior quando possível
+     * @param geracaoDados Versão dos dados pesquisados (deve mudar a cada alteração)
+     * @param termo Termo já normalizado com {@link TextoUtils#normalizar(String)}
+     * @param buscaCompleta Busca em todos os dados (chamada apenas quando não
+     *                      for possível refinar)
+     * @return Registros encontrados (lista não modificável)
+     */
+    synchronized List<T> buscar(long geracaoDados, String termo, Function<String, List<T>> buscaCompleta) {
+        List<T> resultados;
+        if (podeRefinar(geracaoDados, termo)) {
+            resultados = new ArrayList<>();
+            for (T registro : ultimosResultados) {
+                if (chaveBusca.apply(registro).contains(termo)) {
+                    resultados.add(registro);
+                }
+            }
+            refinadas++;
+        } else {
+            resultados = buscaCompleta.apply(termo);
+            completas++;
+        }
+        geracao = geracaoDados;
+        ultimoTermo = termo;
+        ultimosResultados = Collections.unmodifiableList(resultados);
+        return ultimosResultados;
+    }
+
+    private boolean podeRefinar(long geracaoDados, String termo) {
+        return ultimosResultados != null
+            && geracaoDados == geracao
+            && termo.contains(ultimoTermo)
+            // A chave tem os campos separados: o termo não pode atravessá-los
+            && termo.indexOf(TextoUtils.SEPARADOR) < 0;
+    }
+
+    /**
+     * Esquece a última busca (a próxima será completa)
+     */
+    synchronized void limpar() {
+        ultimoTermo = null;
+        ultimosResultados = null;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("BuscaIncremental[completas=%d, refinadas=%d]", completas, refinadas);
+    }
+}
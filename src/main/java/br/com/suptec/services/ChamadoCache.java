@@ -0,0 +1,308 @@
+package br.com.suptec.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.suptec.models.Chamado;
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.Log;
+import br.com.suptec.utils.TextoUtils;
+
+/**
+ * Repositório em memória dos chamados baixados da API.
+ *
+ * Mantém a última listagem completa (indexada por chamadoID) com um tempo de
+ * validade (TTL). Buscas e filtros trabalham sobre esta cópia local; apenas
+ * recargas explícitas ou o vencimento do TTL voltam a consultar a rede.
+ *
+ * Os dados pertencem ao token que os carregou: ao trocar de usuário o cache é
+ * considerado inválido.
+ *
+ * A busca textual usa um índice invertido ({@link IndiceChamados}) mantido
+ * junto com a listagem: remontado após uma carga completa (em segundo plano,
+ * por {@link #prepararIndice()}, ou na primeira busca) e atualizado
+ * incrementalmente a cada mesclagem, edição ou exclusão.
+ *
+ * Também guarda a marca de sincronização (high-water mark) usada para pedir à
+ * API apenas as alterações posteriores à última leitura. A marca só existe
+ * quando informada pelo servidor: sem ela a próxima listagem é completa (uma
+ * marca deduzida dos dados, como a maior dataAbertura, não revela edições
+ * nem exclusões).
+ */
+public class ChamadoCache {
+
+    private final long ttlMillis;
+    private final Map<String, Chamado> porId = new LinkedHashMap<>();
+    private long carregadoEm;
+    private String tokenDono;
+    private boolean carregado;
+    private String marca;
+    private long ultimaCargaCompleta;
+    private IndiceChamados indice = new IndiceChamados();
+    private boolean indiceDesatualizado = true;
+    // Incrementada a cada alteração (descarta índices montados sobre dados antigos
+    // e impede que uma busca seja refinada a partir de resultados desatualizados)
+    private long versao;
+    private final BuscaIncremental<Chamado> ultimaBusca = new BuscaIncremental<>(Chamado::getChaveBusca);
+
+    /**
+     * @param ttlSegundos Validade da listagem em segundos (0 desativa o cache)
+     */
+    public ChamadoCache(long ttlSegundos) {
+        this.ttlMillis = ttlSegundos * 1000L;
+    }
+
+    /**
+     * Verifica se a listagem em memória ainda pode ser usada pelo token informado
+     */
+    public synchronized boolean isValido(String token) {
+        return carregado
+            && ttlMillis > 0
+            && token != null && token.equals(tokenDono)
+            && System.currentTimeMillis() - carregadoEm < ttlMillis;
+    }
+
+    /**
+     * Substitui todo o conteúdo pela listagem recém-baixada
+     * @param marcaServidor Marca de sincronização enviada pela API (null se não houver)
+     */
+    public synchronized void substituir(List<Chamado> chamados, String token, String marcaServidor) {
+        porId.clear();
+        for (Chamado chamado : chamados) {
+            if (chamado.getChamadoID() != null) {
+                porId.put(chamado.getChamadoID(), chamado);
+            }
+        }
+        carregadoEm = System.currentTimeMillis();
+        ultimaCargaCompleta = carregadoEm;
+        tokenDono = token;
+        carregado = true;
+        indice.limpar();
+        indiceDesatualizado = true;
+        versao++;
+        marca = marcaServidor;
+    }
+
+    /**
+     * Carrega uma cópia lida do disco ({@link ChamadoSnapshot}) se ainda não
+     * houver listagem em memória para o token. A cópia já nasce vencida: a
+     * próxima listagem consulta a API (de forma incremental, se houver marca
+     * gravada), mas até lá ela pode ser exibida.
+     * @return false se já havia uma listagem do token em memória
+     */
+    public synchronized boolean restaurar(List<Chamado> chamados, String token, String marcaGravada,
+                                          long cargaCompletaEm) {
+        if (carregado && token != null && token.equals(tokenDono)) {
+            return false;
+        }
+        porId.clear();
+        for (Chamado chamado : chamados) {
+            if (chamado.getChamadoID() != null) {
+                porId.put(chamado.getChamadoID(), chamado);
+            }
+        }
+        carregadoEm = 0;
+        ultimaCargaCompleta = cargaCompletaEm;
+        tokenDono = token;
+        carregado = true;
+        indice.limpar();
+        indiceDesatualizado = true;
+        versao++;
+        marca = marcaGravada;
+        return true;
+    }
+
+    /**
+     * Verifica se há chamados em memória pertencentes ao token, mesmo que
+     * vencidos (usados quando a API está indisponível)
+     */
+    public synchronized boolean possuiDados(String token) {
+        return carregado && token != null && token.equals(tokenDono);
+    }
+
+    /**
+     * Aplica uma listagem incremental: chamados novos ou alterados substituem
+     * os existentes (mantendo a posição) e os excluídos são removidos
+     * @param marcaServidor Nova marca de sincronização enviada pela API (null se não houver)
+     * @return false se o cache não pertence mais ao token (a listagem deve ser completa)
+     */
+    public synchronized boolean mesclar(List<Chamado> alterados, Collection<String> excluidos,
+                                        String token, String marcaServidor) {
+        if (!carregado || token == null || !token.equals(tokenDono)) {
+            return false;
+        }
+        for (Chamado chamado : alterados) {
+            if (chamado.getChamadoID() != null) {
+                porId.put(chamado.getChamadoID(), chamado);
+                if (!indiceDesatualizado) {
+                    indice.atualizar(chamado);
+                }
+            }
+        }
+        for (String id : excluidos) {
+            porId.remove(id);
+            if (!indiceDesatualizado) {
+                indice.remover(id);
+            }
+        }
+        carregadoEm = System.currentTimeMillis();
+        marca = marcaServidor;
+        versao++;
+        return true;
+    }
+
+    /**
+     * Renova a validade da listagem quando a API confirma que a listagem
+     * completa não mudou (304 Not Modified)
+     * @return false se o cache não pertence mais ao token (a listagem deve ser completa)
+     */
+    public synchronized boolean renovar(String token) {
+        if (!possuiDados(token)) {
+            return false;
+        }
+        carregadoEm = System.currentTimeMillis();
+        ultimaCargaCompleta = carregadoEm;
+        return true;
+    }
+
+    /**
+     * Marca a partir da qual a próxima listagem pode ser incremental
+     * @param intervaloCompletaMillis Tempo máximo desde a última listagem completa
+     * @return A marca, ou null se a próxima listagem deve ser completa
+     */
+    public synchronized String getMarcaSincronizacao(String token, long intervaloCompletaMillis) {
+        if (!carregado || marca == null || token == null || !token.equals(tokenDono)) {
+            return null;
+        }
+        if (System.currentTimeMillis() - ultimaCargaCompleta >= intervaloCompletaMillis) {
+            return null;
+        }
+        return marca;
+    }
+
+    public synchronized String getMarca() {
+        return marca;
+    }
+
+    public synchronized long getUltimaCargaCompleta() {
+        return ultimaCargaCompleta;
+    }
+
+    /**
+     * Retorna uma cópia da lista de chamados em memória (na ordem da API)
+     */
+    public synchronized List<Chamado> listar() {
+        return new ArrayList<>(porId.values());
+    }
+
+    /**
+     * Verifica se o chamado está na listagem em memória
+     */
+    public synchronized boolean contem(String chamadoID) {
+        return porId.containsKey(chamadoID);
+    }
+
+    /**
+     * Remove um chamado excluído
+     */
+    public synchronized void remover(String chamadoID) {
+        porId.remove(chamadoID);
+        if (!indiceDesatualizado) {
+            indice.remover(chamadoID);
+        }
+        versao++;
+    }
+
+    /**
+     * Monta o índice de busca fora do lock do cache, para que a carga de uma
+     * listagem grande não bloqueie as demais operações nem a primeira busca.
+     * Executar em segundo plano; se a listagem mudar durante a montagem o
+     * resultado é descartado (a busca remonta o índice quando precisar).
+     */
+    public void prepararIndice() {
+        List<Chamado> chamados;
+        long versaoInicial;
+        synchronized (this) {
+            if (!indiceDesatualizado) {
+                return;
+            }
+            chamados = new ArrayList<>(porId.values());
+            versaoInicial = versao;
+        }
+        long inicio = System.nanoTime();
+        IndiceChamados novo = new IndiceChamados();
+        novo.reconstruir(chamados);
+        synchronized (this) {
+            if (versao == versaoInicial && indiceDesatualizado) {
+                indice = novo;
+                indiceDesatualizado = false;
+                Log.debug(() -> "🔎 Índice de busca: " + novo.getTotalIndexados() + " chamados, "
+                    + novo.getTotalTrigramas() + " trigramas em " + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+            }
+        }
+    }
+
+    /**
+     * Chamados que contêm o termo em algum dos campos pesquisáveis (titulo,
+     * descricao, nome, email, setor ou prioridade), ignorando acentos e
+     * maiúsculas/minúsculas, na ordem da API. Se o termo estender o da busca
+     * anterior, apenas os resultados anteriores são filtrados.
+     * @param termo Termo de busca (não vazio)
+     */
+    public synchronized List<Chamado> buscar(String termo) {
+        return ultimaBusca.buscar(versao, TextoUtils.normalizar(termo.trim()), termoNormalizado -> {
+            if (indiceDesatualizado) {
+                long inicio = System.nanoTime();
+                indice.reconstruir(porId.values());
+                indiceDesatualizado = false;
+                Log.debug(() -> "🔎 Índice de busca: " + indice.getTotalIndexados() + " chamados, "
+                    + indice.getTotalTrigramas() + " trigramas em " + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+            }
+            return indice.buscar(termoNormalizado);
+        });
+    }
+
+    /**
+     * Aplica no chamado em memória os campos editáveis do chamado atualizado.
+     * A instância em cache é alterada no lugar e, se estiver sendo exibida,
+     * os novos valores são publicados nas células na thread de UI. Se o
+     * chamado não estiver em memória o cache é invalidado para forçar uma
+     * nova leitura.
+     */
+    public synchronized void aplicarEdicao(Chamado atualizado) {
+        Chamado emCache = porId.get(atualizado.getChamadoID());
+        if (emCache == null) {
+            invalidar();
+            return;
+        }
+        emCache.setTitulo(atualizado.getTitulo());
+        emCache.setDescricao(atualizado.getDescricao());
+        emCache.setPrioridade(atualizado.getPrioridade());
+        emCache.setStatus(atualizado.getStatus());
+        emCache.setRespostaDoTecnico(atualizado.getRespostaDoTecnico());
+        if (emCache.isExibido()) {
+            // As células visíveis só releem a propriedade quando ela muda
+            AsyncUtils.executarNaUi(emCache::atualizarExibicao);
+        }
+        if (!indiceDesatualizado) {
+            indice.atualizar(emCache);
+        }
+        versao++;
+    }
+
+    /**
+     * Descarta a listagem em memória (a próxima leitura consultará a API)
+     */
+    public synchronized void invalidar() {
+        porId.clear();
+        indice.limpar();
+        indiceDesatualizado = true;
+        versao++;
+        carregado = false;
+        tokenDono = null;
+        marca = null;
+    }
+}
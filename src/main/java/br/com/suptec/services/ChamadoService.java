@@ -1,14 +1,34 @@
 package br.com.suptec.services;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import br.com.suptec.models.Chamado;
 import br.com.suptec.services.ApiService.ApiResponse;
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.ConfigLoader;
+import br.com.suptec.utils.JsonUtils;
+import br.com.suptec.utils.Log;
+import br.com.suptec.utils.TextoUtils;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -18,11 +38,73 @@ import javafx.collections.ObservableList;
  */
 public class ChamadoService {
     
+    // Quantidade de chamados entregues por lote durante a leitura em streaming
+    private static final int TAMANHO_LOTE = 200;
+
+    private static final String ENDPOINT_LISTAGEM = "Chamado/ListarChamados";
+
     private static ChamadoService instance;
     private final ApiService apiService;
+    private final ChamadoCache cache;
+    private final boolean sincronizacaoIncremental;
+    private final long intervaloCargaCompletaMillis;
+    private final ChamadoSnapshot snapshot;
+    private final long atrasoSnapshotMillis;
+    private final String baseUrl;
+    private final Path diretorioLocal;
+    private final boolean filaOfflineAtiva;
+    private final long intervaloReenvioSegundos;
+    private final Supplier<String> tokenAtual;
+    private final Supplier<String> usuarioLogado;
+
+    // Leitura da cópia em disco (feita uma vez por login)
+    private CompletableFuture<List<Chamado>> restauracao;
+    private String tokenRestauracao;
+
+    // Fila de escritas pendentes do usuário logado (aberta sob demanda)
+    private FilaEscritas fila;
+    private String usuarioFila;
+    private final AtomicBoolean reenviando = new AtomicBoolean();
+    private final AtomicBoolean reenvioAgendado = new AtomicBoolean();
+    private final AtomicBoolean avisoSemMarca = new AtomicBoolean();
+    private volatile Consumer<FilaEscritas.Conflito> aoDetectarConflito;
 
     private ChamadoService() {
-        this.apiService = new ApiService();
+        this(new ApiService(HttpTransport.getInstance()), ConfigLoader.getInstance()::getProperty,
+            ConfigLoader.getInstance().getApiBaseUrl(), Paths.get(System.getProperty("user.home"), ".suptech"),
+            () -> AuthService.getInstance().getTokenAtual(),
+            () -> AuthService.getInstance().getEmailUsuarioLogado());
+    }
+
+    /**
+     * @param config Leitura das configurações (chave, valor padrão)
+     * @param diretorioLocal Diretório da cópia local e da fila de escritas pendentes
+     * @param tokenAtual Token do usuário logado
+     * @param usuarioLogado E-mail do usuário logado
+     */
+    ChamadoService(ApiService apiService, BinaryOperator<String> config, String baseUrl, Path diretorioLocal,
+            Supplier<String> tokenAtual, Supplier<String> usuarioLogado) {
+        this.apiService = apiService;
+        this.cache = new ChamadoCache(
+            Long.parseLong(config.apply("chamados.cache.ttl.segundos", "60")));
+        this.sincronizacaoIncremental = Boolean.parseBoolean(config.apply("chamados.sync.incremental", "false"));
+        this.intervaloCargaCompletaMillis =
+            Long.parseLong(config.apply("chamados.sync.completa.minutos", "30")) * 60_000L;
+        this.diretorioLocal = diretorioLocal;
+        this.snapshot = Boolean.parseBoolean(config.apply("chamados.snapshot.ativo", "true"))
+            ? new ChamadoSnapshot(diretorioLocal)
+            : null;
+        this.atrasoSnapshotMillis =
+            Long.parseLong(config.apply("chamados.snapshot.atraso.segundos", "5")) * 1000L;
+        this.filaOfflineAtiva = Boolean.parseBoolean(config.apply("chamados.fila.offline.ativo", "true"));
+        this.intervaloReenvioSegundos = Long.parseLong(config.apply("chamados.fila.reenvio.segundos", "30"));
+        this.baseUrl = baseUrl;
+        this.tokenAtual = tokenAtual;
+        this.usuarioLogado = usuarioLogado;
+        if (!sincronizacaoIncremental) {
+            Log.info("Sincronização incremental de chamados inativa (chamados.sync.incremental=false): "
+                + "cada atualização pede a listagem completa");
+        }
     }
     
     public static ChamadoService getInstance() {
@@ -33,74 +115,382 @@ public class ChamadoService {
     }
 
     /**
-     * Lista todos os chamados da API
+     * Lista todos os chamados (cópia local se ainda válida, senão da API)
      */
     public ObservableList<Chamado> listarChamados() {
-        ObservableList<Chamado> chamados = FXCollections.observableArrayList();
-
-        try {
-            // Obter token de autenticação
-            String token = AuthService.getInstance().getTokenAtual();
-            if (token == null || token.isEmpty()) {
-                System.err.println("Erro: Token de autenticação não encontrado. Faça login novamente.");
-                return chamados;
-            }
+        return listarChamadosAsync().join();
+    }
+
+    /**
+     * Lista todos os chamados sem bloquear a thread chamadora.
+     * Usa a cópia local enquanto o TTL do cache não vencer.
+     */
+    public CompletableFuture<ObservableList<Chamado>> listarChamadosAsync() {
+        return listarChamadosAsync(false);
+    }
+
+    /**
+     * Lista todos os chamados sem bloquear a thread chamadora
+     * @param forcarAtualizacao true para ignorar o cache e baixar novamente da API
+     */
+    public CompletableFuture<ObservableList<Chamado>> listarChamadosAsync(boolean forcarAtualizacao) {
+        return listarChamadosAsync(forcarAtualizacao, null);
+    }
+
+    /**
+     * Lista todos os chamados sem bloquear a thread chamadora.
+     * Quando a lista vem da API, o JSON é decodificado em streaming e os
+     * chamados são entregues em lotes à medida que chegam, permitindo exibir
+     * as primeiras linhas antes do fim do download.
+     *
+     * Com a sincronização incremental ativada (chamados.sync.incremental) e
+     * uma marca enviada pelo servidor na listagem anterior, a API é consultada
+     * apenas pelos chamados novos, alterados e excluídos desde essa marca e o
+     * resultado é mesclado à cópia local; nesse caso os lotes não são
+     * entregues, pois não formam a listagem completa. Sem marca a listagem é
+     * completa. Na primeira listagem após o login a cópia local é a gravada em
+     * disco na sessão anterior.
+     *
+     * A listagem completa é pedida de forma condicional (ETag/Last-Modified da
+     * última resposta) quando já há uma listagem em memória: se nada mudou, a
+     * API responde 304 e a cópia local é mantida sem trafegar a listagem.
+     *
+     * Se a API não responder, a cópia local (mesmo vencida) é retornada.
+     * @param forcarAtualizacao true para ignorar o TTL do cache e consultar a API
+     * @param aoReceberLote Callback chamado (fora da thread de UI) a cada lote decodificado; pode ser null
+     */
+    public CompletableFuture<ObservableList<Chamado>> listarChamadosAsync(
+            boolean forcarAtualizacao, Consumer<List<Chamado>> aoReceberLote) {
+        // Obter token de autenticação
+        String token = tokenAtual.get();
+        if (token == null || token.isEmpty()) {
+            Log.erro("Erro: Token de autenticação não encontrado. Faça login novamente.");
+            return CompletableFuture.completedFuture(FXCollections.observableArrayList());
+        }
+
+        if (!forcarAtualizacao && cache.isValido(token)) {
+            return CompletableFuture.completedFuture(FXCollections.observableArrayList(cache.listar()));
+        }
+
+        if (snapshot != null && !cache.possuiDados(token)) {
+            // Parte da cópia em disco (exibida se a API falhar; base da sincronização incremental)
+            return carregarCopiaLocalAsync().thenCompose(locais -> sincronizar(token, aoReceberLote));
+        }
+        return sincronizar(token, aoReceberLote);
+    }
 
-            System.out.println("Buscando chamados...");
-            System.out.println("Endpoint: Chamado/ListarChamados");
-            System.out.println("Token presente: " + (token.length() > 20 ? "Sim" : "Token muito curto"));
-
-            ApiResponse response = apiService.getWithAuth("Chamado/ListarChamados", token);
-            
-            System.out.println("📥 Status recebido: " + response.getStatusCode());
-            
-            if (response.getStatusCode() == 200 && response.getBody() != null) {
-                System.out.println("📦 Resposta completa da API:");
-                System.out.println(response.getBody());
-                System.out.println("=====================================");
-                JsonArray jsonArray = JsonParser.parseString(response.getBody()).getAsJsonArray();
-                
-                for (JsonElement element : jsonArray) {
-                    JsonObject obj = element.getAsJsonObject();
-                    Chamado chamado = parseChamado(obj);
-                    if (chamado != null) {
-                        chamados.add(chamado);
+    /**
+     * Consulta a API (listagem completa ou incremental) e atualiza a cópia local
+     */
+    private CompletableFuture<ObservableList<Chamado>> sincronizar(String token, Consumer<List<Chamado>> aoReceberLote) {
+        String marca = sincronizacaoIncremental
+            ? cache.getMarcaSincronizacao(token, intervaloCargaCompletaMillis)
+            : null;
+        boolean incremental = marca != null;
+        String endpoint = incremental
+            ? ENDPOINT_LISTAGEM + "?desde=" + URLEncoder.encode(marca, StandardCharsets.UTF_8)
+            : ENDPOINT_LISTAGEM;
+
+        Log.debug(incremental ? "Sincronizando chamados (incremental)..." : "Buscando chamados...");
+        Log.debug(() -> "Endpoint: " + endpoint);
+        Log.debug(() -> "Token presente: " + (token.length() > 20 ? "Sim" : "Token muito curto"));
+
+        Consumer<List<Chamado>> lotes = incremental ? null : aoReceberLote;
+        // Com a listagem completa em memória, a API pode responder 304 se nada mudou
+        boolean condicional = !incremental && cache.possuiDados(token);
+        return apiService.getStreamWithAuthAsync(endpoint, token, condicional,
+                    (status, corpo) -> lerListagem(status, corpo, incremental, lotes))
+                .handle((resultado, e) -> {
+                    if (e != null) {
+                        Log.erro("Erro ao buscar chamados da API: " + e.getMessage());
+                        return copiaLocalOuVazia(token);
+                    }
+                    if (resultado == null) {
+                        return copiaLocalOuVazia(token);
+                    }
+                    if (resultado == ResultadoListagem.NAO_MODIFICADA) {
+                        if (!cache.renovar(token)) {
+                            // Cache descartado durante a requisição: refazer a listagem completa
+                            return listarChamadosAsync(true, aoReceberLote);
+                        }
+                        Log.info("Listagem de chamados inalterada (304): mantida a cópia local");
+                        reenviarPendentesAsync();
+                        return CompletableFuture.completedFuture(FXCollections.observableArrayList(cache.listar()));
+                    }
+                    if (resultado.completa) {
+                        if (sincronizacaoIncremental && resultado.marca == null && avisoSemMarca.compareAndSet(false, true)) {
+                            Log.aviso("⚠ Sincronização incremental inativa: a API não enviou marca na listagem "
+                                + "de chamados, as próximas atualizações também serão completas");
+                        }
+                        cache.substituir(resultado.chamados, token, resultado.marca);
+                        prepararIndiceBusca();
+                        aplicarPendentes();
+                        salvarCopiaLocal(token);
+                        reenviarPendentesAsync();
+                        return CompletableFuture.completedFuture(FXCollections.observableArrayList(cache.listar()));
                     }
+                    if (!cache.mesclar(resultado.chamados, resultado.excluidos, token, resultado.marca)) {
+                        // Cache descartado durante a requisição: refazer a listagem completa
+                        return listarChamadosAsync(true, aoReceberLote);
+                    }
+                    Log.info("Sincronização incremental: " + resultado.chamados.size() + " novos/alterados, "
+                        + resultado.excluidos.size() + " excluídos");
+                    aplicarPendentes();
+                    salvarCopiaLocal(token);
+                    reenviarPendentesAsync();
+                    return CompletableFuture.completedFuture(FXCollections.observableArrayList(cache.listar()));
+                })
+                .thenCompose(futuro -> futuro);
+    }
+
+    /**
+     * Resultado de uma listagem que falhou: os chamados em memória, mesmo
+     * vencidos ou lidos do disco, para que continuem legíveis com a API fora do ar
+     */
+    private CompletableFuture<ObservableList<Chamado>> copiaLocalOuVazia(String token) {
+        if (!cache.possuiDados(token)) {
+            return CompletableFuture.completedFuture(FXCollections.observableArrayList());
+        }
+        List<Chamado> locais = cache.listar();
+        Log.aviso("⚠ API indisponível: exibindo a cópia local de " + locais.size() + " chamados");
+        return CompletableFuture.completedFuture(FXCollections.observableArrayList(locais));
+    }
+
+    /**
+     * Lê a cópia dos chamados gravada em disco na última sessão do usuário
+     * logado e a carrega em memória, sem consultar a API. Permite exibir a
+     * listagem imediatamente enquanto {@link #listarChamadosAsync} sincroniza
+     * com o servidor. O disco é lido uma única vez por login.
+     * @return Futuro com os chamados da cópia local (lista vazia se não houver)
+     */
+    public synchronized CompletableFuture<List<Chamado>> carregarCopiaLocalAsync() {
+        String token = tokenAtual.get();
+        if (snapshot == null || token == null || token.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        if (restauracao != null && token.equals(tokenRestauracao)) {
+            return restauracao;
+        }
+
+        String usuario = usuarioLogado.get();
+        tokenRestauracao = token;
+        restauracao = AsyncUtils.emSegundoPlano(() -> {
+            if (cache.possuiDados(token)) {
+                return cache.listar();
+            }
+            long inicio = System.nanoTime();
+            ChamadoSnapshot.Conteudo conteudo = snapshot.carregar(baseUrl, usuario);
+            if (conteudo == null) {
+                return Collections.<Chamado>emptyList();
+            }
+            if (!cache.restaurar(conteudo.chamados, token, conteudo.marca, conteudo.ultimaCargaCompleta)) {
+                // A API respondeu antes do fim da leitura
+                return cache.listar();
+            }
+            prepararIndiceBusca();
+            Log.info("💾 " + conteudo.chamados.size() + " chamados lidos da cópia local em "
+                + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+            return conteudo.chamados;
+        });
+        return restauracao;
+    }
+
+    /**
+     * Grava em disco (em segundo plano) a cópia local dos chamados logo após
+     * uma sincronização com a API
+     */
+    private void salvarCopiaLocal(String token) {
+        salvarCopiaLocal(token, 0);
+    }
+
+    /**
+     * Grava em disco a cópia local após uma edição ou exclusão. A gravação é
+     * adiada para que uma sequência de alterações resulte em uma única escrita.
+     */
+    private void salvarCopiaLocalAposEdicao(String token) {
+        salvarCopiaLocal(token, atrasoSnapshotMillis);
+    }
+
+    private void salvarCopiaLocal(String token, long atrasoMillis) {
+        if (snapshot == null) {
+            return;
+        }
+        // O conteúdo é lido do cache no momento da gravação
+        snapshot.salvarAsync(baseUrl, usuarioLogado.get(), () -> {
+            synchronized (cache) {
+                if (!cache.possuiDados(token)) {
+                    return null;
                 }
-                
-                System.out.println("Carregados " + chamados.size() + " chamados com sucesso");
+                return new ChamadoSnapshot.Conteudo(cache.listar(), cache.getMarca(), cache.getUltimaCargaCompleta());
+            }
+        }, atrasoMillis);
+    }
+
+    /**
+     * Descarta a cópia local dos chamados (a próxima listagem consultará a API)
+     */
+    public void invalidarCache() {
+        cache.invalidar();
+    }
+
+    /**
+     * Decodifica a listagem diretamente do stream da resposta, um chamado por
+     * vez, sem montar a String completa nem a árvore JSON em memória.
+     *
+     * Formatos aceitos:
+     * - Array de chamados: listagem completa (também quando a API ignora o
+     *   parâmetro "desde"), sem marca de sincronização
+     * - Objeto { "chamados": [...], "excluidos": [ids], "marca": "..." }:
+     *   na listagem incremental, os chamados novos/alterados, os IDs excluídos
+     *   e a nova marca de sincronização (opcional); na listagem completa, todos
+     *   os chamados e a marca a partir da qual a próxima pode ser incremental
+     * - 304 Not Modified (requisição condicional): a cópia local continua atual
+     * @param incremental true se a listagem foi pedida com o parâmetro "desde"
+     * @return Resultado da leitura, ou null se a API não retornou sucesso
+     */
+    private ResultadoListagem lerListagem(int status, InputStream corpo, boolean incremental,
+                                          Consumer<List<Chamado>> aoReceberLote) throws IOException {
+        Log.debug(() -> "📥 Status recebido: " + status);
+
+        if (status == 304) {
+            return ResultadoListagem.NAO_MODIFICADA;
+        }
+
+        if (status != 200) {
+            Log.erro("Erro ao buscar chamados. Status: " + status);
+            if (status != -1) {
+                Log.erro("Corpo da resposta: " + new String(corpo.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            if (status == 401) {
+                Log.erro("Token inválido ou expirado. Faça login novamente.");
+            } else if (status == 500) {
+                Log.erro("Erro no servidor. Verifique se a API está funcionando corretamente.");
+            }
+            return null;
+        }
+
+        JsonReader reader = new JsonReader(new InputStreamReader(corpo, StandardCharsets.UTF_8));
+        if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+            List<Chamado> chamados = lerChamados(reader, aoReceberLote);
+            Log.info("Carregados " + chamados.size() + " chamados com sucesso");
+            return new ResultadoListagem(true, chamados, Collections.emptyList(), null);
+        }
+
+        List<Chamado> alterados = Collections.emptyList();
+        List<String> excluidos = new ArrayList<>();
+        String marca = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String campo = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (campo) {
+                case "chamados":
+                    alterados = lerChamados(reader, aoReceberLote);
+                    break;
+                case "excluidos":
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        excluidos.add(reader.nextString());
+                    }
+                    reader.endArray();
+                    break;
+                case "marca":
+                    marca = reader.nextString();
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (!incremental) {
+            Log.info("Carregados " + alterados.size() + " chamados com sucesso");
+        }
+        return new ResultadoListagem(!incremental, alterados, excluidos, marca);
+    }
+
+    private List<Chamado> lerChamados(JsonReader reader, Consumer<List<Chamado>> aoReceberLote) throws IOException {
+        List<Chamado> chamados = new ArrayList<>();
+        List<Chamado> lote = new ArrayList<>(TAMANHO_LOTE);
+
+        TypeAdapter<Chamado> adapter = JsonUtils.getAdapter(Chamado.class);
+        reader.beginArray();
+        while (reader.hasNext()) {
+            Chamado chamado = adapter.read(reader);
+            if (chamado == null) {
+                continue;
+            }
+            if (chamado.getRespostaDoTecnico() != null) {
+                Log.debug(() -> "DEBUG - Resposta do Técnico encontrada: " + chamado.getRespostaDoTecnico());
             } else {
-                System.err.println("Erro ao buscar chamados. Status: " + response.getStatusCode());
-                System.err.println("Corpo da resposta: " + response.getBody());
-                if (response.getStatusCode() == 401) {
-                    System.err.println("Token inválido ou expirado. Faça login novamente.");
-                } else if (response.getStatusCode() == 500) {
-                    System.err.println("Erro no servidor. Verifique se a API está funcionando corretamente.");
+                Log.debug("DEBUG - Resposta do Técnico não encontrada ou null no JSON");
+            }
+            chamados.add(chamado);
+            if (aoReceberLote != null) {
+                lote.add(chamado);
+                if (lote.size() >= TAMANHO_LOTE) {
+                    aoReceberLote.accept(lote);
+                    lote = new ArrayList<>(TAMANHO_LOTE);
                 }
             }
-        } catch (Exception e) {
-            System.err.println("Erro ao buscar chamados da API: " + e.getMessage());
-            e.printStackTrace();
         }
+        reader.endArray();
 
+        if (aoReceberLote != null && !lote.isEmpty()) {
+            aoReceberLote.accept(lote);
+        }
         return chamados;
     }
 
     /**
-     * Busca chamados por termo de pesquisa
+     * Monta em segundo plano o índice de busca da listagem recém-carregada
+     */
+    private void prepararIndiceBusca() {
+        AsyncUtils.emSegundoPlano(() -> {
+            cache.prepararIndice();
+            return null;
+        });
+    }
+
+    /**
+     * Busca chamados por termo de pesquisa (índice invertido sobre a cópia local).
+     * Nunca consulta a API: com o TTL vencido a busca continua sobre a cópia em
+     * memória, que só é atualizada por {@link #listarChamadosAsync}. Assim o
+     * resultado corresponde sempre à lista exibida.
+     * @return Chamados encontrados (vazio se a cópia local ainda não foi carregada)
      */
     public ObservableList<Chamado> buscarChamados(String termo) {
+        if (!cache.possuiDados(tokenAtual.get())) {
+            return FXCollections.observableArrayList();
+        }
         if (termo == null || termo.trim().isEmpty()) {
-            return listarChamados();
+            return FXCollections.observableArrayList(cache.listar());
         }
+        return FXCollections.observableArrayList(cache.buscar(termo));
+    }
 
-        ObservableList<Chamado> todosChamados = listarChamados();
+    /**
+     * Filtra chamados por prioridade (sobre a cópia local, sem consultar a API)
+     */
+    public ObservableList<Chamado> filtrarPorPrioridade(String prioridade) {
         ObservableList<Chamado> resultados = FXCollections.observableArrayList();
-        
-        String termoBusca = termo.toLowerCase().trim();
+        if (!cache.possuiDados(tokenAtual.get())) {
+            return resultados;
+        }
+
+        List<Chamado> todosChamados = cache.listar();
+        if (prioridade == null || prioridade.trim().isEmpty() || prioridade.equalsIgnoreCase("Todas")) {
+            resultados.addAll(todosChamados);
+            return resultados;
+        }
 
         for (Chamado chamado : todosChamados) {
-            if (matchesBusca(chamado, termoBusca)) {
+            if (chamado.getPrioridade() != null && 
+                TextoUtils.equivalentes(chamado.getPrioridade(), prioridade)) {
                 resultados.add(chamado);
             }
         }
@@ -108,176 +498,375 @@ public class ChamadoService {
         return resultados;
     }
 
-    private boolean matchesBusca(Chamado chamado, String termo) {
-        return (chamado.getTitulo() != null && chamado.getTitulo().toLowerCase().contains(termo)) ||
-               (chamado.getDescricao() != null && chamado.getDescricao().toLowerCase().contains(termo)) ||
-               (chamado.getNomeDoUsuario() != null && chamado.getNomeDoUsuario().toLowerCase().contains(termo)) ||
-               (chamado.getEmailDoUsuario() != null && chamado.getEmailDoUsuario().toLowerCase().contains(termo)) ||
-               (chamado.getSetorDoUsuario() != null && chamado.getSetorDoUsuario().toLowerCase().contains(termo)) ||
-               (chamado.getPrioridade() != null && chamado.getPrioridade().toLowerCase().contains(termo));
+    /**
+     * Resultado de uma edição ou exclusão de chamado
+     */
+    public enum ResultadoEscrita {
+        /** Aceita pela API */
+        ENVIADA,
+        /** API inacessível: guardada na fila de escritas pendentes e enviada quando a conexão voltar */
+        PENDENTE,
+        /** Rejeitada pela API ou erro local */
+        FALHOU
     }
 
     /**
-     * Filtra chamados por prioridade
+     * Exclui um chamado sem bloquear a thread chamadora. Com a API
+     * inacessível, a exclusão é guardada na fila de escritas pendentes e
+     * aplicada imediatamente à cópia local. O futuro nunca completa com erro
+     * (falhas resultam em {@link ResultadoEscrita#FALHOU}).
      */
-    public ObservableList<Chamado> filtrarPorPrioridade(String prioridade) {
-        if (prioridade == null || prioridade.trim().isEmpty() || prioridade.equalsIgnoreCase("Todas")) {
-            return listarChamados();
+    public CompletableFuture<ResultadoEscrita> excluirChamadoAsync(Chamado chamado) {
+        if (chamado == null || chamado.getChamadoID() == null) {
+            Log.erro("Chamado inválido para exclusão");
+            return CompletableFuture.completedFuture(ResultadoEscrita.FALHOU);
         }
 
-        ObservableList<Chamado> todosChamados = listarChamados();
-        ObservableList<Chamado> resultados = FXCollections.observableArrayList();
-
-        for (Chamado chamado : todosChamados) {
-            if (chamado.getPrioridade() != null && 
-                chamado.getPrioridade().equalsIgnoreCase(prioridade)) {
-                resultados.add(chamado);
-            }
+        // Obter token de autenticação
+        String token = tokenAtual.get();
+        if (token == null || token.isEmpty()) {
+            Log.erro("✗ Token de autenticação não encontrado. Faça login novamente.");
+            return CompletableFuture.completedFuture(ResultadoEscrita.FALHOU);
         }
 
-        return resultados;
+        // A fila grava em disco: também fora da thread chamadora
+        String id = chamado.getChamadoID();
+        return AsyncUtils.emSegundoPlano(this::filaDoUsuario).thenCompose(fila -> {
+            if (fila != null && fila.possuiPendente(id)) {
+                // Mantém a ordem: a exclusão só pode ir depois das escritas já pendentes
+                return CompletableFuture.completedFuture(enfileirarExclusao(fila, id, token));
+            }
+            return enviarExclusaoAsync(id, token).thenApply(response -> {
+                if (response.getStatusCode() == 200) {
+                    Log.info("Chamado ID " + id + " excluído com sucesso");
+                    cache.remover(id);
+                    salvarCopiaLocalAposEdicao(token);
+                    return ResultadoEscrita.ENVIADA;
+                } else if (fila != null && isSemConexao(response.getStatusCode())) {
+                    return enfileirarExclusao(fila, id, token);
+                } else {
+                    Log.erro("Erro ao excluir chamado. Status: " + response.getStatusCode());
+                    if (response.getStatusCode() == 401) {
+                        Log.erro("✗ Token inválido ou expirado. Faça login novamente.");
+                    }
+                    return ResultadoEscrita.FALHOU;
+                }
+            });
+        }).exceptionally(e -> {
+            Log.erro("Erro ao excluir chamado: " + e.getMessage());
+            return ResultadoEscrita.FALHOU;
+        });
     }
 
     /**
-     * Exclui um chamado
+     * Atualiza um chamado existente sem bloquear a thread chamadora. Com a API
+     * inacessível, a edição é guardada na fila de escritas pendentes e
+     * aplicada imediatamente à cópia local. O futuro nunca completa com erro
+     * (falhas resultam em {@link ResultadoEscrita#FALHOU}).
      */
-    public boolean excluirChamado(Chamado chamado) {
+    public CompletableFuture<ResultadoEscrita> atualizarChamadoAsync(Chamado chamado) {
         if (chamado == null || chamado.getChamadoID() == null) {
-            System.err.println("Chamado inválido para exclusão");
-            return false;
+            Log.erro("Chamado inválido para atualização");
+            return CompletableFuture.completedFuture(ResultadoEscrita.FALHOU);
         }
 
-        try {
-            // Obter token de autenticação
-            String token = AuthService.getInstance().getTokenAtual();
-            if (token == null || token.isEmpty()) {
-                System.err.println("✗ Token de autenticação não encontrado. Faça login novamente.");
-                return false;
-            }
+        // Obter token de autenticação
+        String token = tokenAtual.get();
+        if (token == null || token.isEmpty()) {
+            Log.erro("✗ Token de autenticação não encontrado. Faça login novamente.");
+            return CompletableFuture.completedFuture(ResultadoEscrita.FALHOU);
+        }
 
-            String endpoint = "Chamado/Excluir/" + chamado.getChamadoID();
-            ApiResponse response = apiService.deleteWithAuth(endpoint, token);
-            
-            if (response.getStatusCode() == 200) {
-                System.out.println("Chamado ID " + chamado.getChamadoID() + " excluído com sucesso");
-                return true;
-            } else {
-                System.err.println("Erro ao excluir chamado. Status: " + response.getStatusCode());
-                if (response.getStatusCode() == 401) {
-                    System.err.println("✗ Token inválido ou expirado. Faça login novamente.");
-                }
-                return false;
+        return AsyncUtils.emSegundoPlano(this::filaDoUsuario).thenCompose(fila -> {
+            if (fila != null && fila.possuiPendente(chamado.getChamadoID())) {
+                // Agrupa com a escrita pendente do mesmo chamado
+                return CompletableFuture.completedFuture(enfileirarEdicao(fila, chamado, token));
             }
-        } catch (Exception e) {
-            System.err.println("Erro ao excluir chamado: " + e.getMessage());
-            return false;
+            return enviarEdicaoAsync(chamado, token).thenApply(response -> {
+                if (response.getStatusCode() == 200) {
+                    Log.info("Chamado ID " + chamado.getChamadoID() + " atualizado com sucesso");
+                    cache.aplicarEdicao(chamado);
+                    salvarCopiaLocalAposEdicao(token);
+                    return ResultadoEscrita.ENVIADA;
+                } else if (fila != null && isSemConexao(response.getStatusCode())) {
+                    return enfileirarEdicao(fila, chamado, token);
+                } else {
+                    Log.erro("Erro ao atualizar chamado. Status: " + response.getStatusCode());
+                    if (response.getStatusCode() == 401) {
+                        Log.erro("✗ Token inválido ou expirado. Faça login novamente.");
+                    }
+                    return ResultadoEscrita.FALHOU;
+                }
+            });
+        }).exceptionally(e -> {
+            Log.erro("Erro ao atualizar chamado: " + e.getMessage());
+            return ResultadoEscrita.FALHOU;
+        });
+    }
+
+    private CompletableFuture<ApiResponse> enviarExclusaoAsync(String chamadoID, String token) {
+        return apiService.deleteWithAuthAsync("Chamado/Excluir/" + chamadoID, token);
+    }
+
+    private CompletableFuture<ApiResponse> enviarEdicaoAsync(Chamado chamado, String token) {
+        byte[] jsonBody = buildChamadoJson(chamado);
+        if (jsonBody == null) {
+            throw new IllegalStateException("Falha ao serializar o chamado " + chamado.getChamadoID());
         }
+        return apiService.putWithAuthAsync("Chamado/Editar/" + chamado.getChamadoID(), jsonBody, token);
     }
 
     /**
-     * Atualiza um chamado existente
+     * Falha de conexão, circuito aberto ou API temporariamente indisponível
      */
-    public boolean atualizarChamado(Chamado chamado) {
-        if (chamado == null || chamado.getChamadoID() == null) {
-            System.err.println("Chamado inválido para atualização");
-            return false;
+    private static boolean isSemConexao(int statusCode) {
+        return statusCode == -1 || PoliticaRetry.isStatusTransitorio(statusCode);
+    }
+
+    /**
+     * Rejeição definitiva da escrita pela API (dados inválidos, chamado
+     * inexistente ou alterado por outra pessoa): a escrita pendente é descartada
+     */
+    private static boolean isConflito(int statusCode) {
+        return statusCode == 400 || statusCode == 404 || statusCode == 409 || statusCode == 412;
+    }
+
+    private ResultadoEscrita enfileirarExclusao(FilaEscritas fila, String chamadoID, String token) {
+        if (!fila.registrarExclusao(chamadoID)) {
+            return ResultadoEscrita.FALHOU;
         }
+        cache.remover(chamadoID);
+        salvarCopiaLocalAposEdicao(token);
+        agendarReenvio();
+        return ResultadoEscrita.PENDENTE;
+    }
 
-        try {
-            // Obter token de autenticação
-            String token = AuthService.getInstance().getTokenAtual();
-            if (token == null || token.isEmpty()) {
-                System.err.println("✗ Token de autenticação não encontrado. Faça login novamente.");
-                return false;
-            }
+    private ResultadoEscrita enfileirarEdicao(FilaEscritas fila, Chamado chamado, String token) {
+        if (!fila.registrarEdicao(chamado)) {
+            return ResultadoEscrita.FALHOU;
+        }
+        cache.aplicarEdicao(chamado);
+        salvarCopiaLocalAposEdicao(token);
+        agendarReenvio();
+        return ResultadoEscrita.PENDENTE;
+    }
 
-            String endpoint = "Chamado/Editar/" + chamado.getChamadoID();
-            String jsonBody = buildChamadoJson(chamado);
-            
-            ApiResponse response = apiService.putWithAuth(endpoint, jsonBody, token);
-            
-            if (response.getStatusCode() == 200) {
-                System.out.println("Chamado ID " + chamado.getChamadoID() + " atualizado com sucesso");
-                return true;
-            } else {
-                System.err.println("Erro ao atualizar chamado. Status: " + response.getStatusCode());
-                if (response.getStatusCode() == 401) {
-                    System.err.println("✗ Token inválido ou expirado. Faça login novamente.");
-                }
-                return false;
-            }
-        } catch (Exception e) {
-            System.err.println("Erro ao atualizar chamado: " + e.getMessage());
-            return false;
+    /**
+     * Fila de escritas pendentes do usuário logado (null se desativada)
+     */
+    private synchronized FilaEscritas filaDoUsuario() {
+        if (!filaOfflineAtiva) {
+            return null;
+        }
+        String usuario = usuarioLogado.get();
+        if (usuario == null) {
+            // Ninguém logado (ex: reenvio agendado que dispara após o logout)
+            return null;
+        }
+        if (fila == null || !Objects.equals(usuario, usuarioFila)) {
+            fila = new FilaEscritas(diretorioLocal.resolve(
+                "pendentes-" + ChamadoSnapshot.identificador(baseUrl, usuario) + ".log"));
+            usuarioFila = usuario;
         }
+        return fila;
     }
 
-    private Chamado parseChamado(JsonObject obj) {
-        try {
-            Chamado chamado = new Chamado();
-            
-            if (obj.has("chamadoID") && !obj.get("chamadoID").isJsonNull()) {
-                chamado.setChamadoID(obj.get("chamadoID").getAsString());
-            }
-            if (obj.has("nomeDoUsuario") && !obj.get("nomeDoUsuario").isJsonNull()) {
-                chamado.setNomeDoUsuario(obj.get("nomeDoUsuario").getAsString());
-            }
-            if (obj.has("emailDoUsuario") && !obj.get("emailDoUsuario").isJsonNull()) {
-                chamado.setEmailDoUsuario(obj.get("emailDoUsuario").getAsString());
+    /**
+     * Quantidade de edições/exclusões aguardando a conexão com a API
+     */
+    public int getTotalPendentes() {
+        FilaEscritas fila = filaDoUsuario();
+        return fila != null ? fila.getTotalPendentes() : 0;
+    }
+
+    /**
+     * Escritas pendentes rejeitadas pela API ao serem reenviadas
+     */
+    public List<FilaEscritas.Conflito> getConflitos() {
+        FilaEscritas fila = filaDoUsuario();
+        return fila != null ? fila.getConflitos() : Collections.emptyList();
+    }
+
+    /**
+     * Define o callback chamado (fora da thread de UI) quando uma escrita
+     * pendente é rejeitada pela API
+     */
+    public void setAoDetectarConflito(Consumer<FilaEscritas.Conflito> aoDetectarConflito) {
+        this.aoDetectarConflito = aoDetectarConflito;
+    }
+
+    /**
+     * Reenvia à API, na ordem em que foram feitas, as escritas guardadas
+     * enquanto ela estava inacessível. Para no primeiro erro de conexão ou da
+     * API (uma nova tentativa é agendada); apenas escritas rejeitadas como
+     * conflito (400/404/409/412) são descartadas e informadas. Cada envio é
+     * encadeado ao anterior sem bloquear nenhuma thread à espera da resposta.
+     * @return Futuro com a quantidade de escritas enviadas
+     */
+    public CompletableFuture<Integer> reenviarPendentesAsync() {
+        FilaEscritas fila = filaDoUsuario();
+        if (fila == null || fila.getTotalPendentes() == 0 || !reenviando.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(0);
+        }
+        String token = tokenAtual.get();
+        if (token == null || token.isEmpty()) {
+            reenviando.set(false);
+            return CompletableFuture.completedFuture(0);
+        }
+
+        Reenvio reenvio = new Reenvio();
+        return reenviarProxima(fila, token, reenvio).handle((ignorado, e) -> {
+            reenviando.set(false);
+            if (e != null) {
+                Log.erro("Erro ao reenviar escritas pendentes: " + e.getMessage());
+                agendarReenvio();
             }
-            if (obj.has("setorDoUsuario") && !obj.get("setorDoUsuario").isJsonNull()) {
-                chamado.setSetorDoUsuario(obj.get("setorDoUsuario").getAsString());
+            if (reenvio.houveConflito) {
+                // A cópia local exibe alterações que a API não aceitou
+                cache.invalidar();
             }
-            if (obj.has("titulo") && !obj.get("titulo").isJsonNull()) {
-                chamado.setTitulo(obj.get("titulo").getAsString());
+            if (reenvio.enviadas > 0) {
+                Log.info("📤 " + reenvio.enviadas + " escrita(s) pendente(s) enviada(s) à API");
             }
-            if (obj.has("descricao") && !obj.get("descricao").isJsonNull()) {
-                chamado.setDescricao(obj.get("descricao").getAsString());
+            return reenvio.enviadas;
+        });
+    }
+
+    /**
+     * Envia a próxima escrita da fila e, se ela for aceita ou descartada por
+     * conflito, encadeia o envio da seguinte
+     */
+    private CompletableFuture<Void> reenviarProxima(FilaEscritas fila, String token, Reenvio reenvio) {
+        FilaEscritas.Operacao operacao = fila.proxima();
+        if (operacao == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<ApiResponse> envio = operacao.tipo == FilaEscritas.Tipo.EXCLUIR
+            ? enviarExclusaoAsync(operacao.chamadoID, token)
+            : enviarEdicaoAsync(operacao.getChamado(), token);
+        // A fila grava em disco: a resposta é registrada fora das threads do HttpClient
+        return envio
+            .thenCompose(response -> AsyncUtils.emSegundoPlano(
+                () -> registrarReenvio(fila, operacao, response.getStatusCode(), reenvio)))
+            .thenCompose(continuar -> continuar
+                ? reenviarProxima(fila, token, reenvio)
+                : CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * Registra na fila a resposta da API a uma escrita reenviada
+     * @return true se o reenvio deve seguir para a próxima escrita
+     */
+    private boolean registrarReenvio(FilaEscritas fila, FilaEscritas.Operacao operacao, int status, Reenvio reenvio) {
+        if (status == 200) {
+            fila.concluir(operacao);
+            reenvio.enviadas++;
+            return true;
+        }
+        if (isSemConexao(status)) {
+            agendarReenvio();
+            return false;
+        }
+        if (status == 401) {
+            Log.erro("✗ Token inválido ou expirado: as escritas pendentes serão enviadas após o próximo login.");
+            return false;
+        }
+        if (isConflito(status)) {
+            FilaEscritas.Conflito conflito = fila.descartar(operacao, status);
+            reenvio.houveConflito = true;
+            Consumer<FilaEscritas.Conflito> callback = aoDetectarConflito;
+            if (callback != null) {
+                callback.accept(conflito);
             }
-            if (obj.has("prioridade") && !obj.get("prioridade").isJsonNull()) {
-                chamado.setPrioridade(obj.get("prioridade").getAsString());
+            return true;
+        }
+        // Erro da API que não diz respeito à escrita (ex: 500, 408):
+        // a escrita continua na fila para a próxima tentativa
+        Log.aviso("⚠ API respondeu " + status + " ao reenviar escrita pendente; nova tentativa em "
+            + intervaloReenvioSegundos + "s");
+        agendarReenvio();
+        return false;
+    }
+
+    private void agendarReenvio() {
+        if (reenvioAgendado.compareAndSet(false, true)) {
+            CompletableFuture.delayedExecutor(intervaloReenvioSegundos, TimeUnit.SECONDS).execute(() -> {
+                reenvioAgendado.set(false);
+                reenviarPendentesAsync();
+            });
+        }
+    }
+
+    /**
+     * Reaplica na cópia local as escritas ainda pendentes, que uma listagem
+     * recém-recebida da API ainda não contém
+     */
+    private void aplicarPendentes() {
+        FilaEscritas fila = filaDoUsuario();
+        if (fila == null) {
+            return;
+        }
+        for (FilaEscritas.Operacao operacao : fila.getPendentes()) {
+            if (operacao.tipo == FilaEscritas.Tipo.EXCLUIR) {
+                cache.remover(operacao.chamadoID);
+            } else if (cache.contem(operacao.chamadoID)) {
+                cache.aplicarEdicao(operacao.getChamado());
             }
-            // Novo campo status vindo da API
-            if (obj.has("status") && !obj.get("status").isJsonNull()) {
-                chamado.setStatus(obj.get("status").getAsString());
+        }
+    }
+
+    /**
+     * Serializa os campos editáveis do chamado diretamente em bytes UTF-8
+     */
+    private byte[] buildChamadoJson(Chamado chamado) {
+        return JsonUtils.escreverJson(out -> {
+            // Mesmo formato do JSON montado antes com JsonObject: titulo,
+            // descricao e prioridade vão mesmo quando null, os demais só se preenchidos
+            out.setSerializeNulls(true);
+            out.beginObject();
+            if (chamado.getChamadoID() != null) {
+                out.name("chamadoID").value(chamado.getChamadoID());
             }
-            // Campo resposta do técnico (campo da API: respostaTecnico)
-            if (obj.has("respostaTecnico") && !obj.get("respostaTecnico").isJsonNull()) {
-                String resposta = obj.get("respostaTecnico").getAsString();
-                System.out.println("DEBUG - Resposta do Técnico encontrada: " + resposta);
-                chamado.setRespostaDoTecnico(resposta);
-            } else {
-                System.out.println("DEBUG - Resposta do Técnico não encontrada ou null no JSON");
+            out.name("titulo").value(chamado.getTitulo());
+            out.name("descricao").value(chamado.getDescricao());
+            out.name("prioridade").value(chamado.getPrioridade());
+            if (chamado.getStatus() != null) {
+                out.name("status").value(chamado.getStatus());
             }
-            if (obj.has("dataAbertura") && !obj.get("dataAbertura").isJsonNull()) {
-                String dataStr = obj.get("dataAbertura").getAsString();
-                chamado.setDataAbertura(LocalDateTime.parse(dataStr));
+            // Adicionar resposta do técnico se houver (campo da API: respostaTecnico)
+            if (chamado.getRespostaDoTecnico() != null) {
+                out.name("respostaTecnico").value(chamado.getRespostaDoTecnico());
             }
-            
-            return chamado;
-        } catch (Exception e) {
-            System.err.println("Erro ao parsear chamado: " + e.getMessage());
-            return null;
-        }
+            out.endObject();
+        });
     }
 
-    private String buildChamadoJson(Chamado chamado) {
-        JsonObject json = new JsonObject();
-        
-        if (chamado.getChamadoID() != null) {
-            json.addProperty("chamadoID", chamado.getChamadoID());
-        }
-        json.addProperty("titulo", chamado.getTitulo());
-        json.addProperty("descricao", chamado.getDescricao());
-        json.addProperty("prioridade", chamado.getPrioridade());
-        if (chamado.getStatus() != null) {
-            json.addProperty("status", chamado.getStatus());
-        }
-        // Adicionar resposta do técnico se houver (campo da API: respostaTecnico)
-        if (chamado.getRespostaDoTecnico() != null) {
-            json.addProperty("respostaTecnico", chamado.getRespostaDoTecnico());
+    /**
+     * Progresso de um reenvio da fila (cada escrita é registrada depois da anterior)
+     */
+    private static class Reenvio {
+        int enviadas;
+        boolean houveConflito;
+    }
+
+    /**
+     * Resultado da leitura de uma listagem (completa ou incremental)
+     */
+    private static class ResultadoListagem {
+        // Resposta 304: nada mudou desde a listagem completa em memória
+        static final ResultadoListagem NAO_MODIFICADA =
+            new ResultadoListagem(true, Collections.emptyList(), Collections.emptyList(), null);
+
+        final boolean completa;
+        final List<Chamado> chamados;
+        final List<String> excluidos;
+        final String marca;
+
+        ResultadoListagem(boolean completa, List<Chamado> chamados, List<String> excluidos, String marca) {
+            this.completa = completa;
+            this.chamados = chamados;
+            this.excluidos = excluidos;
+            this.marca = marca;
         }
-        
-        return json.toString();
     }
 }
@@ -0,0 +1,298 @@
+package br.com.suptec.services;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import br.com.suptec.models.Chamado;
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.Log;
+
+/**
+ * Cópia dos chamados gravada em disco, para que a listagem seja exibida
+ * imediatamente ao abrir a aplicação (antes da resposta da API) e continue
+ * disponível para leitura quando a API estiver fora do ar.
+ *
+ * Um arquivo por URL da API + usuário, em formato binário compacto
+ * (DataOutputStream) com assinatura e versão do formato: arquivos de outra
+ * versão, de outro servidor/usuário ou corrompidos são ignorados.
+ * Junto com os chamados é gravada a marca de sincronização, de modo que a
+ * primeira consulta à API após a abertura já pode ser incremental.
+ *
+ * As gravações são feitas em uma thread própria, em arquivo temporário
+ * renomeado ao final (o arquivo anterior nunca fica pela metade). Pedidos
+ * próximos são agrupados: só a gravação mais recente pendente é executada,
+ * e o conteúdo é lido no momento da gravação (uma sequência de edições
+ * resulta em uma única escrita do arquivo).
+ */
+public class ChamadoSnapshot {
+
+    private static final int ASSINATURA = 0x53435448; // "SCTH"
+    private static final int VERSAO_FORMATO = 1;
+    // Limite de sanidade para textos lidos do arquivo (arquivo corrompido)
+    private static final int MAX_TEXTO = 16 * 1024 * 1024;
+
+    private final Path diretorio;
+    private final ScheduledExecutorService gravacao =
+        Executors.newSingleThreadScheduledExecutor(AsyncUtils.criarThreadFactory("suptec-snapshot"));
+    // Gravação mais recente ainda não executada (as anteriores são descartadas)
+    private final AtomicReference<Pendente> pendente = new AtomicReference<>();
+
+    /**
+     * @param diretorio Diretório onde os arquivos são gravados (criado se não existir)
+     */
+    public ChamadoSnapshot(Path diretorio) {
+        this.diretorio = diretorio;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::gravarPendente, "suptec-snapshot-final"));
+    }
+
+    private static class Pendente {
+        final String baseUrl;
+        final String usuario;
+        final Supplier<Conteudo> conteudo;
+
+        Pendente(String baseUrl, String usuario, Supplier<Conteudo> conteudo) {
+            this.baseUrl = baseUrl;
+            this.usuario = usuario;
+            this.conteudo = conteudo;
+        }
+    }
+
+    /**
+     * Conteúdo lido do disco
+     */
+    public static class Conteudo {
+        public final List<Chamado> chamados;
+        public final String marca;
+        public final long ultimaCargaCompleta;
+        public final long salvoEm;
+
+        /**
+         * Conteúdo a gravar (salvoEm é preenchido na gravação)
+         */
+        public Conteudo(List<Chamado> chamados, String marca, long ultimaCargaCompleta) {
+            this(chamados, marca, ultimaCargaCompleta, 0);
+        }
+
+        Conteudo(List<Chamado> chamados, String marca, long ultimaCargaCompleta, long salvoEm) {
+            this.chamados = chamados;
+            this.marca = marca;
+            this.ultimaCargaCompleta = ultimaCargaCompleta;
+            this.salvoEm = salvoEm;
+        }
+    }
+
+    /**
+     * Lê a cópia gravada para a API e o usuário informados
+     * @return Conteúdo, ou null se não houver cópia válida
+     */
+    public Conteudo carregar(String baseUrl, String usuario) {
+        Path arquivo = arquivo(baseUrl, usuario);
+        if (!Files.isRegularFile(arquivo)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo), 64 * 1024))) {
+            if (in.readInt() != ASSINATURA || in.readInt() != VERSAO_FORMATO) {
+                Log.aviso("⚠ Cópia local dos chamados em formato desconhecido, ignorada: " + arquivo);
+                return null;
+            }
+            if (!baseUrl.equals(lerTexto(in)) || !normalizar(usuario).equals(lerTexto(in))) {
+                return null;
+            }
+            long salvoEm = in.readLong();
+            long ultimaCargaCompleta = in.readLong();
+            String marca = lerTexto(in);
+            int total = in.readInt();
+            if (total < 0) {
+                throw new IOException("quantidade de chamados inválida");
+            }
+            List<Chamado> chamados = new ArrayList<>(Math.min(total, 10_000));
+            for (int i = 0; i < total; i++) {
+                chamados.add(lerChamado(in));
+            }
+            return new Conteudo(chamados, marca, ultimaCargaCompleta, salvoEm);
+        } catch (EOFException e) {
+            Log.aviso("⚠ Cópia local dos chamados incompleta, ignorada: " + arquivo);
+            return null;
+        } catch (IOException | RuntimeException e) {
+            Log.aviso("⚠ Não foi possível ler a cópia local dos chamados: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Grava a cópia em segundo plano (substitui a anterior). Uma gravação
+     * ainda pendente é substituída por esta.
+     * @param conteudo Lê o conteúdo no momento da gravação (null = nada a gravar)
+     * @param atrasoMillis Espera antes de gravar, para agrupar pedidos seguidos
+     *                     (0 = assim que a thread de gravação estiver livre)
+     */
+    public void salvarAsync(String baseUrl, String usuario, Supplier<Conteudo> conteudo, long atrasoMillis) {
+        pendente.set(new Pendente(baseUrl, usuario, conteudo));
+        gravacao.schedule(this::gravarPendente, atrasoMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Executa a gravação pendente, se houver (as tarefas agendadas para
+     * pedidos já atendidos não fazem nada)
+     */
+    private void gravarPendente() {
+        Pendente proxima = pendente.getAndSet(null);
+        if (proxima == null) {
+            return;
+        }
+        Conteudo conteudo = proxima.conteudo.get();
+        if (conteudo != null) {
+            salvar(proxima.baseUrl, proxima.usuario, conteudo.chamados, conteudo.marca, conteudo.ultimaCargaCompleta);
+        }
+    }
+
+    private synchronized void salvar(String baseUrl, String usuario, List<Chamado> chamados, String marca,
+                                     long ultimaCargaCompleta) {
+        long inicio = System.nanoTime();
+        Path arquivo = arquivo(baseUrl, usuario);
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(diretorio);
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temporario), 64 * 1024))) {
+                out.writeInt(ASSINATURA);
+                out.writeInt(VERSAO_FORMATO);
+                escreverTexto(out, baseUrl);
+                escreverTexto(out, normalizar(usuario));
+                out.writeLong(System.currentTimeMillis());
+                out.writeLong(ultimaCargaCompleta);
+                escreverTexto(out, marca);
+                out.writeInt(chamados.size());
+                for (Chamado chamado : chamados) {
+                    escreverChamado(out, chamado);
+                }
+            }
+            Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Log.debug(() -> "💾 Cópia local de " + chamados.size() + " chamados gravada em "
+                + (System.nanoTime() - inicio) / 1_000_000 + " ms");
+        } catch (IOException e) {
+            Log.aviso("⚠ Não foi possível gravar a cópia local dos chamados: " + e.getMessage());
+            try {
+                Files.deleteIfExists(temporario);
+            } catch (IOException ignorada) {
+                // Nada a fazer
+            }
+        }
+    }
+
+    private static void escreverChamado(DataOutputStream out, Chamado chamado) throws IOException {
+        escreverTexto(out, chamado.getChamadoID());
+        escreverTexto(out, chamado.getNomeDoUsuario());
+        escreverTexto(out, chamado.getEmailDoUsuario());
+        escreverTexto(out, chamado.getSetorDoUsuario());
+        escreverTexto(out, chamado.getTitulo());
+        escreverTexto(out, chamado.getDescricao());
+        escreverTexto(out, chamado.getPrioridade());
+        escreverTexto(out, chamado.getStatus());
+        escreverTexto(out, chamado.getRespostaDoTecnico());
+        LocalDateTime data = chamado.getDataAbertura();
+        out.writeBoolean(data != null);
+        if (data != null) {
+            out.writeLong(data.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(data.getNano());
+        }
+    }
+
+    private static Chamado lerChamado(DataInputStream in) throws IOException {
+        Chamado chamado = new Chamado();
+        chamado.setChamadoID(lerTexto(in));
+        chamado.setNomeDoUsuario(lerTexto(in));
+        chamado.setEmailDoUsuario(lerTexto(in));
+        chamado.setSetorDoUsuario(lerTexto(in));
+        chamado.setTitulo(lerTexto(in));
+        chamado.setDescricao(lerTexto(in));
+        chamado.setPrioridade(lerTexto(in));
+        chamado.setStatus(lerTexto(in));
+        chamado.setRespostaDoTecnico(lerTexto(in));
+        if (in.readBoolean()) {
+            long segundos = in.readLong();
+            chamado.setDataAbertura(LocalDateTime.ofEpochSecond(segundos, in.readInt(), ZoneOffset.UTC));
+        }
+        chamado.prepararExibicao();
+        return chamado;
+    }
+
+    /**
+     * Texto em UTF-8 precedido do tamanho (-1 = null). Não usa writeUTF,
+     * limitado a 64 KB, pois descrições e respostas podem ser longas.
+     */
+    private static void escreverTexto(DataOutputStream out, String texto) throws IOException {
+        if (texto == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String lerTexto(DataInputStream in) throws IOException {
+        int tamanho = in.readInt();
+        if (tamanho < 0) {
+            return null;
+        }
+        if (tamanho > MAX_TEXTO) {
+            throw new IOException("texto com tamanho inválido");
+        }
+        byte[] bytes = new byte[tamanho];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Arquivo da API + usuário
+     */
+    private Path arquivo(String baseUrl, String usuario) {
+        return diretorio.resolve("chamados-" + identificador(baseUrl, usuario) + ".bin");
+    }
+
+    /**
+     * Identificação da API + usuário usada no nome dos arquivos locais
+     * (derivada de um hash, sem expor o e-mail)
+     */
+    static String identificador(String baseUrl, String usuario) {
+        return hash(baseUrl + '\n' + normalizar(usuario));
+    }
+
+    private static String normalizar(String usuario) {
+        return usuario != null ? usuario.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static String hash(String texto) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(texto.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(texto.hashCode());
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.suptec.services;
+
+/**
+ * Requisição rejeitada sem acessar a rede porque o circuito do grupo de
+ * endpoints está aberto (API indisponível)
+ */
+public class CircuitoAbertoException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String grupo;
+
+    public CircuitoAbertoException(String grupo) {
+        super("API indisponível (circuito " + grupo + " aberto)");
+        this.grupo = grupo;
+    }
+
+    public String getGrupo() {
+        return grupo;
+    }
+}
@@ -0,0 +1,192 @@
+package br.com.suptec.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Negociação de Content-Encoding das respostas da API.
+ *
+ * O {@link java.net.http.HttpClient} não descompacta respostas sozinho: este
+ * componente informa ao servidor as codificações aceitas (Accept-Encoding) e
+ * decodifica o corpo recebido conforme o Content-Encoding da resposta.
+ *
+ * Os decodificadores são plugáveis ({@link #registrar}); gzip e deflate vêm
+ * registrados por padrão. Também contabiliza os bytes trafegados na rede e os
+ * bytes após a descompressão.
+ */
+public class CompressaoHttp {
+
+    /**
+     * Decodificador de um Content-Encoding
+     */
+    public interface Decodificador {
+        /**
+         * @param corpo Corpo codificado recebido da rede
+         * @return Stream com o corpo decodificado
+         */
+        InputStream decodificar(InputStream corpo) throws IOException;
+    }
+
+    private final Map<String, Decodificador> decodificadores = new LinkedHashMap<>();
+    private volatile String acceptEncoding;
+
+    private final AtomicLong bytesRede = new AtomicLong();
+    private final AtomicLong bytesDecodificados = new AtomicLong();
+
+    public CompressaoHttp() {
+        registrar("gzip", GZIPInputStream::new);
+        registrar("deflate", InflaterInputStream::new);
+    }
+
+    /**
+     * Registra (ou substitui) o decodificador de uma codificação
+     * @param codificacao Nome usado no Content-Encoding (ex: "br")
+     */
+    public synchronized void registrar(String codificacao, Decodificador decodificador) {
+        decodificadores.put(codificacao.toLowerCase(Locale.ROOT), decodificador);
+        acceptEncoding = String.join(", ", decodificadores.keySet());
+    }
+
+    /**
+     * Valor do cabeçalho Accept-Encoding com as codificações registradas
+     */
+    public String getAcceptEncoding() {
+        return acceptEncoding;
+    }
+
+    /**
+     * Decodifica um corpo já recebido por completo
+     * @param contentEncoding Valor do cabeçalho Content-Encoding (null = sem codificação)
+     */
+    byte[] decodificar(String contentEncoding, byte[] corpo) throws IOException {
+        bytesRede.addAndGet(corpo.length);
+        if (corpo.length == 0 || isIdentidade(contentEncoding)) {
+            bytesDecodificados.addAndGet(corpo.length);
+            return corpo;
+        }
+        try (InputStream decodificado = aplicar(contentEncoding, new ByteArrayInputStream(corpo))) {
+            byte[] resultado = decodificado.readAllBytes();
+            bytesDecodificados.addAndGet(resultado.length);
+            return resultado;
+        }
+    }
+
+    /**
+     * Decodifica um corpo lido em streaming, contabilizando os bytes à medida
+     * que são consumidos
+     * @param contentEncoding Valor do cabeçalho Content-Encoding (null = sem codificação)
+     */
+    InputStream decodificar(String contentEncoding, InputStream corpo) throws IOException {
+        InputStream rede = new ContadorInputStream(corpo, bytesRede);
+        if (isIdentidade(contentEncoding)) {
+            return new ContadorInputStream(rede, bytesDecodificados);
+        }
+        // Corpo vazio (ex: Content-Length: 0) não tem nem o cabeçalho gzip, que
+        // o GZIPInputStream lê ao ser criado: é entregue vazio, sem decodificar
+        PushbackInputStream comPrimeiroByte = new PushbackInputStream(rede, 1);
+        int primeiro = comPrimeiroByte.read();
+        if (primeiro < 0) {
+            return new ContadorInputStream(comPrimeiroByte, bytesDecodificados);
+        }
+        comPrimeiroByte.unread(primeiro);
+        return new ContadorInputStream(aplicar(contentEncoding, comPrimeiroByte), bytesDecodificados);
+    }
+
+    private static boolean isIdentidade(String contentEncoding) {
+        return contentEncoding == null
+            || contentEncoding.isBlank()
+            || contentEncoding.trim().equalsIgnoreCase("identity");
+    }
+
+    /**
+     * Aplica os decodificadores na ordem inversa da lista do Content-Encoding
+     * (a última codificação listada foi a última aplicada pelo servidor)
+     */
+    private InputStream aplicar(String contentEncoding, InputStream corpo) throws IOException {
+        String[] codificacoes = contentEncoding.split(",");
+        InputStream resultado = corpo;
+        for (int i = codificacoes.length - 1; i >= 0; i--) {
+            String codificacao = codificacoes[i].trim().toLowerCase(Locale.ROOT);
+            if (codificacao.isEmpty() || codificacao.equals("identity")) {
+                continue;
+            }
+            Decodificador decodificador;
+            synchronized (this) {
+                decodificador = decodificadores.get(codificacao);
+            }
+            if (decodificador == null) {
+                throw new IOException("Content-Encoding não suportado: " + codificacao);
+            }
+            resultado = decodificador.decodificar(resultado);
+        }
+        return resultado;
+    }
+
+    /**
+     * Bytes recebidos da rede (corpos das respostas, antes da descompressão)
+     */
+    public long getBytesRede() {
+        return bytesRede.get();
+    }
+
+    /**
+     * Bytes entregues aos leitores após a descompressão
+     */
+    public long getBytesDecodificados() {
+        return bytesDecodificados.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CompressaoHttp[aceita=%s, bytesRede=%d, bytesDecodificados=%d]",
+                getAcceptEncoding(), getBytesRede(), getBytesDecodificados());
+    }
+
+    /**
+     * Soma ao contador os bytes lidos do stream
+     */
+    private static class ContadorInputStream extends FilterInputStream {
+        private final AtomicLong contador;
+
+        ContadorInputStream(InputStream origem, AtomicLong contador) {
+            super(origem);
+            this.contador = contador;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                contador.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int inicio, int tamanho) throws IOException {
+            int lidos = super.read(buffer, inicio, tamanho);
+            if (lidos > 0) {
+                contador.addAndGet(lidos);
+            }
+            return lidos;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long pulados = super.skip(n);
+            if (pulados > 0) {
+                contador.addAndGet(pulados);
+            }
+            return pulados;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.suptec.services;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import br.com.suptec.utils.Log;
+
+/**
+ * Circuit breaker (disjuntor) das chamadas à API, por grupo de endpoints
+ * (primeiro segmento do endpoint: Chamado, Gerente, Tecnico, Usuario...).
+ *
+ * - FECHADO: requisições passam normalmente; falhas consecutivas são contadas
+ * - ABERTO: após api.circuito.falhas falhas seguidas, as requisições do grupo
+ *   falham imediatamente ({@link CircuitoAbertoException}) durante
+ *   api.circuito.aberto.segundos, sem esperar pelo timeout da rede
+ * - MEIO_ABERTO: passado esse tempo, uma única requisição de teste é liberada;
+ *   sucesso fecha o circuito, falha volta a abri-lo
+ *
+ * Contam como falha apenas erros de rede/timeout e status 502/503/504.
+ */
+public class DisjuntorApi {
+
+    public enum Estado { FECHADO, ABERTO, MEIO_ABERTO }
+
+    private final int limiteFalhas;
+    private final long tempoAbertoMillis;
+    private final Map<String, Circuito> circuitos = new HashMap<>();
+
+    private final AtomicLong aberturas = new AtomicLong();
+    private final AtomicLong rejeitadas = new AtomicLong();
+
+    /**
+     * @param limiteFalhas Falhas consecutivas que abrem o circuito
+     * @param tempoAbertoSegundos Tempo em aberto antes da requisição de teste
+     */
+    public DisjuntorApi(int limiteFalhas, long tempoAbertoSegundos) {
+        this.limiteFalhas = Math.max(1, limiteFalhas);
+        this.tempoAbertoMillis = tempoAbertoSegundos * 1000L;
+    }
+
+    /**
+     * Verifica se uma requisição do grupo pode ser enviada. No estado
+     * MEIO_ABERTO apenas a primeira chamada (a requisição de teste) é liberada.
+     */
+    synchronized boolean permitir(String grupo) {
+        Circuito circuito = circuitos.computeIfAbsent(grupo, g -> new Circuito());
+        switch (circuito.estado) {
+            case FECHADO:
+                return true;
+            case ABERTO:
+                if (System.currentTimeMillis() - circuito.abertoEm >= tempoAbertoMillis) {
+                    circuito.estado = Estado.MEIO_ABERTO;
+                    Log.info("🔌 Circuito " + grupo + " meio-aberto: enviando requisição de teste");
+                    return true;
+                }
+                rejeitadas.incrementAndGet();
+                return false;
+            case MEIO_ABERTO:
+            default:
+                // Requisição de teste já em andamento
+                rejeitadas.incrementAndGet();
+                return false;
+        }
+    }
+
+    synchronized void registrarSucesso(String grupo) {
+        Circuito circuito = circuitos.get(grupo);
+        if (circuito == null) {
+            return;
+        }
+        if (circuito.estado != Estado.FECHADO) {
+            Log.info("🔌 Circuito " + grupo + " fechado: API respondendo novamente");
+        }
+        circuito.estado = Estado.FECHADO;
+        circuito.falhasConsecutivas = 0;
+    }
+
+    /**
+     * A requisição liberada por {@link #permitir(String)} não chegou a ser
+     * enviada. Se era a requisição de teste, o circuito volta a ABERTO com o
+     * tempo já cumprido, de modo que a próxima requisição faz o teste (sem
+     * isso o circuito ficaria MEIO_ABERTO, rejeitando tudo, para sempre).
+     */
+    synchronized void desistir(String grupo) {
+        Circuito circuito = circuitos.get(grupo);
+        if (circuito != null && circuito.estado == Estado.MEIO_ABERTO) {
+            circuito.estado = Estado.ABERTO;
+            circuito.abertoEm = System.currentTimeMillis() - tempoAbertoMillis;
+        }
+    }
+
+    synchronized void registrarFalha(String grupo) {
+        Circuito circuito = circuitos.computeIfAbsent(grupo, g -> new Circuito());
+        circuito.falhasConsecutivas++;
+        if (circuito.estado == Estado.MEIO_ABERTO
+                || (circuito.estado == Estado.FECHADO && circuito.falhasConsecutivas >= limiteFalhas)) {
+            circuito.estado = Estado.ABERTO;
+            circuito.abertoEm = System.currentTimeMillis();
+            aberturas.incrementAndGet();
+            Log.aviso("⚠ Circuito " + grupo + " aberto após " + circuito.falhasConsecutivas
+                + " falhas: requisições falharão imediatamente por " + (tempoAbertoMillis / 1000) + "s");
+        }
+    }
+
+    /**
+     * Estado atual do circuito de um grupo
+     */
+    public synchronized Estado getEstado(String grupo) {
+        Circuito circuito = circuitos.get(grupo);
+        return circuito != null ? circuito.estado : Estado.FECHADO;
+    }
+
+    /**
+     * Vezes em que algum circuito foi aberto
+     */
+    public long getAberturas() {
+        return aberturas.get();
+    }
+
+    /**
+     * Requisições rejeitadas sem acessar a rede
+     */
+    public long getRejeitadas() {
+        return rejeitadas.get();
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder estados = new StringBuilder();
+        for (Map.Entry<String, Circuito> item : circuitos.entrySet()) {
+            if (estados.length() > 0) {
+                estados.append(", ");
+            }
+            estados.append(item.getKey()).append('=').append(item.getValue().estado);
+        }
+        return String.format("DisjuntorApi[aberturas=%d, rejeitadas=%d, circuitos={%s}]",
+                getAberturas(), getRejeitadas(), estados);
+    }
+
+    private static class Circuito {
+        Estado estado = Estado.FECHADO;
+        int falhasConsecutivas;
+        long abertoEm;
+    }
+}
@@ -0,0 +1,398 @@
+package br.com.suptec.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import br.com.suptec.models.Chamado;
+import br.com.suptec.utils.JsonUtils;
+import br.com.suptec.utils.Log;
+
+/**
+ * Fila de escritas pendentes (outbox) dos chamados, gravada em disco.
+ *
+ * Quando a API está inacessível, edições e exclusões são registradas aqui e
+ * reenviadas na ordem em que foram feitas quando a conexão voltar
+ * (ver {@link ChamadoService#reenviarPendentesAsync()}).
+ *
+ * - O arquivo é um log somente de acréscimo, um registro JSON por linha,
+ *   gravado de forma síncrona no disco: uma operação registrada não se perde
+ *   se a aplicação for encerrada. Linhas incompletas (queda durante a
+ *   gravação) são ignoradas na leitura.
+ * - Operações do mesmo chamadoID são agrupadas: várias edições viram apenas a
+ *   última (o corpo enviado tem todos os campos editáveis) e uma exclusão
+ *   substitui as edições pendentes.
+ * - Operações concluídas ou rejeitadas recebem um registro de confirmação;
+ *   o arquivo é compactado ao abrir e removido quando a fila esvazia.
+ * - Operações rejeitadas pela API (ex: chamado excluído por outra pessoa)
+ *   são descartadas e ficam registradas como conflitos.
+ */
+public class FilaEscritas {
+
+    public enum Tipo { EDITAR, EXCLUIR }
+
+    private static final String CONFIRMACAO = "CONFIRMADA";
+
+    private final Path arquivo;
+    // Operação pendente por chamadoID, na ordem de envio
+    private final Map<String, Operacao> pendentes = new LinkedHashMap<>();
+    private final List<Conflito> conflitos = new ArrayList<>();
+    private long sequencia;
+
+    /**
+     * Abre a fila gravada no arquivo (criado na primeira operação)
+     */
+    public FilaEscritas(Path arquivo) {
+        this.arquivo = arquivo;
+        carregar();
+    }
+
+    /**
+     * Registra a edição de um chamado (substitui a edição pendente anterior)
+     * @return false se o chamado já tem uma exclusão pendente
+     */
+    public synchronized boolean registrarEdicao(Chamado chamado) {
+        Operacao anterior = pendentes.get(chamado.getChamadoID());
+        if (anterior != null && anterior.tipo == Tipo.EXCLUIR) {
+            return false;
+        }
+        Operacao operacao = new Operacao(++sequencia, Tipo.EDITAR, chamado.getChamadoID(), System.currentTimeMillis(),
+            chamado.getTitulo(), chamado.getDescricao(), chamado.getPrioridade(), chamado.getStatus(),
+            chamado.getRespostaDoTecnico());
+        return acrescentar(operacao);
+    }
+
+    /**
+     * Registra a exclusão de um chamado (descarta as edições pendentes dele)
+     */
+    public synchronized boolean registrarExclusao(String chamadoID) {
+        Operacao operacao = new Operacao(++sequencia, Tipo.EXCLUIR, chamadoID, System.currentTimeMillis(),
+            null, null, null, null, null);
+        return acrescentar(operacao);
+    }
+
+    private boolean acrescentar(Operacao operacao) {
+        try {
+            gravar(registro(operacao), StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (IOException e) {
+            Log.erro("Erro ao gravar a fila de escritas pendentes: " + e.getMessage());
+            return false;
+        }
+        aplicar(operacao);
+        Log.info("📥 " + operacao.tipo + " do chamado " + operacao.chamadoID
+            + " guardada para envio posterior (" + pendentes.size() + " pendente(s))");
+        return true;
+    }
+
+    /**
+     * Coloca a operação na fila, agrupando com a pendente do mesmo chamado
+     * (a operação agrupada vai para o fim da fila)
+     */
+    private void aplicar(Operacao operacao) {
+        pendentes.remove(operacao.chamadoID);
+        pendentes.put(operacao.chamadoID, operacao);
+    }
+
+    /**
+     * Próxima operação a enviar, ou null se a fila estiver vazia
+     */
+    public synchronized Operacao proxima() {
+        return pendentes.isEmpty() ? null : pendentes.values().iterator().next();
+    }
+
+    /**
+     * Remove da fila uma operação aceita pela API. Se o chamado recebeu uma
+     * nova operação durante o envio, essa nova continua pendente.
+     */
+    public synchronized void concluir(Operacao operacao) {
+        confirmar(operacao);
+    }
+
+    /**
+     * Remove da fila uma operação rejeitada pela API e a registra como conflito
+     * @param statusCode Status devolvido pela API
+     */
+    public synchronized Conflito descartar(Operacao operacao, int statusCode) {
+        Conflito conflito = new Conflito(operacao, statusCode);
+        conflitos.add(conflito);
+        Log.aviso("⚠ " + conflito);
+        confirmar(operacao);
+        return conflito;
+    }
+
+    private void confirmar(Operacao operacao) {
+        if (pendentes.get(operacao.chamadoID) == operacao) {
+            pendentes.remove(operacao.chamadoID);
+        }
+        try {
+            if (pendentes.isEmpty()) {
+                Files.deleteIfExists(arquivo);
+            } else {
+                gravar(confirmacao(operacao.sequencia), StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                    StandardOpenOption.DSYNC);
+            }
+        } catch (IOException e) {
+            // A operação seria reenviada ao reabrir a fila (a API recebe a repetição)
+            Log.aviso("⚠ Não foi possível atualizar a fila de escritas pendentes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Verifica se o chamado tem uma operação aguardando envio
+     */
+    public synchronized boolean possuiPendente(String chamadoID) {
+        return pendentes.containsKey(chamadoID);
+    }
+
+    /**
+     * Operações pendentes, na ordem de envio
+     */
+    public synchronized List<Operacao> getPendentes() {
+        return new ArrayList<>(pendentes.values());
+    }
+
+    public synchronized int getTotalPendentes() {
+        return pendentes.size();
+    }
+
+    /**
+     * Operações rejeitadas pela API desde a abertura da fila
+     */
+    public synchronized List<Conflito> getConflitos() {
+        return Collections.unmodifiableList(new ArrayList<>(conflitos));
+    }
+
+    /**
+     * Lê o log e reconstrói a fila, reescrevendo o arquivo apenas com as
+     * operações ainda pendentes
+     */
+    private void carregar() {
+        if (!Files.isRegularFile(arquivo)) {
+            return;
+        }
+        int linhas = 0;
+        try (BufferedReader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            Map<Long, Operacao> porSequencia = new LinkedHashMap<>();
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                linhas++;
+                if (linha.isBlank()) {
+                    continue;
+                }
+                try {
+                    lerRegistro(linha, porSequencia);
+                } catch (IOException | RuntimeException e) {
+                    Log.aviso("⚠ Registro inválido ignorado na fila de escritas pendentes (linha " + linhas + ")");
+                }
+            }
+        } catch (IOException e) {
+            Log.erro("Erro ao ler a fila de escritas pendentes: " + e.getMessage());
+            return;
+        }
+
+        try {
+            compactar();
+        } catch (IOException e) {
+            Log.aviso("⚠ Não foi possível compactar a fila de escritas pendentes: " + e.getMessage());
+        }
+        if (!pendentes.isEmpty()) {
+            Log.info("📥 " + pendentes.size() + " escrita(s) pendente(s) recuperada(s) do disco");
+        }
+    }
+
+    private void lerRegistro(String linha, Map<Long, Operacao> porSequencia) throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(linha));
+        long seq = -1;
+        String tipo = null;
+        String chamadoID = null;
+        long criadaEm = 0;
+        String titulo = null, descricao = null, prioridade = null, status = null, resposta = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String campo = reader.nextName();
+            switch (campo) {
+                case "seq": seq = reader.nextLong(); break;
+                case "tipo": tipo = reader.nextString(); break;
+                case "chamadoID": chamadoID = reader.nextString(); break;
+                case "criadaEm": criadaEm = reader.nextLong(); break;
+                case "titulo": titulo = lerTextoOpcional(reader); break;
+                case "descricao": descricao = lerTextoOpcional(reader); break;
+                case "prioridade": prioridade = lerTextoOpcional(reader); break;
+                case "status": status = lerTextoOpcional(reader); break;
+                case "resposta": resposta = lerTextoOpcional(reader); break;
+                default: reader.skipValue();
+            }
+        }
+        reader.endObject();
+        sequencia = Math.max(sequencia, seq);
+
+        if (CONFIRMACAO.equals(tipo)) {
+            Operacao confirmada = porSequencia.remove(seq);
+            if (confirmada != null && pendentes.get(confirmada.chamadoID) == confirmada) {
+                pendentes.remove(confirmada.chamadoID);
+            }
+            return;
+        }
+        Operacao operacao = new Operacao(seq, Tipo.valueOf(tipo), chamadoID, criadaEm,
+            titulo, descricao, prioridade, status, resposta);
+        if (operacao.chamadoID == null) {
+            throw new IOException("registro sem chamadoID");
+        }
+        Operacao anterior = pendentes.get(chamadoID);
+        if (operacao.tipo == Tipo.EDITAR && anterior != null && anterior.tipo == Tipo.EXCLUIR) {
+            return;
+        }
+        porSequencia.put(seq, operacao);
+        aplicar(operacao);
+    }
+
+    private static String lerTextoOpcional(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    /**
+     * Reescreve o arquivo apenas com as operações pendentes (ou o remove)
+     */
+    private void compactar() throws IOException {
+        if (pendentes.isEmpty()) {
+            Files.deleteIfExists(arquivo);
+            return;
+        }
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        Files.deleteIfExists(temporario);
+        for (Operacao operacao : pendentes.values()) {
+            Files.write(temporario, registro(operacao), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void gravar(byte[] registro, StandardOpenOption... opcoes) throws IOException {
+        Files.createDirectories(arquivo.getParent());
+        Files.write(arquivo, registro, opcoes);
+    }
+
+    private static byte[] registro(Operacao operacao) {
+        return linha(out -> {
+            out.beginObject();
+            out.name("seq").value(operacao.sequencia);
+            out.name("tipo").value(operacao.tipo.name());
+            out.name("chamadoID").value(operacao.chamadoID);
+            out.name("criadaEm").value(operacao.criadaEm);
+            if (operacao.tipo == Tipo.EDITAR) {
+                out.name("titulo").value(operacao.titulo);
+                out.name("descricao").value(operacao.descricao);
+                out.name("prioridade").value(operacao.prioridade);
+                out.name("status").value(operacao.status);
+                out.name("resposta").value(operacao.respostaDoTecnico);
+            }
+            out.endObject();
+        });
+    }
+
+    private static byte[] confirmacao(long seq) {
+        return linha(out -> {
+            out.beginObject();
+            out.name("seq").value(seq);
+            out.name("tipo").value(CONFIRMACAO);
+            out.endObject();
+        });
+    }
+
+    /**
+     * Registro JSON em uma única linha (o JsonWriter escapa quebras de linha)
+     */
+    private static byte[] linha(JsonUtils.EscritorJson escritor) {
+        byte[] json = JsonUtils.escreverJson(escritor);
+        if (json == null) {
+            throw new IllegalStateException("Falha ao serializar registro da fila de escritas");
+        }
+        byte[] linha = new byte[json.length + 1];
+        System.arraycopy(json, 0, linha, 0, json.length);
+        linha[json.length] = '\n';
+        return linha;
+    }
+
+    /**
+     * Escrita aguardando envio à API
+     */
+    public static class Operacao {
+        final long sequencia;
+        public final Tipo tipo;
+        public final String chamadoID;
+        public final long criadaEm;
+        final String titulo;
+        final String descricao;
+        final String prioridade;
+        final String status;
+        final String respostaDoTecnico;
+
+        Operacao(long sequencia, Tipo tipo, String chamadoID, long criadaEm, String titulo, String descricao,
+                 String prioridade, String status, String respostaDoTecnico) {
+            this.sequencia = sequencia;
+            this.tipo = tipo;
+            this.chamadoID = chamadoID;
+            this.criadaEm = criadaEm;
+            this.titulo = titulo;
+            this.descricao = descricao;
+            this.prioridade = prioridade;
+            this.status = status;
+            this.respostaDoTecnico = respostaDoTecnico;
+        }
+
+        /**
+         * Chamado com os campos editados (apenas para EDITAR)
+         */
+        public Chamado getChamado() {
+            Chamado chamado = new Chamado();
+            chamado.setChamadoID(chamadoID);
+            chamado.setTitulo(titulo);
+            chamado.setDescricao(descricao);
+            chamado.setPrioridade(prioridade);
+            chamado.setStatus(status);
+            chamado.setRespostaDoTecnico(respostaDoTecnico);
+            return chamado;
+        }
+    }
+
+    /**
+     * Operação pendente rejeitada pela API ao ser reenviada
+     */
+    public static class Conflito {
+        public final Tipo tipo;
+        public final String chamadoID;
+        public final String titulo;
+        public final int statusCode;
+        public final long criadaEm;
+
+        Conflito(Operacao operacao, int statusCode) {
+            this.tipo = operacao.tipo;
+            this.chamadoID = operacao.chamadoID;
+            this.titulo = operacao.titulo;
+            this.statusCode = statusCode;
+            this.criadaEm = operacao.criadaEm;
+        }
+
+        @Override
+        public String toString() {
+            return "Conflito: " + tipo + " do chamado " + chamadoID + " rejeitada pela API (status " + statusCode + ")";
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package br.com.suptec.services;
+
+import java.net.http.HttpHeaders;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache HTTP das respostas GET da API, indexado por token + endpoint.
+ *
+ * Guarda o corpo e os validadores (ETag / Last-Modified) das respostas 200
+ * para que as próximas consultas sejam condicionais (If-None-Match /
+ * If-Modified-Since): quando a API responde 304 Not Modified, o corpo é
+ * servido do cache sem trafegar a listagem novamente.
+ *
+ * Respeita o Cache-Control da resposta:
+ * - no-store: a resposta não é armazenada
+ * - no-cache: armazenada, mas sempre revalidada
+ * - max-age=N: servida sem consultar a API por N segundos
+ *
+ * Configurações lidas do application.properties:
+ * - api.cache.ativo: true (padrão) para habilitar
+ * - api.cache.max.entradas: respostas mantidas em memória (padrão 50, LRU)
+ * - api.cache.max.entrada.kb: tamanho máximo de uma resposta armazenada
+ *   (padrão 512); respostas maiores não são guardadas
+ *
+ * Das listagens lidas em streaming são guardados apenas os validadores, sem
+ * o corpo (ver {@link #armazenarValidadores}): quem as consome mantém os
+ * dados já interpretados (ex: {@link ChamadoCache}) e os reaproveita quando a
+ * API responde 304.
+ */
+public class HttpCache {
+
+    private final int maxEntradas;
+    private final long maxBytesEntrada;
+    private final Map<String, Entrada> entradas;
+
+    private final AtomicLong acertos = new AtomicLong();
+    private final AtomicLong revalidacoes = new AtomicLong();
+    private final AtomicLong faltas = new AtomicLong();
+
+    /**
+     * @param maxEntradas Quantidade máxima de respostas em memória
+     * @param maxBytesEntrada Tamanho máximo do corpo de uma resposta armazenada
+     */
+    public HttpCache(int maxEntradas, long maxBytesEntrada) {
+        this.maxEntradas = Math.max(1, maxEntradas);
+        this.maxBytesEntrada = maxBytesEntrada;
+        this.entradas = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entrada> maisAntiga) {
+                return size() > HttpCache.this.maxEntradas;
+            }
+        };
+    }
+
+    /**
+     * Resposta armazenada para token + endpoint, ou null
+     */
+    synchronized Entrada obter(String token, String endpoint) {
+        return entradas.get(chave(token, endpoint));
+    }
+
+    /**
+     * Verifica se uma resposta 200 com estes cabeçalhos pode ser armazenada
+     * (possui validador ou max-age e não tem no-store)
+     */
+    static boolean isArmazenavel(HttpHeaders headers) {
+        String cacheControl = headers.firstValue("Cache-Control").orElse("").toLowerCase(Locale.ROOT);
+        if (cacheControl.contains("no-store")) {
+            return false;
+        }
+        return headers.firstValue("ETag").isPresent()
+            || headers.firstValue("Last-Modified").isPresent()
+            || (!cacheControl.contains("no-cache") && lerMaxAge(cacheControl) > 0);
+    }
+
+    /**
+     * Armazena a resposta 200 se ela for cacheável e não exceder o tamanho máximo
+     */
+    void armazenar(String token, String endpoint, HttpHeaders headers, byte[] corpo) {
+        if (!isArmazenavel(headers) || corpo.length > maxBytesEntrada) {
+            remover(token, endpoint);
+            return;
+        }
+
+        String cacheControl = headers.firstValue("Cache-Control").orElse("").toLowerCase(Locale.ROOT);
+        Optional<String> etag = headers.firstValue("ETag");
+        Optional<String> lastModified = headers.firstValue("Last-Modified");
+        long maxAge = cacheControl.contains("no-cache") ? 0 : lerMaxAge(cacheControl);
+
+        Entrada entrada = new Entrada(etag.orElse(null), lastModified.orElse(null), corpo,
+                System.currentTimeMillis() + maxAge * 1000L);
+        synchronized (this) {
+            entradas.put(chave(token, endpoint), entrada);
+        }
+    }
+
+    /**
+     * Guarda apenas os validadores de uma resposta 200 lida em streaming, para
+     * que a próxima consulta seja condicional. A entrada nunca é fresca: toda
+     * consulta vai à API, que responde 304 se os dados não mudaram.
+     * Ficam separados das respostas armazenadas com corpo do mesmo endpoint.
+     */
+    void armazenarValidadores(String token, String endpoint, HttpHeaders headers) {
+        Optional<String> etag = headers.firstValue("ETag");
+        Optional<String> lastModified = headers.firstValue("Last-Modified");
+        String cacheControl = headers.firstValue("Cache-Control").orElse("").toLowerCase(Locale.ROOT);
+        synchronized (this) {
+            if (cacheControl.contains("no-store") || (etag.isEmpty() && lastModified.isEmpty())) {
+                entradas.remove(chaveValidadores(token, endpoint));
+                return;
+            }
+            entradas.put(chaveValidadores(token, endpoint),
+                new Entrada(etag.orElse(null), lastModified.orElse(null), null, 0));
+        }
+    }
+
+    /**
+     * Validadores guardados por {@link #armazenarValidadores}, ou null
+     */
+    synchronized Entrada obterValidadores(String token, String endpoint) {
+        return entradas.get(chaveValidadores(token, endpoint));
+    }
+
+    /**
+     * Renova a validade de uma entrada após um 304 Not Modified
+     */
+    void revalidada(Entrada entrada, HttpHeaders headers) {
+        revalidacoes.incrementAndGet();
+        if (entrada.corpo == null) {
+            return;
+        }
+        String cacheControl = headers.firstValue("Cache-Control").orElse("").toLowerCase(Locale.ROOT);
+        long maxAge = cacheControl.contains("no-cache") ? 0 : lerMaxAge(cacheControl);
+        entrada.expiraEm = System.currentTimeMillis() + maxAge * 1000L;
+    }
+
+    void registrarAcerto() {
+        acertos.incrementAndGet();
+    }
+
+    void registrarFalta() {
+        faltas.incrementAndGet();
+    }
+
+    synchronized void remover(String token, String endpoint) {
+        entradas.remove(chave(token, endpoint));
+    }
+
+    /**
+     * Obriga todas as respostas do token a serem revalidadas na próxima
+     * consulta (usado após POST/PUT/DELETE bem-sucedidos, que podem ter
+     * alterado as listagens)
+     */
+    synchronized void exigirRevalidacao(String token) {
+        String prefixo = chave(token, "");
+        for (Map.Entry<String, Entrada> item : entradas.entrySet()) {
+            if (item.getKey().startsWith(prefixo)) {
+                item.getValue().expiraEm = 0;
+            }
+        }
+    }
+
+    /**
+     * Descarta todas as respostas armazenadas (ex: logout)
+     */
+    public synchronized void limpar() {
+        entradas.clear();
+    }
+
+    private static String chave(String token, String endpoint) {
+        return (token != null ? token : "") + '\n' + endpoint;
+    }
+
+    private static String chaveValidadores(String token, String endpoint) {
+        return chave(token, endpoint) + "\nstream";
+    }
+
+    private static long lerMaxAge(String cacheControl) {
+        int inicio = cacheControl.indexOf("max-age=");
+        if (inicio < 0) {
+            return 0;
+        }
+        inicio += "max-age=".length();
+        int fim = inicio;
+        while (fim < cacheControl.length() && Character.isDigit(cacheControl.charAt(fim))) {
+            fim++;
+        }
+        try {
+            return fim > inicio ? Long.parseLong(cacheControl.substring(inicio, fim)) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Respostas servidas direto do cache (dentro do max-age)
+     */
+    public long getAcertos() {
+        return acertos.get();
+    }
+
+    /**
+     * Respostas 304 Not Modified servidas do cache
+     */
+    public long getRevalidacoes() {
+        return revalidacoes.get();
+    }
+
+    /**
+     * Consultas sem resposta reaproveitável
+     */
+    public long getFaltas() {
+        return faltas.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HttpCache[acertos=%d, revalidacoes=%d, faltas=%d]",
+                getAcertos(), getRevalidacoes(), getFaltas());
+    }
+
+    /**
+     * Resposta armazenada com seus validadores
+     */
+    static class Entrada {
+        final String etag;
+        final String lastModified;
+        // null: apenas validadores (resposta lida em streaming)
+        final byte[] corpo;
+        volatile long expiraEm;
+
+        Entrada(String etag, String lastModified, byte[] corpo, long expiraEm) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.corpo = corpo;
+            this.expiraEm = expiraEm;
+        }
+
+        boolean isFresca() {
+            return corpo != null && System.currentTimeMillis() < expiraEm;
+        }
+    }
+}
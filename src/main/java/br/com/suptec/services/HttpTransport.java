@@ -0,0 +1,282 @@
+package br.com.suptec.services;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+
+import br.com.suptec.utils.AsyncUtils;
+import br.com.suptec.utils.ConfigLoader;
+import br.com.suptec.utils.Log;
+
+/**
+ * Transporte HTTP compartilhado por todos os services da aplicação.
+ *
+ * Mantém um único {@link HttpClient} (um único pool de conexões e uma única
+ * thread seletora), de modo que as conexões TCP/TLS abertas por uma tela são
+ * reaproveitadas pelas demais.
+ *
+ * Configurações lidas do application.properties:
+ * - api.async.threads: threads do executor das requisições (padrão 4)
+ * - api.http.versao: HTTP_2 (padrão, com fallback automático) ou HTTP_1_1
+ * - api.http.keepalive.segundos: tempo que uma conexão ociosa fica no pool (padrão 30)
+ * - api.http.pool.max: máximo de conexões ociosas mantidas (0 = sem limite)
+ * - api.cache.ativo / api.cache.max.entradas / api.cache.max.entrada.kb: cache HTTP das respostas GET ({@link HttpCache})
+ * - api.http.compressao: respostas compactadas (gzip/deflate) ({@link CompressaoHttp}), padrão true
+ * - api.retry.*: novas tentativas para falhas transitórias ({@link PoliticaRetry})
+ * - api.circuito.*: circuit breaker por grupo de endpoints ({@link DisjuntorApi})
+ * - api.timeout.*: timeouts por verbo e endpoint ({@link PoliticaTimeout})
+ * - api.requisicoes.compartilhar: GETs idênticos simultâneos agrupados ({@link RequisicoesCompartilhadas})
+ */
+public class HttpTransport {
+
+    private static HttpTransport instance;
+
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final ExecutorService executorLeitura;
+    private final long keepAliveNanos;
+    private final HttpCache cache;
+    private final CompressaoHttp compressao;
+    private final PoliticaRetry politicaRetry;
+    private final DisjuntorApi disjuntor;
+    private final PoliticaTimeout politicaTimeout;
+    private final RequisicoesCompartilhadas requisicoesCompartilhadas;
+
+    // Contadores (o java.net.http não expõe eventos de conexão, por isso
+    // abertas/reutilizadas são estimadas a partir do uso do pool por host)
+    private final AtomicLong requisicoes = new AtomicLong();
+    private final AtomicLong conexoesAbertas = new AtomicLong();
+    private final AtomicLong conexoesReutilizadas = new AtomicLong();
+    private final Map<String, EstadoHost> hosts = new HashMap<>();
+
+    private HttpTransport() {
+        this(ConfigLoader.getInstance()::getProperty, new PoliticaTimeout(ConfigLoader.getInstance()));
+    }
+
+    /**
+     * @param config Leitura das configurações (chave, valor padrão)
+     * @param politicaTimeout Timeouts por verbo e endpoint
+     */
+    HttpTransport(BinaryOperator<String> config, PoliticaTimeout politicaTimeout) {
+        int threads = Math.max(1, Integer.parseInt(config.apply("api.async.threads", "4")));
+        int keepAliveSegundos = Integer.parseInt(config.apply("api.http.keepalive.segundos", "30"));
+        String poolMax = config.apply("api.http.pool.max", "0");
+        HttpClient.Version versao = "HTTP_1_1".equalsIgnoreCase(config.apply("api.http.versao", "HTTP_2"))
+                ? HttpClient.Version.HTTP_1_1
+                : HttpClient.Version.HTTP_2;
+
+        // Ajustes de keep-alive do pool do JDK: precisam ser definidos antes da
+        // criação do primeiro HttpClient (não sobrescreve valores passados via -D)
+        definirSeAusente("jdk.httpclient.keepalive.timeout", String.valueOf(keepAliveSegundos));
+        definirSeAusente("jdk.httpclient.connectionPoolSize", poolMax);
+
+        this.keepAliveNanos = Duration.ofSeconds(keepAliveSegundos).toNanos();
+        this.executor = Executors.newFixedThreadPool(threads, AsyncUtils.criarThreadFactory("suptec-http"));
+        this.executorLeitura = Executors.newCachedThreadPool(AsyncUtils.criarThreadFactory("suptec-http-leitura"));
+        this.client = HttpClient.newBuilder()
+                .version(versao)
+                .connectTimeout(Duration.ofSeconds(Integer.parseInt(config.apply("api.timeout", "30"))))
+                .executor(executor)
+                .build();
+        this.cache = Boolean.parseBoolean(config.apply("api.cache.ativo", "true"))
+                ? new HttpCache(Integer.parseInt(config.apply("api.cache.max.entradas", "50")),
+                        Long.parseLong(config.apply("api.cache.max.entrada.kb", "512")) * 1024)
+                : null;
+        this.compressao = Boolean.parseBoolean(config.apply("api.http.compressao", "true"))
+                ? new CompressaoHttp()
+                : null;
+        int tentativas = Integer.parseInt(config.apply("api.retry.tentativas", "3"));
+        this.politicaRetry = tentativas > 1
+                ? new PoliticaRetry(tentativas,
+                        Long.parseLong(config.apply("api.retry.atraso.base.ms", "200")),
+                        Long.parseLong(config.apply("api.retry.atraso.max.ms", "5000")),
+                        Double.parseDouble(config.apply("api.retry.orcamento.razao", "0.1")),
+                        Double.parseDouble(config.apply("api.retry.orcamento.maximo", "10")))
+                : null;
+        int limiteFalhas = Integer.parseInt(config.apply("api.circuito.falhas", "5"));
+        this.disjuntor = limiteFalhas > 0
+                ? new DisjuntorApi(limiteFalhas, Long.parseLong(config.apply("api.circuito.aberto.segundos", "15")))
+                : null;
+        this.politicaTimeout = politicaTimeout;
+        this.requisicoesCompartilhadas = Boolean.parseBoolean(config.apply("api.requisicoes.compartilhar", "true"))
+                ? new RequisicoesCompartilhadas()
+                : null;
+
+        Log.info("🔌 HttpTransport compartilhado criado (" + versao + ", " + threads
+                + " threads, keep-alive " + keepAliveSegundos + "s)");
+    }
+
+    public static synchronized HttpTransport getInstance() {
+        if (instance == null) {
+            instance = new HttpTransport();
+        }
+        return instance;
+    }
+
+    private static void definirSeAusente(String chave, String valor) {
+        if (System.getProperty(chave) == null) {
+            System.setProperty(chave, valor);
+        }
+    }
+
+    /**
+     * Cliente HTTP compartilhado
+     */
+    public HttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * Executor onde as respostas assíncronas são processadas
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Executor para a leitura bloqueante de corpos em streaming. É separado do
+     * executor do HttpClient, que precisa ficar livre para entregar os bytes
+     * ao InputStream que está sendo lido.
+     */
+    public ExecutorService getExecutorLeitura() {
+        return executorLeitura;
+    }
+
+    /**
+     * Cache HTTP compartilhado das respostas GET (null se desativado)
+     */
+    public HttpCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Negociação de Content-Encoding das respostas (null se desativada)
+     */
+    public CompressaoHttp getCompressao() {
+        return compressao;
+    }
+
+    /**
+     * Política de novas tentativas (null se desativada)
+     */
+    public PoliticaRetry getPoliticaRetry() {
+        return politicaRetry;
+    }
+
+    /**
+     * Circuit breaker por grupo de endpoints (null se desativado)
+     */
+    public DisjuntorApi getDisjuntor() {
+        return disjuntor;
+    }
+
+    /**
+     * Tabela de timeouts por verbo e endpoint
+     */
+    public PoliticaTimeout getPoliticaTimeout() {
+        return politicaTimeout;
+    }
+
+    /**
+     * Agrupamento de GETs idênticos simultâneos (null se desativado)
+     */
+    public RequisicoesCompartilhadas getRequisicoesCompartilhadas() {
+        return requisicoesCompartilhadas;
+    }
+
+    /**
+     * Registra o início de uma requisição para o host da URI
+     */
+    void registrarInicio(URI uri) {
+        requisicoes.incrementAndGet();
+        long agora = System.nanoTime();
+
+        synchronized (hosts) {
+            EstadoHost estado = hosts.computeIfAbsent(chaveHost(uri), k -> new EstadoHost());
+
+            // Conexões ociosas além do keep-alive já foram fechadas pelo pool
+            if (agora - estado.ultimaLiberacao > keepAliveNanos) {
+                estado.ociosas = 0;
+                estado.multiplexada = false;
+            }
+
+            if (estado.multiplexada) {
+                conexoesReutilizadas.incrementAndGet();
+            } else if (estado.ociosas > 0) {
+                estado.ociosas--;
+                conexoesReutilizadas.incrementAndGet();
+            } else {
+                conexoesAbertas.incrementAndGet();
+            }
+            estado.emUso++;
+        }
+    }
+
+    /**
+     * Registra o fim de uma requisição (a conexão volta ao pool)
+     * @param versao Versão negociada com o servidor (null em caso de falha)
+     */
+    void registrarFim(URI uri, HttpClient.Version versao) {
+        synchronized (hosts) {
+            EstadoHost estado = hosts.get(chaveHost(uri));
+            if (estado == null) {
+                return;
+            }
+            estado.emUso = Math.max(0, estado.emUso - 1);
+            if (versao == null) {
+                return;
+            }
+            if (versao == HttpClient.Version.HTTP_2) {
+                // HTTP/2 multiplexa todas as requisições em uma única conexão
+                estado.multiplexada = true;
+            } else {
+                estado.ociosas++;
+            }
+            estado.ultimaLiberacao = System.nanoTime();
+        }
+    }
+
+    private static String chaveHost(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    public long getRequisicoes() {
+        return requisicoes.get();
+    }
+
+    /**
+     * Estimativa de conexões TCP/TLS novas abertas
+     */
+    public long getConexoesAbertas() {
+        return conexoesAbertas.get();
+    }
+
+    /**
+     * Estimativa de requisições atendidas por conexões já existentes no pool
+     */
+    public long getConexoesReutilizadas() {
+        return conexoesReutilizadas.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HttpTransport[requisicoes=%d, conexoesAbertas=%d, conexoesReutilizadas=%d]",
+                getRequisicoes(), getConexoesAbertas(), getConexoesReutilizadas());
+    }
+
+    /**
+     * Estado do pool de conexões de um host (scheme://host:porta)
+     */
+    private static class EstadoHost {
+        int emUso;
+        int ociosas;
+        boolean multiplexada;
+        long ultimaLiberacao = System.nanoTime();
+    }
+}
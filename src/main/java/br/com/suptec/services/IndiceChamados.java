@@ -0,0 +1,365 @@
+package br.com.suptec.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import br.com.suptec.models.Chamado;
+import br.com.suptec.utils.TextoUtils;
+
+/**
+ * Índice invertido de trigramas para a busca textual nos chamados.
+ *
+ * O texto indexado de cada chamado é a sua chave de busca
+ * ({@link Chamado#getChaveBusca()}: campos pesquisáveis sem acentos e em
+ * minúsculas, calculada uma única vez por chamado). Cada trigrama (sequência de 3 caracteres) aponta
+ * para a lista ordenada dos chamados que o contêm.
+ *
+ * Uma busca com 3 ou mais caracteres intersecta as listas dos trigramas do
+ * termo, começando pela menor, e confirma com contains apenas os candidatos
+ * restantes. O resultado é o mesmo da comparação campo a campo (substring em
+ * qualquer um dos campos). Termos com 1 ou 2 caracteres, que não formam um
+ * trigrama, percorrem os textos já calculados.
+ *
+ * O índice é atualizado incrementalmente: cada chamado mantém seu número
+ * interno enquanto estiver no índice, de modo que os resultados saem na
+ * ordem de inclusão. Não é thread-safe; o {@link ChamadoCache} sincroniza o acesso.
+ */
+class IndiceChamados {
+
+    private static final char SEPARADOR = TextoUtils.SEPARADOR;
+
+    private final Map<String, Integer> numeroPorId = new HashMap<>();
+    private final List<Documento> documentos = new ArrayList<>();
+    private final MapaTrigramas trigramas = new MapaTrigramas();
+    private int removidos;
+
+    /**
+     * Descarta o índice e indexa a lista informada (na ordem da lista)
+     */
+    void reconstruir(Iterable<Chamado> chamados) {
+        limpar();
+        for (Chamado chamado : chamados) {
+            atualizar(chamado);
+        }
+    }
+
+    void limpar() {
+        numeroPorId.clear();
+        documentos.clear();
+        trigramas.limpar();
+        removidos = 0;
+    }
+
+    /**
+     * Indexa um chamado novo ou reindexa um existente (mantendo sua posição)
+     */
+    void atualizar(Chamado chamado) {
+        if (chamado.getChamadoID() == null) {
+            return;
+        }
+        String texto = chamado.getChaveBusca();
+        Integer numero = numeroPorId.get(chamado.getChamadoID());
+        if (numero != null) {
+            Documento atual = documentos.get(numero);
+            if (atual.texto.equals(texto)) {
+                atual.chamado = chamado;
+                return;
+            }
+            removerTrigramas(numero, atual.texto);
+            atual.chamado = chamado;
+            atual.texto = texto;
+            adicionarTrigramas(numero, texto);
+            return;
+        }
+        numero = documentos.size();
+        numeroPorId.put(chamado.getChamadoID(), numero);
+        documentos.add(new Documento(chamado, texto));
+        adicionarTrigramas(numero, texto);
+    }
+
+    /**
+     * Remove um chamado do índice
+     */
+    void remover(String chamadoID) {
+        Integer numero = numeroPorId.remove(chamadoID);
+        if (numero == null) {
+            return;
+        }
+        Documento documento = documentos.get(numero);
+        removerTrigramas(numero, documento.texto);
+        documentos.set(numero, null);
+        removidos++;
+        // Muitas posições vazias: renumera para manter as listas compactas
+        if (removidos > 1024 && removidos > documentos.size() / 4) {
+            List<Chamado> restantes = new ArrayList<>(documentos.size() - removidos);
+            for (Documento restante : documentos) {
+                if (restante != null) {
+                    restantes.add(restante.chamado);
+                }
+            }
+            reconstruir(restantes);
+        }
+    }
+
+    /**
+     * Chamados que contêm o termo (já normalizado com {@link TextoUtils#normalizar(String)}
+     * e sem espaços nas pontas)
+     * em algum dos campos pesquisáveis, na ordem de inclusão
+     */
+    List<Chamado> buscar(String termo) {
+        List<Chamado> resultados = new ArrayList<>();
+        if (termo.indexOf(SEPARADOR) >= 0) {
+            return resultados;
+        }
+        if (termo.length() < 3) {
+            for (Documento documento : documentos) {
+                if (documento != null && documento.texto.contains(termo)) {
+                    resultados.add(documento.chamado);
+                }
+            }
+            return resultados;
+        }
+
+        // Listas dos trigramas do termo, da menor para a maior
+        List<Postagens> listas = new ArrayList<>();
+        for (int i = 0; i + 3 <= termo.length(); i++) {
+            Postagens postagens = trigramas.obter(trigrama(termo, i));
+            if (postagens == null) {
+                return resultados;
+            }
+            if (!listas.contains(postagens)) {
+                listas.add(postagens);
+            }
+        }
+        listas.sort((a, b) -> Integer.compare(a.tamanho, b.tamanho));
+
+        // Interseção: os candidatos da menor lista são crescentes, portanto
+        // cada uma das demais é percorrida uma única vez (cursor só avança)
+        Postagens menor = listas.get(0);
+        int[] cursores = new int[listas.size()];
+        // Termo de um único trigrama: a lista já é o resultado exato
+        boolean confirmar = termo.length() > 3;
+        candidatos:
+        for (int i = 0; i < menor.tamanho; i++) {
+            int numero = menor.numeros[i];
+            for (int j = 1; j < listas.size(); j++) {
+                Postagens lista = listas.get(j);
+                int cursor = cursores[j];
+                while (cursor < lista.tamanho && lista.numeros[cursor] < numero) {
+                    cursor++;
+                }
+                cursores[j] = cursor;
+                if (cursor == lista.tamanho) {
+                    break candidatos;
+                }
+                if (lista.numeros[cursor] != numero) {
+                    continue candidatos;
+                }
+            }
+            // Os trigramas podem estar em posições diferentes: confirma a substring
+            Documento documento = documentos.get(numero);
+            if (!confirmar || documento.texto.contains(termo)) {
+                resultados.add(documento.chamado);
+            }
+        }
+        return resultados;
+    }
+
+    int getTotalIndexados() {
+        return numeroPorId.size();
+    }
+
+    int getTotalTrigramas() {
+        return trigramas.tamanho;
+    }
+
+    private void adicionarTrigramas(int numero, String texto) {
+        for (int i = 0; i + 3 <= texto.length(); i++) {
+            if (contemSeparador(texto, i)) {
+                continue;
+            }
+            trigramas.obterOuCriar(trigrama(texto, i)).adicionar(numero);
+        }
+    }
+
+    private void removerTrigramas(int numero, String texto) {
+        for (int i = 0; i + 3 <= texto.length(); i++) {
+            if (contemSeparador(texto, i)) {
+                continue;
+            }
+            long chave = trigrama(texto, i);
+            Postagens postagens = trigramas.obter(chave);
+            if (postagens != null && postagens.remover(numero) && postagens.tamanho == 0) {
+                trigramas.remover(chave);
+            }
+        }
+    }
+
+    private static boolean contemSeparador(String texto, int inicio) {
+        return texto.charAt(inicio) == SEPARADOR
+            || texto.charAt(inicio + 1) == SEPARADOR
+            || texto.charAt(inicio + 2) == SEPARADOR;
+    }
+
+    /**
+     * Três caracteres de 16 bits codificados em um long
+     */
+    private static long trigrama(String texto, int inicio) {
+        return ((long) texto.charAt(inicio) << 32)
+            | ((long) texto.charAt(inicio + 1) << 16)
+            | texto.charAt(inicio + 2);
+    }
+
+    private static class Documento {
+        Chamado chamado;
+        String texto;
+
+        Documento(Chamado chamado, String texto) {
+            this.chamado = chamado;
+            this.texto = texto;
+        }
+    }
+
+    /**
+     * Lista ordenada (sem repetição) dos números dos chamados que contêm um trigrama
+     */
+    private static class Postagens {
+        int[] numeros = new int[4];
+        int tamanho;
+
+        void adicionar(int numero) {
+            // Caso comum: indexação em ordem crescente
+            if (tamanho > 0 && numeros[tamanho - 1] >= numero) {
+                int posicao = Arrays.binarySearch(numeros, 0, tamanho, numero);
+                if (posicao >= 0) {
+                    return;
+                }
+                inserir(-posicao - 1, numero);
+                return;
+            }
+            inserir(tamanho, numero);
+        }
+
+        private void inserir(int posicao, int numero) {
+            if (tamanho == numeros.length) {
+                numeros = Arrays.copyOf(numeros, tamanho * 2);
+            }
+            System.arraycopy(numeros, posicao, numeros, posicao + 1, tamanho - posicao);
+            numeros[posicao] = numero;
+            tamanho++;
+        }
+
+        boolean remover(int numero) {
+            int posicao = Arrays.binarySearch(numeros, 0, tamanho, numero);
+            if (posicao < 0) {
+                return false;
+            }
+            System.arraycopy(numeros, posicao + 1, numeros, posicao, tamanho - posicao - 1);
+            tamanho--;
+            return true;
+        }
+
+    }
+
+    /**
+     * Mapa trigrama -> postagens com endereçamento aberto e chaves primitivas
+     * (a indexação faz milhões de consultas; evita o boxing de um HashMap)
+     */
+    private static class MapaTrigramas {
+        // Chaves armazenadas como trigrama + 1 (0 = posição livre)
+        long[] chaves = new long[1024];
+        Postagens[] valores = new Postagens[1024];
+        int tamanho;
+
+        Postagens obter(long trigrama) {
+            long chave = trigrama + 1;
+            int mascara = chaves.length - 1;
+            for (int i = posicao(chave, mascara); chaves[i] != 0; i = (i + 1) & mascara) {
+                if (chaves[i] == chave) {
+                    return valores[i];
+                }
+            }
+            return null;
+        }
+
+        Postagens obterOuCriar(long trigrama) {
+            long chave = trigrama + 1;
+            int mascara = chaves.length - 1;
+            int i = posicao(chave, mascara);
+            for (; chaves[i] != 0; i = (i + 1) & mascara) {
+                if (chaves[i] == chave) {
+                    return valores[i];
+                }
+            }
+            Postagens postagens = new Postagens();
+            chaves[i] = chave;
+            valores[i] = postagens;
+            if (++tamanho * 2 > chaves.length) {
+                redimensionar();
+            }
+            return postagens;
+        }
+
+        /**
+         * Remove o trigrama, reposicionando as chaves seguintes do mesmo grupo
+         */
+        void remover(long trigrama) {
+            long chave = trigrama + 1;
+            int mascara = chaves.length - 1;
+            int i = posicao(chave, mascara);
+            while (chaves[i] != chave) {
+                if (chaves[i] == 0) {
+                    return;
+                }
+                i = (i + 1) & mascara;
+            }
+            chaves[i] = 0;
+            valores[i] = null;
+            tamanho--;
+            for (int j = (i + 1) & mascara; chaves[j] != 0; j = (j + 1) & mascara) {
+                long movida = chaves[j];
+                Postagens valor = valores[j];
+                chaves[j] = 0;
+                valores[j] = null;
+                int destino = posicao(movida, mascara);
+                while (chaves[destino] != 0) {
+                    destino = (destino + 1) & mascara;
+                }
+                chaves[destino] = movida;
+                valores[destino] = valor;
+            }
+        }
+
+        void limpar() {
+            chaves = new long[1024];
+            valores = new Postagens[1024];
+            tamanho = 0;
+        }
+
+        private void redimensionar() {
+            long[] antigasChaves = chaves;
+            Postagens[] antigosValores = valores;
+            chaves = new long[antigasChaves.length * 2];
+            valores = new Postagens[antigasChaves.length * 2];
+            int mascara = chaves.length - 1;
+            for (int k = 0; k < antigasChaves.length; k++) {
+                if (antigasChaves[k] != 0) {
+                    int i = posicao(antigasChaves[k], mascara);
+                    while (chaves[i] != 0) {
+                        i = (i + 1) & mascara;
+                    }
+                    chaves[i] = antigasChaves[k];
+                    valores[i] = antigosValores[k];
+                }
+            }
+        }
+
+        private static int posicao(long chave, int mascara) {
+            long h = chave * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mascara;
+        }
+    }
+}
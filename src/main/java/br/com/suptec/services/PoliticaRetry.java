@@ -0,0 +1,193 @@
+package br.com.suptec.services;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Política de novas tentativas para falhas transitórias da API.
+ *
+ * - Apenas verbos idempotentes (GET, PUT, DELETE) são repetidos
+ * - São repetidas falhas de rede/timeout e os status 429, 502, 503 e 504
+ * - Espera entre tentativas com backoff exponencial e jitter completo
+ *   (aleatório entre 0 e base * 2^tentativa, limitado ao máximo)
+ * - O cabeçalho Retry-After (segundos ou data HTTP) tem prioridade sobre o
+ *   backoff; se pedir mais que o atraso máximo a falha é devolvida
+ * - Orçamento de retries: cada requisição acumula uma fração de crédito e
+ *   cada retry consome um crédito inteiro, de modo que, com a API fora do ar,
+ *   os retries não multiplicam a carga (evita tempestade de retries)
+ *
+ * Configurações lidas do application.properties:
+ * - api.retry.tentativas: total de tentativas por requisição (padrão 3, 1 desativa)
+ * - api.retry.atraso.base.ms / api.retry.atraso.max.ms: backoff (padrão 200 / 5000)
+ * - api.retry.orcamento.razao: crédito por requisição (padrão 0.1 = até 10% de retries)
+ * - api.retry.orcamento.maximo: créditos máximos acumulados (padrão 10)
+ */
+public class PoliticaRetry {
+
+    private final int maxTentativas;
+    private final long atrasoBaseMs;
+    private final long atrasoMaxMs;
+    private final double razaoOrcamento;
+    private final double orcamentoMaximo;
+    private double saldo;
+
+    private final AtomicLong requisicoes = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong recuperadas = new AtomicLong();
+    private final AtomicLong negadasPorOrcamento = new AtomicLong();
+    private final AtomicLong esgotadas = new AtomicLong();
+
+    public PoliticaRetry(int maxTentativas, long atrasoBaseMs, long atrasoMaxMs,
+                         double razaoOrcamento, double orcamentoMaximo) {
+        this.maxTentativas = Math.max(1, maxTentativas);
+        this.atrasoBaseMs = Math.max(1, atrasoBaseMs);
+        this.atrasoMaxMs = Math.max(this.atrasoBaseMs, atrasoMaxMs);
+        this.razaoOrcamento = razaoOrcamento;
+        this.orcamentoMaximo = orcamentoMaximo;
+        this.saldo = orcamentoMaximo;
+    }
+
+    /**
+     * Verifica se o verbo pode ser repetido com segurança
+     */
+    public static boolean isIdempotente(String metodo) {
+        return "GET".equals(metodo) || "PUT".equals(metodo) || "DELETE".equals(metodo);
+    }
+
+    /**
+     * Status HTTP que indicam indisponibilidade transitória
+     */
+    public static boolean isStatusTransitorio(int status) {
+        return status == 429 || status == 502 || status == 503 || status == 504;
+    }
+
+    /**
+     * Falhas de rede que podem ser repetidas (conexão recusada/derrubada, timeout)
+     */
+    public static boolean isFalhaTransitoria(Throwable erro) {
+        return erro instanceof IOException;
+    }
+
+    /**
+     * Registra uma nova requisição (primeira tentativa) e acumula crédito no orçamento
+     */
+    void registrarRequisicao() {
+        requisicoes.incrementAndGet();
+        synchronized (this) {
+            saldo = Math.min(orcamentoMaximo, saldo + razaoOrcamento);
+        }
+    }
+
+    /**
+     * Decide se a tentativa que falhou deve ser repetida e por quanto tempo esperar
+     * @param metodo Verbo HTTP
+     * @param tentativa Número da tentativa que falhou (1 = primeira)
+     * @param headers Cabeçalhos da resposta (null em falha de rede)
+     * @return Atraso em ms até a próxima tentativa, ou -1 para não repetir
+     */
+    long proximoAtraso(String metodo, int tentativa, HttpHeaders headers) {
+        if (!isIdempotente(metodo)) {
+            return -1;
+        }
+        if (tentativa >= maxTentativas) {
+            esgotadas.incrementAndGet();
+            return -1;
+        }
+
+        long atraso;
+        long retryAfter = headers != null ? lerRetryAfter(headers) : -1;
+        if (retryAfter >= 0) {
+            if (retryAfter > atrasoMaxMs) {
+                esgotadas.incrementAndGet();
+                return -1;
+            }
+            atraso = retryAfter;
+        } else {
+            long teto = Math.min(atrasoMaxMs, atrasoBaseMs << Math.min(tentativa - 1, 20));
+            atraso = ThreadLocalRandom.current().nextLong(teto + 1);
+        }
+
+        synchronized (this) {
+            if (saldo < 1) {
+                negadasPorOrcamento.incrementAndGet();
+                return -1;
+            }
+            saldo -= 1;
+        }
+        retries.incrementAndGet();
+        return atraso;
+    }
+
+    /**
+     * Registra que uma requisição teve sucesso após pelo menos um retry
+     */
+    void registrarRecuperada() {
+        recuperadas.incrementAndGet();
+    }
+
+    /**
+     * Lê o Retry-After em ms (aceita segundos ou data HTTP)
+     * @return Atraso em ms, ou -1 se ausente/inválido
+     */
+    private static long lerRetryAfter(HttpHeaders headers) {
+        String valor = headers.firstValue("Retry-After").orElse(null);
+        if (valor == null || valor.isBlank()) {
+            return -1;
+        }
+        valor = valor.trim();
+        try {
+            return Math.max(0, Long.parseLong(valor) * 1000L);
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime data = ZonedDateTime.parse(valor, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(data.getZone()), data).toMillis());
+            } catch (DateTimeParseException ex) {
+                return -1;
+            }
+        }
+    }
+
+    public long getRequisicoes() {
+        return requisicoes.get();
+    }
+
+    /**
+     * Novas tentativas realizadas
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * Requisições que tiveram sucesso graças a um retry
+     */
+    public long getRecuperadas() {
+        return recuperadas.get();
+    }
+
+    /**
+     * Retries não realizados por falta de orçamento
+     */
+    public long getNegadasPorOrcamento() {
+        return negadasPorOrcamento.get();
+    }
+
+    /**
+     * Requisições que falharam após esgotar as tentativas
+     */
+    public long getEsgotadas() {
+        return esgotadas.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PoliticaRetry[requisicoes=%d, retries=%d, recuperadas=%d, negadasPorOrcamento=%d, esgotadas=%d]",
+                getRequisicoes(), getRetries(), getRecuperadas(), getNegadasPorOrcamento(), getEsgotadas());
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.suptec.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.regex.Pattern;
+
+import br.com.suptec.utils.ConfigLoader;
+import br.com.suptec.utils.Log;
+
+/**
+ * Tabela de timeouts das requisições, por verbo e padrão de endpoint.
+ *
+ * Regras específicas vêm do application.properties no formato
+ * {@code api.timeout.regra.<VERBO ou *>.<endpoint>=segundos}, onde o endpoint
+ * aceita * como curinga (ex: {@code api.timeout.regra.GET.Chamado/Listar*=90}).
+ * Quando mais de uma regra combina, vale a mais específica (padrão com mais
+ * caracteres literais, verbo explícito antes de *).
+ *
+ * Sem regra específica valem os padrões:
+ * - api.timeout.listagem.segundos: GET de listagens (*Listar*), padrão 60
+ * - api.timeout.leitura.segundos: demais GET, padrão 15
+ * - api.timeout.escrita.segundos: POST/PUT/DELETE, padrão 20
+ */
+public class PoliticaTimeout {
+
+    private static final String PREFIXO_REGRA = "api.timeout.regra.";
+
+    private final List<Regra> regras = new ArrayList<>();
+
+    public PoliticaTimeout(ConfigLoader config) {
+        this(config.getPropertiesComPrefixo(PREFIXO_REGRA), config::getProperty);
+    }
+
+    /**
+     * @param regrasConfiguradas Regras específicas (chave sem o prefixo api.timeout.regra.)
+     * @param propriedade Leitura de uma configuração (chave, valor padrão)
+     */
+    PoliticaTimeout(Map<String, String> regrasConfiguradas, BinaryOperator<String> propriedade) {
+        for (Map.Entry<String, String> item : regrasConfiguradas.entrySet()) {
+            int ponto = item.getKey().indexOf('.');
+            if (ponto <= 0) {
+                Log.aviso("⚠ Regra de timeout inválida: " + PREFIXO_REGRA + item.getKey());
+                continue;
+            }
+            try {
+                regras.add(new Regra(item.getKey().substring(0, ponto), item.getKey().substring(ponto + 1),
+                        Duration.ofSeconds(Long.parseLong(item.getValue().trim()))));
+            } catch (NumberFormatException e) {
+                Log.aviso("⚠ Regra de timeout inválida: " + PREFIXO_REGRA + item.getKey() + "=" + item.getValue());
+            }
+        }
+        regras.sort(Comparator.comparingInt(Regra::especificidade).reversed());
+
+        // Padrões (sempre avaliados depois das regras configuradas)
+        regras.add(new Regra("GET", "*Listar*", segundos(propriedade, "api.timeout.listagem.segundos", "60")));
+        regras.add(new Regra("GET", "*", segundos(propriedade, "api.timeout.leitura.segundos", "15")));
+        regras.add(new Regra("*", "*", segundos(propriedade, "api.timeout.escrita.segundos", "20")));
+    }
+
+    private static Duration segundos(BinaryOperator<String> propriedade, String chave, String padrao) {
+        return Duration.ofSeconds(Long.parseLong(propriedade.apply(chave, padrao)));
+    }
+
+    /**
+     * Timeout da requisição (tempo total até a resposta)
+     * @param metodo Verbo HTTP
+     * @param endpoint Endpoint da API (sem a barra inicial, pode conter query string)
+     */
+    public Duration timeoutPara(String metodo, String endpoint) {
+        int interrogacao = endpoint.indexOf('?');
+        String caminho = interrogacao >= 0 ? endpoint.substring(0, interrogacao) : endpoint;
+        for (Regra regra : regras) {
+            if (regra.combina(metodo, caminho)) {
+                return regra.timeout;
+            }
+        }
+        return Duration.ofSeconds(30);
+    }
+
+    /**
+     * Regra da tabela: verbo (ou *) + padrão de endpoint com curingas
+     */
+    private static class Regra {
+        final String metodo;
+        final String padrao;
+        final Pattern expressao;
+        final Duration timeout;
+
+        Regra(String metodo, String padrao, Duration timeout) {
+            this.metodo = metodo.toUpperCase();
+            this.padrao = padrao;
+            this.timeout = timeout;
+            String[] partes = padrao.split("\\*", -1);
+            StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < partes.length; i++) {
+                if (i > 0) {
+                    regex.append(".*");
+                }
+                regex.append(Pattern.quote(partes[i]));
+            }
+            this.expressao = Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+        }
+
+        boolean combina(String metodoRequisicao, String caminho) {
+            return ("*".equals(metodo) || metodo.equals(metodoRequisicao))
+                && expressao.matcher(caminho).matches();
+        }
+
+        int especificidade() {
+            int literais = padrao.replace("*", "").length();
+            return literais * 2 + ("*".equals(metodo) ? 0 : 1);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.suptec.services;
+
+import java.time.Duration;
+
+/**
+ * Prazo (deadline) de uma operação composta por várias requisições.
+ *
+ * Criado uma única vez no início da operação e repassado a cada requisição:
+ * o timeout de cada uma é limitado ao tempo que ainda resta, e novas
+ * tentativas não são feitas depois que o prazo acaba. Assim a operação
+ * inteira respeita um limite, em vez de cada requisição ter o seu.
+ */
+public final class Prazo {
+
+    private final long limiteNanos;
+
+    private Prazo(long limiteNanos) {
+        this.limiteNanos = limiteNanos;
+    }
+
+    /**
+     * Prazo que vence daqui a {@code duracao}
+     */
+    public static Prazo em(Duration duracao) {
+        return new Prazo(System.nanoTime() + duracao.toNanos());
+    }
+
+    /**
+     * Tempo restante em ms (0 se já venceu)
+     */
+    public long restanteMillis() {
+        return Math.max(0, (limiteNanos - System.nanoTime()) / 1_000_000);
+    }
+
+    public boolean isEsgotado() {
+        return limiteNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Limita um timeout ao tempo restante do prazo
+     */
+    public Duration limitar(Duration timeout) {
+        Duration restante = Duration.ofMillis(Math.max(1, restanteMillis()));
+        return restante.compareTo(timeout) < 0 ? restante : timeout;
+    }
+
+    @Override
+    public String toString() {
+        return "Prazo[restante=" + restanteMillis() + " ms]";
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.suptec.services;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Agrupamento (single-flight) de requisições GET idênticas e simultâneas.
+ *
+ * Enquanto uma requisição para a mesma chave (token + endpoint) está em
+ * andamento, novas chamadas não acessam a rede: recebem o resultado da
+ * requisição original quando ela terminar. Assim, telas que carregam a mesma
+ * listagem ao mesmo tempo não duplicam downloads pesados.
+ *
+ * A chave é liberada assim que a requisição termina; chamadas posteriores
+ * fazem uma nova requisição (ou usam o {@link HttpCache}).
+ *
+ * Configuração lida do application.properties:
+ * - api.requisicoes.compartilhar: true (padrão) para habilitar
+ */
+public class RequisicoesCompartilhadas {
+
+    private final Map<String, Andamento<?>> emAndamento = new ConcurrentHashMap<>();
+
+    private final AtomicLong originais = new AtomicLong();
+    private final AtomicLong compartilhadas = new AtomicLong();
+
+    /**
+     * Chave de uma requisição GET (mesmo critério do {@link HttpCache})
+     */
+    static String chave(String token, String endpoint) {
+        return (token != null ? token : "") + '\n' + endpoint;
+    }
+
+    /**
+     * Executa a requisição, ou se junta a uma idêntica que já está em andamento
+     * @param chave Identificação da requisição (ver {@link #chave(String, String)})
+     * @param requisicao Inicia a requisição; chamado apenas se não houver outra
+     *                   em andamento para a chave, na própria thread chamadora
+     * @return Futuro com o resultado (compartilhado entre todos os chamadores)
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> executar(String chave, Supplier<CompletableFuture<T>> requisicao) {
+        Andamento<T> novo = new Andamento<>();
+        Andamento<T> existente = (Andamento<T>) emAndamento.putIfAbsent(chave, novo);
+        if (existente != null) {
+            compartilhadas.incrementAndGet();
+            existente.participantes.incrementAndGet();
+            // Cópia: cancelar/completar o futuro recebido não afeta os demais chamadores
+            return existente.futuro.copy();
+        }
+
+        originais.incrementAndGet();
+        CompletableFuture<T> origem;
+        try {
+            origem = requisicao.get();
+        } catch (RuntimeException e) {
+            emAndamento.remove(chave, novo);
+            novo.futuro.completeExceptionally(e);
+            throw e;
+        }
+        origem.whenComplete((resultado, erro) -> {
+            // Libera a chave antes de entregar o resultado, para que quem reagir
+            // a ele com uma nova consulta não receba este mesmo resultado
+            emAndamento.remove(chave, novo);
+            if (erro != null) {
+                novo.futuro.completeExceptionally(erro);
+            } else {
+                novo.futuro.complete(resultado);
+            }
+        });
+        return novo.futuro.copy();
+    }
+
+    /**
+     * Encerra o agrupamento da requisição em andamento: chamadas posteriores
+     * fazem uma nova requisição. Usado quando compartilhar passa a ter custo
+     * (ex: copiar o corpo lido em stream), que só vale a pena se alguém já
+     * estiver aguardando.
+     * @return true se alguma chamada já se juntou à requisição. Uma chamada
+     *         que se junte durante o encerramento pode não ser contada: o
+     *         resultado publicado para ela deve permitir refazer a requisição.
+     */
+    boolean encerrarAgrupamento(String chave) {
+        Andamento<?> andamento = emAndamento.remove(chave);
+        return andamento != null && andamento.participantes.get() > 0;
+    }
+
+    /**
+     * Requisições efetivamente executadas (não atendidas por outra em andamento)
+     */
+    public long getOriginais() {
+        return originais.get();
+    }
+
+    /**
+     * Chamadas atendidas por uma requisição que já estava em andamento
+     */
+    public long getCompartilhadas() {
+        return compartilhadas.get();
+    }
+
+    /**
+     * Requisição em andamento e quantas chamadas se juntaram a ela
+     */
+    private static class Andamento<T> {
+        final CompletableFuture<T> futuro = new CompletableFuture<>();
+        final AtomicInteger participantes = new AtomicInteger();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RequisicoesCompartilhadas[originais=%d, compartilhadas=%d]",
+                getOriginais(), getCompartilhadas());
+    }
+}
@@ -1,7 +1,10 @@
 package br.com.suptec.services;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import br.com.suptec.models.Usuario;
 import br.com.suptec.models.Usuario.TipoUsuario;
@@ -9,7 +12,10 @@ import br.com.suptec.models.api.GerenteResponse;
 import br.com.suptec.models.api.TecnicoResponse;
 import br.com.suptec.models.api.UsuarioResponse;
 import br.com.suptec.services.ApiService.ApiResponse;
+import br.com.suptec.utils.ConfigLoader;
 import br.com.suptec.utils.JsonUtils;
+import br.com.suptec.utils.Log;
+import br.com.suptec.utils.TextoUtils;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -19,11 +25,21 @@ import javafx.collections.ObservableList;
  */
 public class UserManagementService {
     
+    private static final long TIMEOUT_LISTAGEM_SEGUNDOS =
+        Long.parseLong(ConfigLoader.getInstance().getProperty("usuarios.listagem.timeout.segundos", "15"));
+
     private static UserManagementService instance;
     private final ApiService apiService;
 
+    // Última listagem completa, usada pelas buscas (sem novas chamadas à API)
+    private volatile List<Usuario> snapshotUsuarios;
+    private volatile String tokenSnapshot;
+    // Incrementada a cada alteração da cópia local (ver BuscaIncremental)
+    private volatile long versaoSnapshot;
+    private final BuscaIncremental<Usuario> ultimaBusca = new BuscaIncremental<>(Usuario::getChaveBusca);
+
     private UserManagementService() {
-        this.apiService = new ApiService();
+        this.apiService = new ApiService(HttpTransport.getInstance());
     }
     
     public static UserManagementService getInstance() {
@@ -35,129 +51,165 @@ public class UserManagementService {
 
     /**
      * Lista todos os usuários (gerentes, técnicos e usuários comuns) da API
+     * e atualiza a cópia local usada pelas buscas
      * @return Lista observável de usuários
      */
     public ObservableList<Usuario> listarUsuarios() {
-        ObservableList<Usuario> usuarios = FXCollections.observableArrayList();
-
-        try {
-            // Buscar todos os tipos de usuários em paralelo
-            usuarios.addAll(listarGerentes());
-            usuarios.addAll(listarTecnicos());
-            usuarios.addAll(listarUsuariosComuns());
+        return listarUsuariosAsync().join();
+    }
 
-        } catch (Exception e) {
-            System.err.println("✗ Erro ao buscar usuários da API: " + e.getMessage());
+    /**
+     * Retorna a cópia local dos usuários, carregando da API apenas se ainda
+     * não houver uma listagem para o usuário logado
+     */
+    private List<Usuario> obterSnapshot() {
+        List<Usuario> snapshot = snapshotUsuarios;
+        String token = AuthService.getInstance().getTokenAtual();
+        if (snapshot == null || token == null || !token.equals(tokenSnapshot)) {
+            listarUsuarios();
+            snapshot = snapshotUsuarios;
         }
-
-        return usuarios;
+        return snapshot != null ? snapshot : new ArrayList<>();
     }
 
     /**
-     * Lista apenas gerentes
+     * Lista todos os usuários sem bloquear a thread chamadora.
+     * Os três endpoints são consultados em paralelo sob um único prazo
+     * (usuarios.listagem.timeout.segundos) compartilhado pela operação inteira,
+     * incluindo novas tentativas; se algum falhar, os demais resultados são
+     * retornados mesmo assim (listagem parcial).
+     * @return Futuro com a lista observável de usuários
      */
-    private List<Usuario> listarGerentes() {
-        List<Usuario> gerentes = new ArrayList<>();
-        
-        try {
-            // Obter token de autenticação
-            String token = AuthService.getInstance().getTokenAtual();
-            if (token == null || token.isEmpty()) {
-                System.err.println("Erro: Token de autenticação não encontrado para listar gerentes.");
-                return gerentes;
-            }
+    public CompletableFuture<ObservableList<Usuario>> listarUsuariosAsync() {
+        // Obter token de autenticação
+        String token = AuthService.getInstance().getTokenAtual();
+        if (token == null || token.isEmpty()) {
+            Log.erro("Erro: Token de autenticação não encontrado para listar usuários.");
+            return CompletableFuture.completedFuture(FXCollections.observableArrayList());
+        }
 
-            ApiResponse response = apiService.getWithAuth("Gerente/ListarGerentesDesktop", token);
-            if (response.getStatusCode() == 200 && response.getBody() != null) {
-                GerenteResponse[] gerentesResponse = JsonUtils.fromJson(response.getBody(), GerenteResponse[].class);
-                if (gerentesResponse != null) {
-                    for (GerenteResponse gerente : gerentesResponse) {
-                        gerentes.add(mapearGerenteParaUsuario(gerente));
-                    }
+        long inicio = System.nanoTime();
+        Prazo prazo = Prazo.em(Duration.ofSeconds(TIMEOUT_LISTAGEM_SEGUNDOS));
+
+        // Buscar todos os tipos de usuários em paralelo
+        List<CompletableFuture<ResultadoListagem>> pernas = List.of(
+            listarTipo("gerentes", "Gerente/ListarGerentesDesktop", token, prazo, this::converterGerentes),
+            listarTipo("técnicos", "Tecnico/ListarTecnicosDesktop", token, prazo, this::converterTecnicos),
+            listarTipo("usuários", "Usuario/ListarUsuariosDesktop", token, prazo, this::converterUsuariosComuns)
+        );
+
+        return CompletableFuture.allOf(pernas.toArray(new CompletableFuture<?>[0])).thenApply(concluido -> {
+            ObservableList<Usuario> usuarios = FXCollections.observableArrayList();
+            List<String> falhas = new ArrayList<>();
+
+            for (CompletableFuture<ResultadoListagem> perna : pernas) {
+                ResultadoListagem resultado = perna.join();
+                usuarios.addAll(resultado.usuarios);
+                if (!resultado.sucesso) {
+                    falhas.add(resultado.descricao);
                 }
+            }
+
+            long totalMs = (System.nanoTime() - inicio) / 1_000_000;
+            if (falhas.isEmpty()) {
+                Log.info("✓ " + usuarios.size() + " usuários carregados em " + totalMs + " ms");
             } else {
-                System.err.println("Erro ao buscar gerentes. Status: " + response.getStatusCode());
-                if (response.getStatusCode() == 401) {
-                    System.err.println("Token inválido ou expirado. Faça login novamente.");
-                }
+                Log.aviso("⚠ Listagem parcial de usuários em " + totalMs + " ms. Falharam: " + falhas);
             }
-        } catch (Exception e) {
-            System.err.println("Erro ao listar gerentes: " + e.getMessage());
-        }
-        
-        return gerentes;
+
+            // Chaves de busca calculadas na carga, fora da thread de UI
+            usuarios.forEach(Usuario::getChaveBusca);
+            tokenSnapshot = token;
+            snapshotUsuarios = new ArrayList<>(usuarios);
+            versaoSnapshot++;
+            return usuarios;
+        });
     }
 
     /**
-     * Lista apenas técnicos
+     * Consulta um endpoint de listagem dentro do prazo da operação e
+     * registrando o tempo gasto. Nunca completa com erro: falhas resultam em
+     * lista vazia marcada como mal-sucedida.
      */
-    private List<Usuario> listarTecnicos() {
-        List<Usuario> tecnicos = new ArrayList<>();
-        
-        try {
-            // Obter token de autenticação
-            String token = AuthService.getInstance().getTokenAtual();
-            if (token == null || token.isEmpty()) {
-                System.err.println("Erro: Token de autenticação não encontrado para listar técnicos.");
-                return tecnicos;
-            }
-
-            ApiResponse response = apiService.getWithAuth("Tecnico/ListarTecnicosDesktop", token);
-            if (response.getStatusCode() == 200 && response.getBody() != null) {
-                TecnicoResponse[] tecnicosResponse = JsonUtils.fromJson(response.getBody(), TecnicoResponse[].class);
-                if (tecnicosResponse != null) {
-                    for (TecnicoResponse tecnico : tecnicosResponse) {
-                        tecnicos.add(mapearTecnicoParaUsuario(tecnico));
-                    }
+    private CompletableFuture<ResultadoListagem> listarTipo(
+            String descricao, String endpoint, String token, Prazo prazo,
+            Function<String, List<Usuario>> conversor) {
+
+        long inicio = System.nanoTime();
+        return apiService.getWithAuthAsync(endpoint, token, prazo)
+            .thenApply(response -> {
+                if (response.getStatusCode() == 200 && response.getBody() != null) {
+                    return new ResultadoListagem(descricao, conversor.apply(response.getBody()), true);
                 }
-            } else {
-                System.err.println("Erro ao buscar técnicos. Status: " + response.getStatusCode());
+                if (response.isTimeout()) {
+                    // Falhas de rede chegam como status -1, com a causa na resposta
+                    Log.erro("Timeout ao listar " + descricao + " (" + TIMEOUT_LISTAGEM_SEGUNDOS + "s)");
+                    return new ResultadoListagem(descricao, new ArrayList<>(), false);
+                }
+                Log.erro("Erro ao buscar " + descricao + ". Status: " + response.getStatusCode());
                 if (response.getStatusCode() == 401) {
-                    System.err.println("Token inválido ou expirado. Faça login novamente.");
+                    Log.erro("Token inválido ou expirado. Faça login novamente.");
                 }
+                return new ResultadoListagem(descricao, new ArrayList<>(), false);
+            })
+            .exceptionally(e -> {
+                // Erro ao interpretar a resposta (a requisição em si nunca falha)
+                Throwable causa = e.getCause() != null ? e.getCause() : e;
+                Log.erro("Erro ao listar " + descricao + ": " + causa.getMessage());
+                return new ResultadoListagem(descricao, new ArrayList<>(), false);
+            })
+            .whenComplete((resultado, e) -> Log.info(
+                "⏱ Listagem de " + descricao + ": " + (System.nanoTime() - inicio) / 1_000_000 + " ms"));
+    }
+
+    private List<Usuario> converterGerentes(String json) {
+        List<Usuario> gerentes = new ArrayList<>();
+        GerenteResponse[] gerentesResponse = JsonUtils.fromJson(json, GerenteResponse[].class);
+        if (gerentesResponse != null) {
+            for (GerenteResponse gerente : gerentesResponse) {
+                gerentes.add(mapearGerenteParaUsuario(gerente));
             }
-        } catch (Exception e) {
-            System.err.println("Erro ao listar técnicos: " + e.getMessage());
         }
-        
-        return tecnicos;
+        return gerentes;
     }
 
-    /**
-     * Lista apenas usuários comuns
-     */
-    private List<Usuario> listarUsuariosComuns() {
-        List<Usuario> usuariosComuns = new ArrayList<>();
-        
-        try {
-            // Obter token de autenticação
-            String token = AuthService.getInstance().getTokenAtual();
-            if (token == null || token.isEmpty()) {
-                System.err.println("Erro: Token de autenticação não encontrado para listar usuários.");
-                return usuariosComuns;
+    private List<Usuario> converterTecnicos(String json) {
+        List<Usuario> tecnicos = new ArrayList<>();
+        TecnicoResponse[] tecnicosResponse = JsonUtils.fromJson(json, TecnicoResponse[].class);
+        if (tecnicosResponse != null) {
+            for (TecnicoResponse tecnico : tecnicosResponse) {
+                tecnicos.add(mapearTecnicoParaUsuario(tecnico));
             }
+        }
+        return tecnicos;
+    }
 
-            ApiResponse response = apiService.getWithAuth("Usuario/ListarUsuariosDesktop", token);
-            if (response.getStatusCode() == 200 && response.getBody() != null) {
-                UsuarioResponse[] usuariosResponse = JsonUtils.fromJson(response.getBody(), UsuarioResponse[].class);
-                if (usuariosResponse != null) {
-                    for (UsuarioResponse usuario : usuariosResponse) {
-                        usuariosComuns.add(mapearUsuarioComumParaUsuario(usuario));
-                    }
-                }
-            } else {
-                System.err.println("Erro ao buscar usuários. Status: " + response.getStatusCode());
-                if (response.getStatusCode() == 401) {
-                    System.err.println("Token inválido ou expirado. Faça login novamente.");
-                }
+    private List<Usuario> converterUsuariosComuns(String json) {
+        List<Usuario> usuariosComuns = new ArrayList<>();
+        UsuarioResponse[] usuariosResponse = JsonUtils.fromJson(json, UsuarioResponse[].class);
+        if (usuariosResponse != null) {
+            for (UsuarioResponse usuario : usuariosResponse) {
+                usuariosComuns.add(mapearUsuarioComumParaUsuario(usuario));
             }
-        } catch (Exception e) {
-            System.err.println("Erro ao listar usuários comuns: " + e.getMessage());
         }
-        
         return usuariosComuns;
     }
 
+    /**
+     * Resultado de um dos endpoints de listagem
+     */
+    private static class ResultadoListagem {
+        final String descricao;
+        final List<Usuario> usuarios;
+        final boolean sucesso;
+
+        ResultadoListagem(String descricao, List<Usuario> usuarios, boolean sucesso) {
+            this.descricao = descricao;
+            this.usuarios = usuarios;
+            this.sucesso = sucesso;
+        }
+    }
+
     /**
      * Mapeia GerenteResponse para Usuario
      */
@@ -201,46 +253,33 @@ public class UserManagementService {
     }
 
     /**
-     * Busca usuários por nome, email, setor ou especialidade
+     * Busca usuários por nome, email, setor ou especialidade.
+     * Opera sobre a cópia local da última listagem (não consulta a API).
      */
     public ObservableList<Usuario> buscarUsuarios(String termo) {
+        // Lida antes da cópia: se ela mudar no meio, a próxima busca será completa
+        long versao = versaoSnapshot;
+        List<Usuario> todosUsuarios = obterSnapshot();
         if (termo == null || termo.trim().isEmpty()) {
-            return listarUsuarios();
+            return FXCollections.observableArrayList(todosUsuarios);
         }
 
-        String termoLower = termo.toLowerCase().trim();
-        ObservableList<Usuario> todosUsuarios = listarUsuarios();
-        List<Usuario> resultados = new ArrayList<>();
-
-        for (Usuario usuario : todosUsuarios) {
-            if (usuarioMatchesTermo(usuario, termoLower)) {
-                resultados.add(usuario);
-            }
-        }
+        // Termo normalizado uma única vez; as chaves dos usuários já estão prontas.
+        // Se o termo estender o anterior, filtra apenas os resultados anteriores
+        List<Usuario> resultados = ultimaBusca.buscar(versao, TextoUtils.normalizar(termo.trim()),
+            termoNormalizado -> {
+                List<Usuario> encontrados = new ArrayList<>();
+                for (Usuario usuario : todosUsuarios) {
+                    if (usuario.getChaveBusca().contains(termoNormalizado)) {
+                        encontrados.add(usuario);
+                    }
+                }
+                return encontrados;
+            });
 
         return FXCollections.observableArrayList(resultados);
     }
 
-    /**
-     * Verifica se um usuário corresponde ao termo de busca
-     */
-    private boolean usuarioMatchesTermo(Usuario usuario, String termo) {
-        boolean matches = usuario.getNome().toLowerCase().contains(termo) ||
-            usuario.getEmail().toLowerCase().contains(termo) ||
-            usuario.getTipoDescricao().toLowerCase().contains(termo);
-        
-        // Verificar setor ou especialidade dependendo do tipo
-        if (!matches) {
-            if (usuario.getSetor() != null && usuario.getSetor().toLowerCase().contains(termo)) {
-                matches = true;
-            } else if (usuario.getEspecialidade() != null && usuario.getEspecialidade().toLowerCase().contains(termo)) {
-                matches = true;
-            }
-        }
-        
-        return matches;
-    }
-
     /**
      * Exclui um usuário da API usando o endpoint correto baseado no tipo
      * @param usuario Usuário a ser excluído (com ID GUID)
@@ -248,7 +287,7 @@ public class UserManagementService {
      */
     public boolean excluirUsuario(Usuario usuario) {
         if (usuario == null || usuario.getId() == null || usuario.getId().isEmpty()) {
-            System.err.println("✗ Usuário inválido para exclusão (ID nulo ou vazio)");
+            Log.erro("✗ Usuário inválido para exclusão (ID nulo ou vazio)");
             return false;
         }
 
@@ -257,7 +296,7 @@ public class UserManagementService {
         String emailLogado = authService.getEmailUsuarioLogado();
         
         if (emailLogado != null && emailLogado.equalsIgnoreCase(usuario.getEmail())) {
-            System.err.println("✗ Não é permitido excluir o próprio usuário logado");
+            Log.erro("✗ Não é permitido excluir o próprio usuário logado");
             return false;
         }
 
@@ -265,7 +304,7 @@ public class UserManagementService {
             // Obter token de autenticação
             String token = authService.getTokenAtual();
             if (token == null || token.isEmpty()) {
-                System.err.println("✗ Token de autenticação não encontrado. Faça login novamente.");
+                Log.erro("✗ Token de autenticação não encontrado. Faça login novamente.");
                 return false;
             }
 
@@ -275,40 +314,53 @@ public class UserManagementService {
             // Montar URL - Todos usam formato /Excluir/{id}
             String url = endpoint + "/" + usuario.getId();
             
-            System.out.println("🔗 Endpoint de exclusão: " + url);
-            System.out.println("👤 Excluindo usuário: " + usuario.getNome() + " (Tipo: " + usuario.getTipo() + ", ID: " + usuario.getId() + ")");
-            System.out.println("🔑 Token: " + (token != null ? "OK" : "NULO"));
+            Log.debug(() -> "🔗 Endpoint de exclusão: " + url);
+            Log.debug(() -> "👤 Excluindo usuário: " + usuario.getNome() + " (Tipo: " + usuario.getTipo() + ", ID: " + usuario.getId() + ")");
+            Log.debug(() -> "🔑 Token: " + (token != null ? "OK" : "NULO"));
             
             ApiResponse response = apiService.deleteWithAuth(url, token);
             
             if (response.isSuccess()) {
-                System.out.println("✅ Usuário excluído com sucesso da API");
+                Log.info("✅ Usuário excluído com sucesso da API");
+                removerDoSnapshot(usuario);
                 return true;
             } else {
-                System.err.println("✗ Falha ao excluir usuário");
-                System.err.println("  → Status HTTP: " + response.getStatusCode());
-                System.err.println("  → URL usada: " + url);
-                System.err.println("  → Tipo de usuário: " + usuario.getTipo());
+                Log.erro("✗ Falha ao excluir usuário");
+                Log.erro("  → Status HTTP: " + response.getStatusCode());
+                Log.erro("  → URL usada: " + url);
+                Log.erro("  → Tipo de usuário: " + usuario.getTipo());
                 if (response.getStatusCode() == 401) {
-                    System.err.println("  → Token inválido ou expirado. Faça login novamente.");
+                    Log.erro("  → Token inválido ou expirado. Faça login novamente.");
                 } else if (response.getStatusCode() == 403) {
-                    System.err.println("  → Acesso negado. Verifique permissões e formato do endpoint.");
+                    Log.erro("  → Acesso negado. Verifique permissões e formato do endpoint.");
                 } else if (response.getStatusCode() == 404) {
-                    System.err.println("  → Usuário não encontrado ou endpoint incorreto.");
+                    Log.erro("  → Usuário não encontrado ou endpoint incorreto.");
                 }
                 if (response.getBody() != null) {
-                    System.err.println("  → Resposta da API: " + response.getBody());
+                    Log.erro("  → Resposta da API: " + response.getBody());
                 }
                 return false;
             }
             
         } catch (Exception e) {
-            System.err.println("✗ Erro ao excluir usuário: " + e.getMessage());
-            e.printStackTrace();
+            Log.erro("✗ Erro ao excluir usuário: " + e.getMessage(), e);
             return false;
         }
     }
 
+    /**
+     * Remove o usuário excluído da cópia local usada pelas buscas
+     */
+    private void removerDoSnapshot(Usuario usuario) {
+        List<Usuario> snapshot = snapshotUsuarios;
+        if (snapshot != null) {
+            List<Usuario> atualizado = new ArrayList<>(snapshot);
+            atualizado.removeIf(u -> usuario.getId().equals(u.getId()));
+            snapshotUsuarios = atualizado;
+            versaoSnapshot++;
+        }
+    }
+
     /**
      * Retorna o endpoint correto de exclusão baseado no tipo de usuário
      */
@@ -331,7 +383,7 @@ public class UserManagementService {
      */
     public boolean atualizarUsuario(Usuario usuario) {
         if (usuario == null || usuario.getId() == null || usuario.getId().isEmpty()) {
-            System.err.println("✗ Usuário inválido para atualização (ID nulo ou vazio)");
+            Log.erro("✗ Usuário inválido para atualização (ID nulo ou vazio)");
             return false;
         }
 
@@ -340,7 +392,7 @@ public class UserManagementService {
             AuthService authService = AuthService.getInstance();
             String token = authService.getTokenAtual();
             if (token == null || token.isEmpty()) {
-                System.err.println("✗ Token de autenticação não encontrado. Faça login novamente.");
+                Log.erro("✗ Token de autenticação não encontrado. Faça login novamente.");
                 return false;
             }
 
@@ -348,45 +400,47 @@ public class UserManagementService {
             String endpoint = obterEndpointAtualizacao(usuario.getTipo(), usuario.getId());
             
             // Montar JSON baseado no tipo de usuário
-            String jsonBody = montarJsonAtualizacao(usuario);
+            byte[] jsonBody = montarJsonAtualizacao(usuario);
             
             if (jsonBody == null) {
-                System.err.println("✗ Erro ao montar JSON para atualização");
+                Log.erro("✗ Erro ao montar JSON para atualização");
                 return false;
             }
 
-            System.out.println("🔄 Atualizando usuário via API...");
-            System.out.println("  → Endpoint: " + endpoint);
-            System.out.println("  → Tipo: " + usuario.getTipo());
-            System.out.println("  → JSON: " + jsonBody);
-            System.out.println("  → Token: " + (token != null ? "OK" : "NULO"));
+            Log.info("🔄 Atualizando usuário via API...");
+            Log.debug(() -> "  → Endpoint: " + endpoint);
+            Log.debug(() -> "  → Tipo: " + usuario.getTipo());
+            Log.debug(() -> "  → JSON: " + jsonBody.length + " bytes");
+            Log.debug(() -> "  → Token: " + (token != null ? "OK" : "NULO"));
 
             ApiResponse response = apiService.putWithAuth(endpoint, jsonBody, token);
             
             if (response.isSuccess()) {
-                System.out.println("✓ Usuário atualizado com sucesso!");
+                Log.info("✓ Usuário atualizado com sucesso!");
+                // Os dados pesquisáveis podem ter mudado
+                versaoSnapshot++;
                 return true;
             } else {
-                System.err.println("✗ Falha ao atualizar usuário");
-                System.err.println("  → Status HTTP: " + response.getStatusCode());
-                System.err.println("  → Tipo de usuário: " + usuario.getTipo());
+                Log.erro("✗ Falha ao atualizar usuário");
+                Log.erro("  → Status HTTP: " + response.getStatusCode());
+                Log.erro("  → Tipo de usuário: " + usuario.getTipo());
                 if (response.getStatusCode() == 401) {
-                    System.err.println("  → Token inválido ou expirado. Faça login novamente.");
+                    Log.erro("  → Token inválido ou expirado. Faça login novamente.");
                 } else if (response.getStatusCode() == 403) {
-                    System.err.println("  → Acesso negado. Verifique permissões.");
+                    Log.erro("  → Acesso negado. Verifique permissões.");
                 } else if (response.getStatusCode() == 404) {
-                    System.err.println("  → Usuário não encontrado ou endpoint incorreto.");
+                    Log.erro("  → Usuário não encontrado ou endpoint incorreto.");
                 } else if (response.getStatusCode() == 400) {
-                    System.err.println("  → Dados inválidos. Verifique o JSON enviado.");
+                    Log.erro("  → Dados inválidos. Verifique o JSON enviado.");
                 }
                 if (response.getBody() != null) {
-                    System.err.println("  → Resposta da API: " + response.getBody());
+                    Log.erro("  → Resposta da API: " + response.getBody());
                 }
                 return false;
             }
             
         } catch (Exception e) {
-            System.err.println("✗ Erro ao atualizar usuário: " + e.getMessage());
+            Log.erro("✗ Erro ao atualizar usuário: " + e.getMessage());
             return false;
         }
     }
@@ -412,35 +466,36 @@ public class UserManagementService {
      * Formato esperado pela API:
      * - Tecnico: { "nome", "email", "senha", "especialidade", "telefone" }
      * - Gerente/Usuario: { "nome", "email", "senha", "setor", "telefone" }
+     * Escrito em streaming com JsonWriter (valores escapados corretamente)
      */
-    private String montarJsonAtualizacao(Usuario usuario) {
-        StringBuilder json = new StringBuilder();
-        json.append("{");
-        
-        // Campos comuns obrigatórios
-        json.append("\"nome\":\"").append(usuario.getNome()).append("\",");
-        json.append("\"email\":\"").append(usuario.getEmail()).append("\",");
-        json.append("\"telefone\":\"").append(usuario.getTelefone()).append("\"");
-        
-        // Senha (opcional - apenas se fornecida)
-        if (usuario.getSenha() != null && !usuario.getSenha().isEmpty()) {
-            json.append(",\"senha\":\"").append(usuario.getSenha()).append("\"");
-        }
-        
-        // Campos específicos por tipo
-        if (usuario.getTipo() == TipoUsuario.TECNICO) {
-            // Para técnicos: especialidade
-            if (usuario.getEspecialidade() != null && !usuario.getEspecialidade().isEmpty()) {
-                json.append(",\"especialidade\":\"").append(usuario.getEspecialidade()).append("\"");
+    private byte[] montarJsonAtualizacao(Usuario usuario) {
+        return JsonUtils.escreverJson(out -> {
+            out.beginObject();
+
+            // Campos comuns obrigatórios
+            out.name("nome").value(usuario.getNome());
+            out.name("email").value(usuario.getEmail());
+            out.name("telefone").value(usuario.getTelefone());
+
+            // Senha (opcional - apenas se fornecida)
+            if (usuario.getSenha() != null && !usuario.getSenha().isEmpty()) {
+                out.name("senha").value(usuario.getSenha());
             }
-        } else {
-            // Para gerentes e usuários: setor
-            if (usuario.getSetor() != null && !usuario.getSetor().isEmpty()) {
-                json.append(",\"setor\":\"").append(usuario.getSetor()).append("\"");
+
+            // Campos específicos por tipo
+            if (usuario.getTipo() == TipoUsuario.TECNICO) {
+                // Para técnicos: especialidade
+                if (usuario.getEspecialidade() != null && !usuario.getEspecialidade().isEmpty()) {
+                    out.name("especialidade").value(usuario.getEspecialidade());
+                }
+            } else {
+                // Para gerentes e usuários: setor
+                if (usuario.getSetor() != null && !usuario.getSetor().isEmpty()) {
+                    out.name("setor").value(usuario.getSetor());
+                }
             }
-        }
-        
-        json.append("}");
-        return json.toString();
+
+            out.endObject();
+        });
     }
 }
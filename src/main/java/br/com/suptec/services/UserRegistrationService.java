@@ -5,6 +5,7 @@ import br.com.suptec.models.api.TecnicoRequest;
 import br.com.suptec.models.api.UsuarioRequest;
 import br.com.suptec.services.ApiService.ApiResponse;
 import br.com.suptec.utils.JsonUtils;
+import br.com.suptec.utils.Log;
 
 /**
  * Serviço responsável pelo cadastro/registro de novos usuários
@@ -20,7 +21,7 @@ public class UserRegistrationService {
     private final ApiService apiService;
 
     private UserRegistrationService() {
-        this.apiService = new ApiService();
+        this.apiService = new ApiService(HttpTransport.getInstance());
     }
     
     public static UserRegistrationService getInstance() {
@@ -44,7 +45,7 @@ public class UserRegistrationService {
             // Obter token de autenticação
             String token = AuthService.getInstance().getTokenAtual();
             if (token == null || token.isEmpty()) {
-                System.err.println("✗ Token de autenticação não encontrado. Faça login novamente.");
+                Log.erro("✗ Token de autenticação não encontrado. Faça login novamente.");
                 return false;
             }
 
@@ -52,28 +53,28 @@ public class UserRegistrationService {
             String jsonRequest = JsonUtils.toJson(request);
             
             if (jsonRequest == null) {
-                System.err.println("Erro ao serializar requisição de gerente");
+                Log.erro("Erro ao serializar requisição de gerente");
                 return false;
             }
 
-            System.out.println("Cadastrando gerente: " + nome);
+            Log.info("Cadastrando gerente: " + nome);
             ApiResponse response = apiService.postWithAuth("Gerente/Adicionar", jsonRequest, token);
             
             if (response.getStatusCode() == 200 || response.getStatusCode() == 201) {
-                System.out.println("✓ Gerente cadastrado com sucesso!");
+                Log.info("✓ Gerente cadastrado com sucesso!");
                 return true;
             } else {
-                System.err.println("✗ Erro ao cadastrar gerente. Status: " + response.getStatusCode());
+                Log.erro("✗ Erro ao cadastrar gerente. Status: " + response.getStatusCode());
                 if (response.getStatusCode() == 401) {
-                    System.err.println("✗ Token inválido ou expirado. Faça login novamente.");
+                    Log.erro("✗ Token inválido ou expirado. Faça login novamente.");
                 }
                 if (response.getBody() != null) {
-                    System.err.println("Detalhes: " + response.getBody());
+                    Log.erro("Detalhes: " + response.getBody());
                 }
                 return false;
             }
         } catch (Exception e) {
-            System.err.println("✗ Exceção ao cadastrar gerente: " + e.getMessage());
+            Log.erro("✗ Exceção ao cadastrar gerente: " + e.getMessage());
             return false;
         }
     }
@@ -92,7 +93,7 @@ public class UserRegistrationService {
             // Obter token de autenticação
             String token = AuthService.getInstance().getTokenAtual();
             if (token == null || token.isEmpty()) {
-                System.err.println("✗ Token de autenticação não encontrado. Faça login novamente.");
+                Log.erro("✗ Token de autenticação não encontrado. Faça login novamente.");
                 return false;
             }
 
@@ -100,28 +101,28 @@ public class UserRegistrationService {
             String jsonRequest = JsonUtils.toJson(request);
             
             if (jsonRequest == null) {
-                System.err.println("Erro ao serializar requisição de técnico");
+                Log.erro("Erro ao serializar requisição de técnico");
                 return false;
             }
 
-            System.out.println("Cadastrando técnico: " + nome);
+            Log.info("Cadastrando técnico: " + nome);
             ApiResponse response = apiService.postWithAuth("Tecnico/Adicionar", jsonRequest, token);
             
             if (response.getStatusCode() == 200 || response.getStatusCode() == 201) {
-                System.out.println("✓ Técnico cadastrado com sucesso!");
+                Log.info("✓ Técnico cadastrado com sucesso!");
                 return true;
             } else {
-                System.err.println("✗ Erro ao cadastrar técnico. Status: " + response.getStatusCode());
+                Log.erro("✗ Erro ao cadastrar técnico. Status: " + response.getStatusCode());
                 if (response.getStatusCode() == 401) {
-                    System.err.println("✗ Token inválido ou expirado. Faça login novamente.");
+                    Log.erro("✗ Token inválido ou expirado. Faça login novamente.");
                 }
                 if (response.getBody() != null) {
-                    System.err.println("Detalhes: " + response.getBody());
+                    Log.erro("Detalhes: " + response.getBody());
                 }
                 return false;
             }
         } catch (Exception e) {
-            System.err.println("✗ Exceção ao cadastrar técnico: " + e.getMessage());
+            Log.erro("✗ Exceção ao cadastrar técnico: " + e.getMessage());
             return false;
         }
     }
@@ -140,7 +141,7 @@ public class UserRegistrationService {
             // Obter token de autenticação
             String token = AuthService.getInstance().getTokenAtual();
             if (token == null || token.isEmpty()) {
-                System.err.println("✗ Token de autenticação não encontrado. Faça login novamente.");
+                Log.erro("✗ Token de autenticação não encontrado. Faça login novamente.");
                 return false;
             }
 
@@ -148,28 +149,28 @@ public class UserRegistrationService {
             String jsonRequest = JsonUtils.toJson(request);
             
             if (jsonRequest == null) {
-                System.err.println("Erro ao serializar requisição de usuário");
+                Log.erro("Erro ao serializar requisição de usuário");
                 return false;
             }
 
-            System.out.println("Cadastrando usuário: " + nome);
+            Log.info("Cadastrando usuário: " + nome);
             ApiResponse response = apiService.postWithAuth("Usuario/Adicionar", jsonRequest, token);
             
             if (response.getStatusCode() == 200 || response.getStatusCode() == 201) {
-                System.out.println("✓ Usuário cadastrado com sucesso!");
+                Log.info("✓ Usuário cadastrado com sucesso!");
                 return true;
             } else {
-                System.err.println("✗ Erro ao cadastrar usuário. Status: " + response.getStatusCode());
+                Log.erro("✗ Erro ao cadastrar usuário. Status: " + response.getStatusCode());
                 if (response.getStatusCode() == 401) {
-                    System.err.println("✗ Token inválido ou expirado. Faça login novamente.");
+                    Log.erro("✗ Token inválido ou expirado. Faça login novamente.");
                 }
                 if (response.getBody() != null) {
-                    System.err.println("Detalhes: " + response.getBody());
+                    Log.erro("Detalhes: " + response.getBody());
                 }
                 return false;
             }
         } catch (Exception e) {
-            System.err.println("✗ Exceção ao cadastrar usuário: " + e.getMessage());
+            Log.erro("✗ Exceção ao cadastrar usuário: " + e.getMessage());
             return false;
         }
     }
@@ -0,0 +1,93 @@
+package br.com.suptec.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javafx.application.Platform;
+
+/**
+ * Utilitário para execução de tarefas fora da thread de UI (JavaFX Application
+ * Thread) e para publicar os resultados de volta nela.
+ *
+ * Os controllers devem usar {@link #emSegundoPlano(Supplier)} para chamadas
+ * bloqueantes (services) e {@link #naThreadDeUi(CompletableFuture, Consumer, Consumer)}
+ * para atualizar componentes visuais com o resultado.
+ */
+public final class AsyncUtils {
+
+    private static final int TAREFAS_THREADS = Math.max(2,
+        Integer.parseInt(ConfigLoader.getInstance().getProperty("app.tarefas.threads", "2")));
+
+    // Executor limitado para tarefas de segundo plano disparadas pela UI
+    private static final ExecutorService TAREFAS = new ThreadPoolExecutor(
+        TAREFAS_THREADS, TAREFAS_THREADS,
+        30L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        criarThreadFactory("suptec-tarefa"));
+
+    private AsyncUtils() {}
+
+    /**
+     * Cria uma ThreadFactory de threads daemon nomeadas (não impedem o
+     * encerramento da aplicação ao fechar a janela)
+     */
+    public static ThreadFactory criarThreadFactory(String prefixo) {
+        AtomicInteger contador = new AtomicInteger(1);
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefixo + "-" + contador.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Executa uma tarefa bloqueante em segundo plano
+     */
+    public static <T> CompletableFuture<T> emSegundoPlano(Supplier<T> tarefa) {
+        return CompletableFuture.supplyAsync(tarefa, TAREFAS);
+    }
+
+    /**
+     * Executa o código na thread de UI (imediatamente se já estiver nela)
+     */
+    public static void executarNaUi(Runnable acao) {
+        if (Platform.isFxApplicationThread()) {
+            acao.run();
+        } else {
+            Platform.runLater(acao);
+        }
+    }
+
+    /**
+     * Publica o resultado de um CompletableFuture na thread de UI
+     * @param futuro Operação assíncrona
+     * @param aoConcluir Callback executado com o resultado (thread de UI)
+     * @param aoFalhar Callback executado com a causa da falha (thread de UI), pode ser null
+     */
+    public static <T> void naThreadDeUi(CompletableFuture<T> futuro, Consumer<T> aoConcluir, Consumer<Throwable> aoFalhar) {
+        futuro.whenComplete((resultado, erro) -> executarNaUi(() -> {
+            if (erro == null) {
+                aoConcluir.accept(resultado);
+            } else if (aoFalhar != null) {
+                aoFalhar.accept(erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro);
+            } else {
+                Log.erro("Erro em operação assíncrona: " + erro.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Publica o resultado de um CompletableFuture na thread de UI
+     */
+    public static <T> void naThreadDeUi(CompletableFuture<T> futuro, Consumer<T> aoConcluir) {
+        naThreadDeUi(futuro, aoConcluir, null);
+    }
+}
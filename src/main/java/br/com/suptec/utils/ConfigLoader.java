@@ -2,6 +2,8 @@ package br.com.suptec.utils;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public class ConfigLoader {
@@ -56,4 +58,17 @@ public class ConfigLoader {
     public String getProperty(String key, String defaultValue) {
         return properties.getProperty(key, defaultValue);
     }
+
+    /**
+     * Retorna as propriedades cuja chave começa com o prefixo (chave sem o prefixo)
+     */
+    public Map<String, String> getPropertiesComPrefixo(String prefixo) {
+        Map<String, String> resultado = new LinkedHashMap<>();
+        for (String chave : properties.stringPropertyNames()) {
+            if (chave.startsWith(prefixo)) {
+                resultado.put(chave.substring(prefixo.length()), properties.getProperty(chave));
+            }
+        }
+        return resultado;
+    }
 }
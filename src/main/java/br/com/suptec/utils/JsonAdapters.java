@@ -0,0 +1,543 @@
+package br.com.suptec.utils;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import br.com.suptec.models.Chamado;
+import br.com.suptec.models.api.GerenteRequest;
+import br.com.suptec.models.api.GerenteResponse;
+import br.com.suptec.models.api.LoginRequest;
+import br.com.suptec.models.api.LoginResponse;
+import br.com.suptec.models.api.TecnicoRequest;
+import br.com.suptec.models.api.TecnicoResponse;
+import br.com.suptec.models.api.UsuarioRequest;
+import br.com.suptec.models.api.UsuarioResponse;
+
+/**
+ * TypeAdapters escritos à mão para os modelos trocados com a API (respostas
+ * lidas e corpos de requisição enviados).
+ *
+ * Substituem o binding reflexivo do Gson: cada campo é lido diretamente do
+ * {@link JsonReader} por nome, sem reflexão e sem montar a árvore JSON
+ * intermediária. Os nomes dos campos seguem os retornados pela API (os mesmos
+ * declarados com {@code @SerializedName} nos modelos).
+ *
+ * Registrados na instância compartilhada de Gson em {@link JsonUtils}.
+ */
+public final class JsonAdapters {
+
+    private JsonAdapters() {}
+
+    /**
+     * Lê um valor textual aceitando null, números e booleanos (mesmo
+     * comportamento do adapter padrão de String do Gson)
+     */
+    static String lerString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    /**
+     * Chamado (endpoint Chamado/ListarChamados).
+     * Um chamado com valor inválido (ex: data fora do formato ISO) é lido por
+     * completo e descartado: o adapter retorna null para ele.
+     */
+    public static final class ChamadoAdapter extends TypeAdapter<Chamado> {
+        @Override
+        public Chamado read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+
+            Chamado chamado = new Chamado();
+            boolean valido = true;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                String campo = in.nextName();
+                JsonToken token = in.peek();
+                if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+                    in.skipValue();
+                    continue;
+                }
+                switch (campo) {
+                    case "chamadoID":
+                        chamado.setChamadoID(lerString(in));
+                        break;
+                    case "nomeDoUsuario":
+                        chamado.setNomeDoUsuario(lerString(in));
+                        break;
+                    case "emailDoUsuario":
+                        chamado.setEmailDoUsuario(lerString(in));
+                        break;
+                    case "setorDoUsuario":
+                        chamado.setSetorDoUsuario(lerString(in));
+                        break;
+                    case "titulo":
+                        chamado.setTitulo(lerString(in));
+                        break;
+                    case "descricao":
+                        chamado.setDescricao(lerString(in));
+                        break;
+                    case "prioridade":
+                        chamado.setPrioridade(lerString(in));
+                        break;
+                    case "status":
+                        chamado.setStatus(lerString(in));
+                        break;
+                    case "respostaTecnico":
+                        chamado.setRespostaDoTecnico(lerString(in));
+                        break;
+                    case "dataAbertura":
+                        String data = lerString(in);
+                        if (data != null) {
+                            try {
+                                chamado.setDataAbertura(LocalDateTime.parse(data));
+                            } catch (DateTimeParseException e) {
+                                Log.erro("Erro ao parsear chamado: " + e.getMessage());
+                                valido = false;
+                            }
+                        }
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if (!valido) {
+                return null;
+            }
+            chamado.prepararExibicao();
+            return chamado;
+        }
+
+        @Override
+        public void write(JsonWriter out, Chamado chamado) throws IOException {
+            if (chamado == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("chamadoID").value(chamado.getChamadoID());
+            out.name("nomeDoUsuario").value(chamado.getNomeDoUsuario());
+            out.name("emailDoUsuario").value(chamado.getEmailDoUsuario());
+            out.name("setorDoUsuario").value(chamado.getSetorDoUsuario());
+            out.name("titulo").value(chamado.getTitulo());
+            out.name("descricao").value(chamado.getDescricao());
+            out.name("prioridade").value(chamado.getPrioridade());
+            out.name("status").value(chamado.getStatus());
+            out.name("respostaTecnico").value(chamado.getRespostaDoTecnico());
+            out.name("dataAbertura").value(chamado.getDataAbertura() != null ? chamado.getDataAbertura().toString() : null);
+            out.endObject();
+        }
+    }
+
+    /**
+     * GerenteResponse (endpoint Gerente/ListarGerentesDesktop)
+     */
+    public static final class GerenteResponseAdapter extends TypeAdapter<GerenteResponse> {
+        @Override
+        public GerenteResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GerenteResponse gerente = new GerenteResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "gerenteID":
+                        gerente.setId(lerString(in));
+                        break;
+                    case "nome":
+                        gerente.setNome(lerString(in));
+                        break;
+                    case "email":
+                        gerente.setEmail(lerString(in));
+                        break;
+                    case "telefone":
+                        gerente.setTelefone(lerString(in));
+                        break;
+                    case "setor":
+                        gerente.setSetor(lerString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return gerente;
+        }
+
+        @Override
+        public void write(JsonWriter out, GerenteResponse gerente) throws IOException {
+            if (gerente == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("gerenteID").value(gerente.getId());
+            out.name("nome").value(gerente.getNome());
+            out.name("email").value(gerente.getEmail());
+            out.name("telefone").value(gerente.getTelefone());
+            out.name("setor").value(gerente.getSetor());
+            out.endObject();
+        }
+    }
+
+    /**
+     * TecnicoResponse (endpoint Tecnico/ListarTecnicosDesktop)
+     */
+    public static final class TecnicoResponseAdapter extends TypeAdapter<TecnicoResponse> {
+        @Override
+        public TecnicoResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TecnicoResponse tecnico = new TecnicoResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "tecnicoID":
+                        tecnico.setId(lerString(in));
+                        break;
+                    case "nome":
+                        tecnico.setNome(lerString(in));
+                        break;
+                    case "email":
+                        tecnico.setEmail(lerString(in));
+                        break;
+                    case "telefone":
+                        tecnico.setTelefone(lerString(in));
+                        break;
+                    case "especialidade":
+                        tecnico.setEspecialidade(lerString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return tecnico;
+        }
+
+        @Override
+        public void write(JsonWriter out, TecnicoResponse tecnico) throws IOException {
+            if (tecnico == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("tecnicoID").value(tecnico.getId());
+            out.name("nome").value(tecnico.getNome());
+            out.name("email").value(tecnico.getEmail());
+            out.name("telefone").value(tecnico.getTelefone());
+            out.name("especialidade").value(tecnico.getEspecialidade());
+            out.endObject();
+        }
+    }
+
+    /**
+     * UsuarioResponse (endpoint Usuario/ListarUsuariosDesktop)
+     */
+    public static final class UsuarioResponseAdapter extends TypeAdapter<UsuarioResponse> {
+        @Override
+        public UsuarioResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UsuarioResponse usuario = new UsuarioResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "usuarioID":
+                        usuario.setId(lerString(in));
+                        break;
+                    case "nome":
+                        usuario.setNome(lerString(in));
+                        break;
+                    case "email":
+                        usuario.setEmail(lerString(in));
+                        break;
+                    case "telefone":
+                        usuario.setTelefone(lerString(in));
+                        break;
+                    case "setor":
+                        usuario.setSetor(lerString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return usuario;
+        }
+
+        @Override
+        public void write(JsonWriter out, UsuarioResponse usuario) throws IOException {
+            if (usuario == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("usuarioID").value(usuario.getId());
+            out.name("nome").value(usuario.getNome());
+            out.name("email").value(usuario.getEmail());
+            out.name("telefone").value(usuario.getTelefone());
+            out.name("setor").value(usuario.getSetor());
+            out.endObject();
+        }
+    }
+
+    /**
+     * LoginResponse (endpoint AuthDesktop/LoginDesktop)
+     */
+    public static final class LoginResponseAdapter extends TypeAdapter<LoginResponse> {
+        @Override
+        public LoginResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginResponse login = new LoginResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                if ("token".equals(in.nextName())) {
+                    login.setToken(lerString(in));
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return login;
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginResponse login) throws IOException {
+            if (login == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("token").value(login.getToken());
+            out.endObject();
+        }
+    }
+
+    /**
+     * LoginRequest (corpo do POST AuthDesktop/LoginDesktop)
+     */
+    public static final class LoginRequestAdapter extends TypeAdapter<LoginRequest> {
+        @Override
+        public LoginRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginRequest login = new LoginRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "email":
+                        login.setEmail(lerString(in));
+                        break;
+                    case "senha":
+                        login.setSenha(lerString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return login;
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginRequest login) throws IOException {
+            if (login == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("email").value(login.getEmail());
+            out.name("senha").value(login.getSenha());
+            out.endObject();
+        }
+    }
+
+    /**
+     * GerenteRequest (corpo do POST Gerente/Adicionar)
+     */
+    public static final class GerenteRequestAdapter extends TypeAdapter<GerenteRequest> {
+        @Override
+        public GerenteRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GerenteRequest gerente = new GerenteRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "nome":
+                        gerente.setNome(lerString(in));
+                        break;
+                    case "email":
+                        gerente.setEmail(lerString(in));
+                        break;
+                    case "senha":
+                        gerente.setSenha(lerString(in));
+                        break;
+                    case "telefone":
+                        gerente.setTelefone(lerString(in));
+                        break;
+                    case "setor":
+                        gerente.setSetor(lerString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return gerente;
+        }
+
+        @Override
+        public void write(JsonWriter out, GerenteRequest gerente) throws IOException {
+            if (gerente == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("nome").value(gerente.getNome());
+            out.name("email").value(gerente.getEmail());
+            out.name("senha").value(gerente.getSenha());
+            out.name("telefone").value(gerente.getTelefone());
+            out.name("setor").value(gerente.getSetor());
+            out.endObject();
+        }
+    }
+
+    /**
+     * TecnicoRequest (corpo do POST Tecnico/Adicionar)
+     */
+    public static final class TecnicoRequestAdapter extends TypeAdapter<TecnicoRequest> {
+        @Override
+        public TecnicoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TecnicoRequest tecnico = new TecnicoRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "nome":
+                        tecnico.setNome(lerString(in));
+                        break;
+                    case "email":
+                        tecnico.setEmail(lerString(in));
+                        break;
+                    case "senha":
+                        tecnico.setSenha(lerString(in));
+                        break;
+                    case "telefone":
+                        tecnico.setTelefone(lerString(in));
+                        break;
+                    case "especialidade":
+                        tecnico.setEspecialidade(lerString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return tecnico;
+        }
+
+        @Override
+        public void write(JsonWriter out, TecnicoRequest tecnico) throws IOException {
+            if (tecnico == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("nome").value(tecnico.getNome());
+            out.name("email").value(tecnico.getEmail());
+            out.name("senha").value(tecnico.getSenha());
+            out.name("telefone").value(tecnico.getTelefone());
+            out.name("especialidade").value(tecnico.getEspecialidade());
+            out.endObject();
+        }
+    }
+
+    /**
+     * UsuarioRequest (corpo do POST Usuario/Adicionar)
+     */
+    public static final class UsuarioRequestAdapter extends TypeAdapter<UsuarioRequest> {
+        @Override
+        public UsuarioRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UsuarioRequest usuario = new UsuarioRequest();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "nome":
+                        usuario.setNome(lerString(in));
+                        break;
+                    case "email":
+                        usuario.setEmail(lerString(in));
+                        break;
+                    case "senha":
+                        usuario.setSenha(lerString(in));
+                        break;
+                    case "telefone":
+                        usuario.setTelefone(lerString(in));
+                        break;
+                    case "setor":
+                        usuario.setSetor(lerString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return usuario;
+        }
+
+        @Override
+        public void write(JsonWriter out, UsuarioRequest usuario) throws IOException {
+            if (usuario == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("nome").value(usuario.getNome());
+            out.name("email").value(usuario.getEmail());
+            out.name("senha").value(usuario.getSenha());
+            out.name("telefone").value(usuario.getTelefone());
+            out.name("setor").value(usuario.getSetor());
+            out.endObject();
+        }
+    }
+}
@@ -1,13 +1,52 @@
 package br.com.suptec.utils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import br.com.suptec.models.Chamado;
+import br.com.suptec.models.api.GerenteRequest;
+import br.com.suptec.models.api.GerenteResponse;
+import br.com.suptec.models.api.LoginRequest;
+import br.com.suptec.models.api.LoginResponse;
+import br.com.suptec.models.api.TecnicoRequest;
+import br.com.suptec.models.api.TecnicoResponse;
+import br.com.suptec.models.api.UsuarioRequest;
+import br.com.suptec.models.api.UsuarioResponse;
 
 /**
  * Utilitário para manipulação de JSON usando Gson
+ *
+ * A instância compartilhada usa os TypeAdapters de {@link JsonAdapters} para os
+ * modelos da API (leitura e escrita sem reflexão); demais classes usam o binding padrão.
  */
 public class JsonUtils {
-    private static final Gson gson = new Gson();
+    private static final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(Chamado.class, new JsonAdapters.ChamadoAdapter())
+            .registerTypeAdapter(GerenteResponse.class, new JsonAdapters.GerenteResponseAdapter())
+            .registerTypeAdapter(TecnicoResponse.class, new JsonAdapters.TecnicoResponseAdapter())
+            .registerTypeAdapter(UsuarioResponse.class, new JsonAdapters.UsuarioResponseAdapter())
+            .registerTypeAdapter(LoginResponse.class, new JsonAdapters.LoginResponseAdapter())
+            .registerTypeAdapter(LoginRequest.class, new JsonAdapters.LoginRequestAdapter())
+            .registerTypeAdapter(GerenteRequest.class, new JsonAdapters.GerenteRequestAdapter())
+            .registerTypeAdapter(TecnicoRequest.class, new JsonAdapters.TecnicoRequestAdapter())
+            .registerTypeAdapter(UsuarioRequest.class, new JsonAdapters.UsuarioRequestAdapter())
+            .create();
+
+    /**
+     * Retorna o adapter registrado para a classe (para leitura em streaming
+     * com {@link com.google.gson.stream.JsonReader})
+     */
+    public static <T> TypeAdapter<T> getAdapter(Class<T> clazz) {
+        return gson.getAdapter(clazz);
+    }
 
     /**
      * Converte um objeto para JSON
@@ -16,9 +55,37 @@ public class JsonUtils {
         try {
             return gson.toJson(obj);
         } catch (Exception e) {
-            System.err.println("Erro ao converter para JSON: " + e.getMessage());
+            Log.erro("Erro ao converter para JSON: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Serializa JSON diretamente em bytes UTF-8 usando um {@link JsonWriter},
+     * sem montar Strings intermediárias nem a árvore JSON. Os valores são
+     * escapados corretamente (aspas, barras, caracteres de controle).
+     * Campos com valor null são omitidos, como no Gson compartilhado; quem
+     * precisar enviá-los pode reativar com {@link JsonWriter#setSerializeNulls}.
+     * @return Bytes do JSON, ou null em caso de erro
+     */
+    public static byte[] escreverJson(EscritorJson escritor) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(256);
+        try (JsonWriter writer = new JsonWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8))) {
+            writer.setSerializeNulls(false);
+            escritor.escrever(writer);
+        } catch (IOException e) {
+            Log.erro("Erro ao escrever JSON: " + e.getMessage());
             return null;
         }
+        return saida.toByteArray();
+    }
+
+    /**
+     * Escreve um documento JSON em um {@link JsonWriter}
+     */
+    @FunctionalInterface
+    public interface EscritorJson {
+        void escrever(JsonWriter writer) throws IOException;
     }
 
     /**
@@ -28,7 +95,7 @@ public class JsonUtils {
         try {
             return gson.fromJson(json, clazz);
         } catch (JsonSyntaxException e) {
-            System.err.println("Erro ao converter JSON para objeto: " + e.getMessage());
+            Log.erro("Erro ao converter JSON para objeto: " + e.getMessage());
             return null;
         }
     }
@@ -0,0 +1,225 @@
+package br.com.suptec.utils;
+
+import java.io.PrintStream;
+import java.util.function.Supplier;
+
+/**
+ * Fachada de log da aplicação.
+ *
+ * - Níveis (DEBUG, INFO, AVISO, ERRO): mensagens abaixo do nível configurado
+ *   são descartadas antes de qualquer concatenação
+ * - Mensagens caras podem ser passadas como {@link Supplier}, avaliado apenas
+ *   quando o nível está habilitado
+ * - A escrita no console é feita por uma thread própria a partir de um buffer
+ *   circular, de modo que as threads de rede e de UI não esperam pelo I/O do
+ *   console. Se o buffer encher, as mensagens mais antigas são descartadas e
+ *   a quantidade perdida é informada na próxima escrita.
+ *
+ * Configurações lidas do application.properties:
+ * - log.nivel: DEBUG, INFO (padrão), AVISO, ERRO ou DESLIGADO
+ * - log.assincrono: true (padrão) para escrever em segundo plano
+ * - log.buffer.tamanho: capacidade do buffer circular (padrão 1024)
+ */
+public final class Log {
+
+    public enum Nivel { DEBUG, INFO, AVISO, ERRO, DESLIGADO }
+
+    private static final Nivel NIVEL;
+    private static final BufferCircular BUFFER;
+
+    static {
+        ConfigLoader config = ConfigLoader.getInstance();
+        NIVEL = lerNivel(config.getProperty("log.nivel", "INFO"));
+        boolean assincrono = Boolean.parseBoolean(config.getProperty("log.assincrono", "true"));
+        BUFFER = assincrono
+                ? new BufferCircular(Math.max(16, Integer.parseInt(config.getProperty("log.buffer.tamanho", "1024"))))
+                : null;
+    }
+
+    private Log() {}
+
+    private static Nivel lerNivel(String valor) {
+        try {
+            return Nivel.valueOf(valor.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("log.nivel inválido (" + valor + "), usando INFO");
+            return Nivel.INFO;
+        }
+    }
+
+    /**
+     * Verifica se mensagens do nível informado serão registradas
+     */
+    public static boolean isAtivo(Nivel nivel) {
+        return nivel.ordinal() >= NIVEL.ordinal() && nivel != Nivel.DESLIGADO;
+    }
+
+    public static boolean isDebugAtivo() {
+        return isAtivo(Nivel.DEBUG);
+    }
+
+    public static void debug(String mensagem) {
+        registrar(Nivel.DEBUG, mensagem, null);
+    }
+
+    public static void debug(Supplier<String> mensagem) {
+        if (isAtivo(Nivel.DEBUG)) {
+            registrar(Nivel.DEBUG, mensagem.get(), null);
+        }
+    }
+
+    public static void info(String mensagem) {
+        registrar(Nivel.INFO, mensagem, null);
+    }
+
+    public static void info(Supplier<String> mensagem) {
+        if (isAtivo(Nivel.INFO)) {
+            registrar(Nivel.INFO, mensagem.get(), null);
+        }
+    }
+
+    public static void aviso(String mensagem) {
+        registrar(Nivel.AVISO, mensagem, null);
+    }
+
+    public static void erro(String mensagem) {
+        registrar(Nivel.ERRO, mensagem, null);
+    }
+
+    /**
+     * Registra um erro junto com o stack trace da exceção
+     */
+    public static void erro(String mensagem, Throwable erro) {
+        registrar(Nivel.ERRO, mensagem, erro);
+    }
+
+    /**
+     * Aguarda a escrita das mensagens pendentes no buffer
+     */
+    public static void descarregar() {
+        if (BUFFER != null) {
+            BUFFER.descarregar();
+        }
+    }
+
+    private static void registrar(Nivel nivel, String mensagem, Throwable erro) {
+        if (!isAtivo(nivel)) {
+            return;
+        }
+        if (BUFFER != null) {
+            BUFFER.adicionar(nivel, mensagem, erro);
+        } else {
+            escrever(nivel, mensagem, erro);
+        }
+    }
+
+    private static void escrever(Nivel nivel, String mensagem, Throwable erro) {
+        // AVISO e ERRO vão para o stderr, como os System.err.println de antes
+        PrintStream saida = nivel.ordinal() >= Nivel.AVISO.ordinal() ? System.err : System.out;
+        saida.println(mensagem);
+        if (erro != null) {
+            erro.printStackTrace(saida);
+        }
+    }
+
+    /**
+     * Buffer circular de tamanho fixo consumido por uma única thread escritora
+     */
+    private static final class BufferCircular implements Runnable {
+
+        private final Nivel[] niveis;
+        private final String[] mensagens;
+        private final Throwable[] erros;
+        private int inicio;
+        private int tamanho;
+        private long descartadas;
+        private boolean escrevendo;
+
+        BufferCircular(int capacidade) {
+            this.niveis = new Nivel[capacidade];
+            this.mensagens = new String[capacidade];
+            this.erros = new Throwable[capacidade];
+
+            Thread escritora = AsyncUtils.criarThreadFactory("suptec-log").newThread(this);
+            escritora.setPriority(Thread.MIN_PRIORITY);
+            escritora.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(this::descarregar, "suptec-log-final"));
+        }
+
+        synchronized void adicionar(Nivel nivel, String mensagem, Throwable erro) {
+            int capacidade = mensagens.length;
+            if (tamanho == capacidade) {
+                // Cheio: sobrescreve a mensagem mais antiga
+                inicio = (inicio + 1) % capacidade;
+                tamanho--;
+                descartadas++;
+            }
+            int posicao = (inicio + tamanho) % capacidade;
+            niveis[posicao] = nivel;
+            mensagens[posicao] = mensagem;
+            erros[posicao] = erro;
+            tamanho++;
+            notifyAll();
+        }
+
+        synchronized void descarregar() {
+            long limite = System.currentTimeMillis() + 2000;
+            while ((tamanho > 0 || escrevendo) && System.currentTimeMillis() < limite) {
+                try {
+                    wait(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int capacidade = mensagens.length;
+            Nivel[] loteNiveis = new Nivel[capacidade];
+            String[] loteMensagens = new String[capacidade];
+            Throwable[] loteErros = new Throwable[capacidade];
+
+            while (true) {
+                int quantidade;
+                long perdidas;
+                synchronized (this) {
+                    escrevendo = false;
+                    notifyAll();
+                    while (tamanho == 0) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                    // Copia o lote e libera o buffer antes de escrever no console
+                    quantidade = tamanho;
+                    for (int i = 0; i < quantidade; i++) {
+                        int posicao = (inicio + i) % capacidade;
+                        loteNiveis[i] = niveis[posicao];
+                        loteMensagens[i] = mensagens[posicao];
+                        loteErros[i] = erros[posicao];
+                        mensagens[posicao] = null;
+                        erros[posicao] = null;
+                    }
+                    inicio = (inicio + quantidade) % capacidade;
+                    tamanho = 0;
+                    perdidas = descartadas;
+                    descartadas = 0;
+                    escrevendo = true;
+                }
+
+                if (perdidas > 0) {
+                    System.err.println("⚠ " + perdidas + " mensagens de log descartadas (buffer cheio)");
+                }
+                for (int i = 0; i < quantidade; i++) {
+                    escrever(loteNiveis[i], loteMensagens[i], loteErros[i]);
+                    loteMensagens[i] = null;
+                    loteErros[i] = null;
+                }
+            }
+        }
+    }
+}
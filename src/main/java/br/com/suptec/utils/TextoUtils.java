@@ -0,0 +1,77 @@
+package br.com.suptec.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de textos para busca e comparação em português.
+ *
+ * Remove acentos e cedilha (decomposição NFD + descarte das marcas
+ * combinantes) e converte para minúsculas, de modo que "Média", "MEDIA" e
+ * "media" resultam na mesma chave. Textos só com caracteres ASCII, o caso
+ * mais comum, não passam pelo Normalizer.
+ */
+public class TextoUtils {
+
+    /**
+     * Separa os campos em uma chave de busca com vários campos
+     * (não aparece em termos digitados, portanto não gera falsos acertos)
+     */
+    public static final char SEPARADOR = '\u0001';
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+
+    private TextoUtils() {
+    }
+
+    /**
+     * Texto sem acentos e em minúsculas
+     * @param texto Texto original (null resulta em "")
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        if (isAscii(texto)) {
+            return texto.toLowerCase(Locale.ROOT);
+        }
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        return MARCAS.matcher(decomposto).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Chave de busca de um registro: os campos normalizados, separados por
+     * {@link #SEPARADOR}. Um termo normalizado "casa" com o registro se
+     * estiver contido na chave.
+     */
+    public static String chaveBusca(String... campos) {
+        StringBuilder chave = new StringBuilder();
+        for (String campo : campos) {
+            if (campo != null) {
+                chave.append(normalizar(campo));
+            }
+            chave.append(SEPARADOR);
+        }
+        return chave.toString();
+    }
+
+    /**
+     * Compara dois textos ignorando acentos e maiúsculas/minúsculas
+     */
+    public static boolean equivalentes(String a, String b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return normalizar(a).equals(normalizar(b));
+    }
+
+    private static boolean isAscii(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.suptec.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.property.ReadOnlyStringProperty;
+
+class ChamadoTest {
+
+    private static Chamado chamado() {
+        Chamado chamado = new Chamado();
+        chamado.setChamadoID("1");
+        chamado.setTitulo("Impressora sem toner");
+        chamado.setStatus("Aberto");
+        return chamado;
+    }
+
+    @Test
+    void atualizarExibicaoPublicaOsNovosValoresNasPropriedadesExistentes() {
+        Chamado chamado = chamado();
+        ReadOnlyStringProperty titulo = chamado.propriedade(Chamado.Coluna.TITULO);
+        ReadOnlyStringProperty status = chamado.propriedade(Chamado.Coluna.STATUS);
+        List<String> notificados = new ArrayList<>();
+        titulo.addListener((obs, antigo, novo) -> notificados.add(novo));
+
+        chamado.setTitulo("Impressora com toner");
+        chamado.setStatus("Fechado");
+        // Setters (fora da thread de UI) não tocam nas propriedades ligadas às células
+        assertEquals("Impressora sem toner", titulo.get());
+
+        chamado.atualizarExibicao();
+
+        assertEquals("Impressora com toner", titulo.get());
+        assertEquals("Fechado", status.get());
+        assertEquals(List.of("Impressora com toner"), notificados);
+
+        // Sem nova alteração não há nova notificação
+        chamado.atualizarExibicao();
+        assertEquals(1, notificados.size());
+    }
+
+    @Test
+    void chamadoNuncaExibidoNaoCriaPropriedades() {
+        Chamado chamado = chamado();
+        assertFalse(chamado.isExibido());
+
+        chamado.setTitulo("Outro");
+        chamado.atualizarExibicao();
+        assertFalse(chamado.isExibido());
+
+        assertEquals("Outro", chamado.propriedade(Chamado.Coluna.TITULO).get());
+        assertTrue(chamado.isExibido());
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.suptec.utils.TextoUtils;
+
+class BuscaIncrementalTest {
+
+    private final List<String> dados = List.of(
+        TextoUtils.chaveBusca("Impressora", "Financeiro"),
+        TextoUtils.chaveBusca("Impressão de boletos", "Comercial"),
+        TextoUtils.chaveBusca("Monitor", "Financeiro"));
+
+    private final AtomicInteger completas = new AtomicInteger();
+
+    private final Function<String, List<String>> buscaCompleta = termo -> {
+        completas.incrementAndGet();
+        List<String> resultados = new ArrayList<>();
+        for (String chave : dados) {
+            if (chave.contains(termo)) {
+                resultados.add(chave);
+            }
+        }
+        return resultados;
+    };
+
+    @Test
+    void termoEstendidoRefinaOResultadoAnterior() {
+        BuscaIncremental<String> busca = new BuscaIncremental<>(Function.identity());
+        assertEquals(2, busca.buscar(1, "impr", buscaCompleta).size());
+        assertEquals(1, completas.get());
+
+        assertEquals(2, busca.buscar(1, "impre", buscaCompleta).size());
+        assertEquals(List.of(dados.get(0)), busca.buscar(1, "impresso", buscaCompleta));
+        // Nenhuma das buscas acima precisou percorrer todos os dados
+        assertEquals(1, completas.get());
+    }
+
+    @Test
+    void termoTrocadoOuApagadoFazBuscaCompleta() {
+        BuscaIncremental<String> busca = new BuscaIncremental<>(Function.identity());
+        busca.buscar(1, "impre", buscaCompleta);
+        assertEquals(3, busca.buscar(1, "i", buscaCompleta).size());
+        assertEquals(List.of(dados.get(1)), busca.buscar(1, "boleto", buscaCompleta));
+        assertEquals(3, completas.get());
+    }
+
+    @Test
+    void dadosAlteradosFazemBuscaCompleta() {
+        BuscaIncremental<String> busca = new BuscaIncremental<>(Function.identity());
+        busca.buscar(1, "fin", buscaCompleta);
+        busca.buscar(2, "finan", buscaCompleta);
+        assertEquals(2, completas.get());
+    }
+
+    @Test
+    void termoComSeparadorNaoEhRefinado() {
+        BuscaIncremental<String> busca = new BuscaIncremental<>(Function.identity());
+        busca.buscar(1, "ra", buscaCompleta);
+        busca.buscar(1, "ra" + TextoUtils.SEPARADOR, buscaCompleta);
+        assertEquals(2, completas.get());
+    }
+
+    @Test
+    void limparEsqueceAUltimaBusca() {
+        BuscaIncremental<String> busca = new BuscaIncremental<>(Function.identity());
+        busca.buscar(1, "impr", buscaCompleta);
+        busca.limpar();
+        busca.buscar(1, "impre", buscaCompleta);
+        assertEquals(2, completas.get());
+    }
+}
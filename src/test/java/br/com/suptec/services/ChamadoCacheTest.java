@@ -0,0 +1,97 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.suptec.models.Chamado;
+
+class ChamadoCacheTest {
+
+    private static final String TOKEN = "token";
+    private static final long UMA_HORA = 3_600_000L;
+
+    private static Chamado chamado(String id, String titulo) {
+        Chamado chamado = new Chamado();
+        chamado.setChamadoID(id);
+        chamado.setTitulo(titulo);
+        chamado.setStatus("Aberto");
+        return chamado;
+    }
+
+    private static List<String> ids(List<Chamado> chamados) {
+        return chamados.stream().map(Chamado::getChamadoID).toList();
+    }
+
+    private static ChamadoCache carregado() {
+        ChamadoCache cache = new ChamadoCache(60);
+        cache.substituir(List.of(chamado("1", "Impressora sem toner"), chamado("2", "Monitor piscando"),
+            chamado("3", "Teclado quebrado")), TOKEN, "m1");
+        return cache;
+    }
+
+    @Test
+    void mesclarAplicaAlteradosNovosEExcluidos() {
+        ChamadoCache cache = carregado();
+
+        assertTrue(cache.mesclar(List.of(chamado("2", "Monitor trocado"), chamado("4", "Mouse sem fio")),
+            List.of("3"), TOKEN, "m2"));
+
+        // Alterados mantêm a posição; novos entram no fim
+        assertEquals(List.of("1", "2", "4"), ids(cache.listar()));
+        assertEquals("Monitor trocado", cache.listar().get(1).getTitulo());
+        assertFalse(cache.contem("3"));
+        assertEquals("m2", cache.getMarcaSincronizacao(TOKEN, UMA_HORA));
+    }
+
+    @Test
+    void mesclarAtualizaOIndiceDeBusca() {
+        ChamadoCache cache = carregado();
+        // Índice montado antes da mesclagem: atualizado incrementalmente
+        cache.prepararIndice();
+        assertEquals(List.of("3"), ids(cache.buscar("teclado")));
+
+        cache.mesclar(List.of(chamado("2", "Monitor trocado"), chamado("4", "Mouse sem fio")),
+            List.of("3"), TOKEN, "m2");
+
+        assertTrue(cache.buscar("teclado").isEmpty());
+        assertTrue(cache.buscar("piscando").isEmpty());
+        assertEquals(List.of("2"), ids(cache.buscar("trocado")));
+        assertEquals(List.of("4"), ids(cache.buscar("mouse")));
+    }
+
+    @Test
+    void mesclarExcluidoInexistenteNaoFalha() {
+        ChamadoCache cache = carregado();
+
+        assertTrue(cache.mesclar(List.of(), List.of("99"), TOKEN, null));
+
+        assertEquals(List.of("1", "2", "3"), ids(cache.listar()));
+        // Sem nova marca a próxima listagem é completa
+        assertNull(cache.getMarcaSincronizacao(TOKEN, UMA_HORA));
+    }
+
+    @Test
+    void mesclarRecusaCacheDeOutroTokenOuDescartado() {
+        ChamadoCache cache = carregado();
+        assertFalse(cache.mesclar(List.of(chamado("4", "Mouse")), List.of(), "outro-token", "m2"));
+
+        cache.invalidar();
+        assertFalse(cache.mesclar(List.of(chamado("4", "Mouse")), List.of(), TOKEN, "m2"));
+        assertTrue(cache.listar().isEmpty());
+    }
+
+    @Test
+    void marcaExpiraAposOIntervaloDaListagemCompleta() {
+        ChamadoCache cache = carregado();
+
+        assertEquals("m1", cache.getMarcaSincronizacao(TOKEN, UMA_HORA));
+        assertNull(cache.getMarcaSincronizacao(TOKEN, 0));
+        assertNull(cache.getMarcaSincronizacao("outro-token", UMA_HORA));
+    }
+}
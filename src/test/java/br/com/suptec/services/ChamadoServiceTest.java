@@ -0,0 +1,263 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpHandler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.suptec.models.Chamado;
+import br.com.suptec.services.ChamadoService.ResultadoEscrita;
+
+class ChamadoServiceTest {
+
+    private static final String LISTAGEM = "Chamado/ListarChamados";
+
+    private static final String DOIS_CHAMADOS = "["
+        + "{\"chamadoID\":\"1\",\"titulo\":\"Impressora sem toner\",\"prioridade\":\"Alta\",\"status\":\"Aberto\"},"
+        + "{\"chamadoID\":\"2\",\"titulo\":\"Monitor piscando\",\"prioridade\":\"Baixa\",\"status\":\"Aberto\"}"
+        + "]";
+
+    @TempDir
+    Path diretorio;
+
+    private ServidorStub servidor;
+
+    @BeforeEach
+    void iniciarServidor() throws IOException {
+        servidor = new ServidorStub();
+    }
+
+    @AfterEach
+    void pararServidor() {
+        servidor.close();
+    }
+
+    private ChamadoService servico(Map<String, String> configuracoes) {
+        Map<String, String> config = new HashMap<>();
+        config.put("chamados.snapshot.ativo", "false");
+        config.put("chamados.fila.offline.ativo", "false");
+        config.putAll(configuracoes);
+        return new ChamadoService(servidor.apiService(), config::getOrDefault, servidor.baseUrl(), diretorio,
+            () -> "token-de-teste-com-mais-de-vinte-caracteres", () -> "tecnico@suptec.com");
+    }
+
+    private static List<String> ids(List<Chamado> chamados) {
+        return chamados.stream().map(Chamado::getChamadoID).toList();
+    }
+
+    @Test
+    void buscaNuncaConsultaApi() {
+        servidor.rota(LISTAGEM, troca ->
+            ServidorStub.responder(troca, 200, DOIS_CHAMADOS.getBytes(StandardCharsets.UTF_8)));
+        // TTL zero: a cópia local vence assim que é carregada
+        ChamadoService service = servico(Map.of("chamados.cache.ttl.segundos", "0"));
+
+        // Sem cópia local a busca não tem o que pesquisar, mas não baixa a lista
+        assertTrue(service.buscarChamados("impressora").isEmpty());
+        assertTrue(service.filtrarPorPrioridade("Alta").isEmpty());
+        assertEquals(0, servidor.requisicoes(LISTAGEM).size());
+
+        assertEquals(2, service.listarChamadosAsync().join().size());
+        assertEquals(1, servidor.requisicoes(LISTAGEM).size());
+
+        assertEquals(List.of("1"), ids(service.buscarChamados("impressora")));
+        assertEquals(List.of("2"), ids(service.buscarChamados("monitor")));
+        assertEquals(List.of("1", "2"), ids(service.buscarChamados("")));
+        assertEquals(List.of("1"), ids(service.filtrarPorPrioridade("Alta")));
+        assertEquals(1, servidor.requisicoes(LISTAGEM).size());
+    }
+
+    @Test
+    void listagemInalteradaRespondeComACopiaLocal() {
+        servidor.rota(LISTAGEM, troca -> {
+            if ("\"v1\"".equals(troca.getRequestHeaders().getFirst("If-None-Match"))) {
+                ServidorStub.responder(troca, 304, new byte[0], "ETag", "\"v1\"");
+            } else {
+                ServidorStub.responder(troca, 200, DOIS_CHAMADOS.getBytes(StandardCharsets.UTF_8), "ETag", "\"v1\"");
+            }
+        });
+        ChamadoService service = servico(Map.of());
+
+        List<Chamado> primeira = service.listarChamadosAsync(true).join();
+        List<Chamado> segunda = service.listarChamadosAsync(true).join();
+
+        assertEquals(List.of("1", "2"), ids(segunda));
+        // A cópia local é mantida: os mesmos objetos exibidos na tabela
+        assertSame(primeira.get(0), segunda.get(0));
+        List<ServidorStub.Requisicao> requisicoes = servidor.requisicoes(LISTAGEM);
+        assertEquals(2, requisicoes.size());
+        assertEquals("\"v1\"", requisicoes.get(1).cabecalhos.getFirst("If-None-Match"));
+    }
+
+    /**
+     * API com sincronização incremental: listagem completa com a marca m1 e,
+     * a partir dela, o chamado 2 alterado, o 4 novo e o 3 excluído (marca m2)
+     */
+    private void rotaIncremental() {
+        servidor.rota(LISTAGEM, troca -> {
+            String query = troca.getRequestURI().getRawQuery();
+            String corpo;
+            if (query == null) {
+                corpo = "{\"chamados\":["
+                    + "{\"chamadoID\":\"1\",\"titulo\":\"Impressora sem toner\"},"
+                    + "{\"chamadoID\":\"2\",\"titulo\":\"Monitor piscando\"},"
+                    + "{\"chamadoID\":\"3\",\"titulo\":\"Teclado quebrado\"}"
+                    + "],\"marca\":\"m1\"}";
+            } else if (query.equals("desde=m1")) {
+                corpo = "{\"chamados\":["
+                    + "{\"chamadoID\":\"2\",\"titulo\":\"Monitor trocado\"},"
+                    + "{\"chamadoID\":\"4\",\"titulo\":\"Mouse sem fio\"}"
+                    + "],\"excluidos\":[\"3\"],\"marca\":\"m2\"}";
+            } else {
+                corpo = "{\"chamados\":[],\"excluidos\":[],\"marca\":\"m2\"}";
+            }
+            ServidorStub.responder(troca, 200, corpo.getBytes(StandardCharsets.UTF_8));
+        });
+    }
+
+    @Test
+    void sincronizacaoIncrementalMesclaAlteradosEExcluidos() {
+        rotaIncremental();
+        ChamadoService service = servico(Map.of("chamados.sync.incremental", "true"));
+
+        assertEquals(List.of("1", "2", "3"), ids(service.listarChamadosAsync(true).join()));
+        List<Chamado> mesclados = service.listarChamadosAsync(true).join();
+        service.listarChamadosAsync(true).join();
+
+        assertEquals(List.of("1", "2", "4"), ids(mesclados));
+        assertEquals("Monitor trocado", mesclados.get(1).getTitulo());
+        assertEquals(List.of("2"), ids(service.buscarChamados("trocado")));
+        assertTrue(service.buscarChamados("teclado").isEmpty());
+
+        List<ServidorStub.Requisicao> requisicoes = servidor.requisicoes(LISTAGEM);
+        assertEquals(3, requisicoes.size());
+        assertNull(requisicoes.get(0).query);
+        assertEquals("desde=m1", requisicoes.get(1).query);
+        assertEquals("desde=m2", requisicoes.get(2).query);
+    }
+
+    @Test
+    void listagemCompletaNoFormatoComMarcaEntregaOsLotes() {
+        rotaIncremental();
+        ChamadoService service = servico(Map.of("chamados.sync.incremental", "true"));
+        List<Chamado> recebidos = new ArrayList<>();
+
+        service.listarChamadosAsync(true, recebidos::addAll).join();
+
+        assertEquals(List.of("1", "2", "3"), ids(recebidos));
+    }
+
+    @Test
+    void semSincronizacaoIncrementalAListagemESempreCompleta() {
+        rotaIncremental();
+        ChamadoService service = servico(Map.of());
+
+        service.listarChamadosAsync(true).join();
+        assertEquals(List.of("1", "2", "3"), ids(service.listarChamadosAsync(true).join()));
+
+        for (ServidorStub.Requisicao requisicao : servidor.requisicoes(LISTAGEM)) {
+            assertNull(requisicao.query);
+        }
+    }
+
+    @Test
+    void apiQueIgnoraOParametroDesdeSubstituiAListagem() {
+        servidor.rota(LISTAGEM, troca -> {
+            String corpo = troca.getRequestURI().getRawQuery() == null
+                ? "{\"chamados\":[{\"chamadoID\":\"1\",\"titulo\":\"Impressora\"}],\"marca\":\"m1\"}"
+                : DOIS_CHAMADOS;
+            ServidorStub.responder(troca, 200, corpo.getBytes(StandardCharsets.UTF_8));
+        });
+        ChamadoService service = servico(Map.of("chamados.sync.incremental", "true"));
+
+        service.listarChamadosAsync(true).join();
+        assertEquals(List.of("1", "2"), ids(service.listarChamadosAsync(true).join()));
+        // O array não traz marca: a próxima listagem volta a ser completa
+        service.listarChamadosAsync(true).join();
+
+        List<ServidorStub.Requisicao> requisicoes = servidor.requisicoes(LISTAGEM);
+        assertEquals("desde=m1", requisicoes.get(1).query);
+        assertNull(requisicoes.get(2).query);
+    }
+
+    private static Chamado chamado(String id, String titulo) {
+        Chamado chamado = new Chamado();
+        chamado.setChamadoID(id);
+        chamado.setTitulo(titulo);
+        chamado.setStatus("Aberto");
+        return chamado;
+    }
+
+    @Test
+    void reenviaAsEscritasPendentesQuandoAApiVolta() {
+        AtomicBoolean apiNoAr = new AtomicBoolean(false);
+        HttpHandler escrita = troca -> ServidorStub.responder(troca, apiNoAr.get() ? 200 : 503, new byte[0]);
+        servidor.rota("Chamado/Editar/1", escrita);
+        servidor.rota("Chamado/Excluir/2", escrita);
+        // Rejeitada como conflito ao ser reenviada
+        servidor.rota("Chamado/Editar/3", troca -> ServidorStub.responder(troca, apiNoAr.get() ? 409 : 503, new byte[0]));
+        ChamadoService service = servico(Map.of(
+            "chamados.fila.offline.ativo", "true",
+            "chamados.fila.reenvio.segundos", "3600"));
+        List<FilaEscritas.Conflito> conflitos = new CopyOnWriteArrayList<>();
+        service.setAoDetectarConflito(conflitos::add);
+
+        assertEquals(ResultadoEscrita.PENDENTE, service.atualizarChamadoAsync(chamado("1", "Novo título")).join());
+        assertEquals(ResultadoEscrita.PENDENTE, service.excluirChamadoAsync(chamado("2", "Excluído")).join());
+        assertEquals(ResultadoEscrita.PENDENTE, service.atualizarChamadoAsync(chamado("3", "Rejeitado")).join());
+
+        // API ainda fora do ar: para na primeira escrita
+        assertEquals(0, service.reenviarPendentesAsync().join());
+        assertEquals(3, service.getTotalPendentes());
+        assertEquals(2, servidor.requisicoes("Chamado/Editar/1").size());
+        assertEquals(1, servidor.requisicoes("Chamado/Excluir/2").size());
+
+        apiNoAr.set(true);
+        assertEquals(2, service.reenviarPendentesAsync().join());
+
+        assertEquals(0, service.getTotalPendentes());
+        assertEquals(1, conflitos.size());
+        assertEquals("3", conflitos.get(0).chamadoID);
+        assertEquals(2, servidor.requisicoes("Chamado/Excluir/2").size());
+        assertEquals(2, servidor.requisicoes("Chamado/Editar/3").size());
+    }
+
+    @Test
+    void edicaoEnviaOMesmoJsonDoFormatoOriginal() {
+        servidor.rota("Chamado/Editar/1", troca -> ServidorStub.responder(troca, 200, new byte[0]));
+        ChamadoService service = servico(Map.of());
+        Chamado chamado = chamado("1", "Impressora \"HP\"");
+        chamado.setRespostaDoTecnico("Toner trocado");
+
+        assertEquals(ResultadoEscrita.ENVIADA, service.atualizarChamadoAsync(chamado).join());
+
+        // Formato original, montado com JsonObject: descricao e prioridade null explícitos
+        JsonObject esperado = new JsonObject();
+        esperado.addProperty("chamadoID", "1");
+        esperado.addProperty("titulo", "Impressora \"HP\"");
+        esperado.addProperty("descricao", (String) null);
+        esperado.addProperty("prioridade", (String) null);
+        esperado.addProperty("status", "Aberto");
+        esperado.addProperty("respostaTecnico", "Toner trocado");
+        byte[] enviado = servidor.requisicoes("Chamado/Editar/1").get(0).corpo;
+        assertEquals(esperado.toString(), new String(enviado, StandardCharsets.UTF_8));
+    }
+}
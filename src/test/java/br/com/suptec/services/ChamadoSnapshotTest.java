@@ -0,0 +1,146 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.suptec.models.Chamado;
+
+class ChamadoSnapshotTest {
+
+    private static final String API = "http://localhost:5000/api/";
+    private static final String USUARIO = "gerente@suptec.com";
+
+    @TempDir
+    Path diretorio;
+
+    private static List<Chamado> chamados() {
+        String descricaoLonga = String.join("", Collections.nCopies(70_000, "é"));
+        return Arrays.asList(
+            new Chamado("1", "Ana", "ana@suptec.com", "Financeiro", "Impressora", descricaoLonga,
+                "Alta", "Aberto", null, LocalDateTime.of(2024, 3, 5, 14, 30, 15, 123_000_000)),
+            new Chamado("2", "Bruno", null, null, "Acesso à VPN", "Sem conexão",
+                "Baixa", "Fechado", "Resolvido", null));
+    }
+
+    /**
+     * Grava e espera o arquivo aparecer (a gravação é em segundo plano; o
+     * .bin só existe depois que o temporário é renomeado)
+     */
+    private void salvarEAguardar(ChamadoSnapshot snapshot, Supplier<ChamadoSnapshot.Conteudo> conteudo)
+            throws InterruptedException {
+        snapshot.salvarAsync(API, USUARIO, conteudo, 0);
+        aguardarArquivo();
+    }
+
+    private void aguardarArquivo() throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5_000;
+        while (arquivos() == 0 && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+    }
+
+    private long arquivos() {
+        try (var lista = Files.list(diretorio)) {
+            return lista.filter(p -> p.toString().endsWith(".bin")).count();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    @Test
+    void copiaGravadaEhLidaIgual() throws InterruptedException {
+        ChamadoSnapshot snapshot = new ChamadoSnapshot(diretorio);
+        List<Chamado> originais = chamados();
+        salvarEAguardar(snapshot, () -> new ChamadoSnapshot.Conteudo(originais, "marca-42", 1234L));
+
+        ChamadoSnapshot.Conteudo lido = snapshot.carregar(API, " Gerente@Suptec.com ");
+        assertNotNull(lido);
+        assertEquals("marca-42", lido.marca);
+        assertEquals(1234L, lido.ultimaCargaCompleta);
+        assertTrue(lido.salvoEm > 0);
+        assertEquals(originais.size(), lido.chamados.size());
+        for (int i = 0; i < originais.size(); i++) {
+            Chamado esperado = originais.get(i);
+            Chamado obtido = lido.chamados.get(i);
+            assertEquals(esperado.getChamadoID(), obtido.getChamadoID());
+            assertEquals(esperado.getNomeDoUsuario(), obtido.getNomeDoUsuario());
+            assertEquals(esperado.getEmailDoUsuario(), obtido.getEmailDoUsuario());
+            assertEquals(esperado.getSetorDoUsuario(), obtido.getSetorDoUsuario());
+            assertEquals(esperado.getTitulo(), obtido.getTitulo());
+            assertEquals(esperado.getDescricao(), obtido.getDescricao());
+            assertEquals(esperado.getPrioridade(), obtido.getPrioridade());
+            assertEquals(esperado.getStatus(), obtido.getStatus());
+            assertEquals(esperado.getRespostaDoTecnico(), obtido.getRespostaDoTecnico());
+            assertEquals(esperado.getDataAbertura(), obtido.getDataAbertura());
+        }
+    }
+
+    @Test
+    void copiaDeOutroUsuarioOuServidorNaoEhLida() throws InterruptedException {
+        ChamadoSnapshot snapshot = new ChamadoSnapshot(diretorio);
+        salvarEAguardar(snapshot, () -> new ChamadoSnapshot.Conteudo(chamados(), null, 0));
+
+        assertNull(snapshot.carregar(API, "outro@suptec.com"));
+        assertNull(snapshot.carregar("http://outro-servidor/api/", USUARIO));
+    }
+
+    @Test
+    void arquivoCorrompidoEhIgnorado() throws InterruptedException, IOException {
+        ChamadoSnapshot snapshot = new ChamadoSnapshot(diretorio);
+        salvarEAguardar(snapshot, () -> new ChamadoSnapshot.Conteudo(chamados(), null, 0));
+
+        Path arquivo;
+        try (var lista = Files.list(diretorio)) {
+            arquivo = lista.filter(p -> p.toString().endsWith(".bin")).findFirst().orElseThrow();
+        }
+        byte[] bytes = Files.readAllBytes(arquivo);
+        Files.write(arquivo, Arrays.copyOf(bytes, bytes.length / 2));
+        assertNull(snapshot.carregar(API, USUARIO));
+
+        Files.write(arquivo, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        assertNull(snapshot.carregar(API, USUARIO));
+    }
+
+    @Test
+    void gravacoesSeguidasSaoAgrupadas() throws InterruptedException {
+        ChamadoSnapshot snapshot = new ChamadoSnapshot(diretorio);
+        AtomicInteger leituras = new AtomicInteger();
+        List<Chamado> ultimos = chamados().subList(0, 1);
+        for (int i = 0; i < 5; i++) {
+            List<Chamado> conteudo = i == 4 ? ultimos : chamados();
+            snapshot.salvarAsync(API, USUARIO, () -> {
+                leituras.incrementAndGet();
+                return new ChamadoSnapshot.Conteudo(conteudo, null, 0);
+            }, 200);
+        }
+        aguardarArquivo();
+        // Espera as demais tarefas agendadas (que não devem gravar nada)
+        Thread.sleep(300);
+
+        assertEquals(1, leituras.get());
+        assertEquals(1, snapshot.carregar(API, USUARIO).chamados.size());
+    }
+
+    @Test
+    void conteudoNuloNaoGrava() throws InterruptedException {
+        ChamadoSnapshot snapshot = new ChamadoSnapshot(diretorio);
+        snapshot.salvarAsync(API, USUARIO, () -> null, 0);
+        Thread.sleep(200);
+        assertEquals(0, arquivos());
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompressaoHttpTest {
+
+    private static final String TOKEN = "token";
+
+    // Repetitivo o bastante para a versão compactada ser bem menor
+    private static final String LISTAGEM = "[" + "{\"chamadoID\":\"1\",\"titulo\":\"Impressora\"},".repeat(200) + "{}]";
+
+    private ServidorStub servidor;
+    private HttpTransport transporte;
+    private ApiService api;
+
+    @BeforeEach
+    void iniciarServidor() throws IOException {
+        servidor = new ServidorStub();
+        transporte = servidor.transporte(Map.of("api.cache.ativo", "false"));
+        api = servidor.apiService(transporte);
+    }
+
+    @AfterEach
+    void pararServidor() {
+        servidor.close();
+    }
+
+    private interface Compactador {
+        OutputStream abrir(OutputStream destino) throws IOException;
+    }
+
+    private static byte[] compactar(String texto, Compactador compactador) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream saida = compactador.abrir(bytes)) {
+            saida.write(texto.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private void rota(String endpoint, String contentEncoding, byte[] corpo) {
+        servidor.rota(endpoint, troca -> ServidorStub.responder(troca, 200, corpo, "Content-Encoding", contentEncoding));
+    }
+
+    private String lerEmStream(String endpoint) {
+        return api.getStreamWithAuthAsync(endpoint, TOKEN,
+            (status, corpo) -> new String(corpo.readAllBytes(), StandardCharsets.UTF_8)).join();
+    }
+
+    private CompressaoHttp compressao() {
+        return transporte.getCompressao();
+    }
+
+    @Test
+    void anunciaAsCodificacoesAceitas() {
+        rota("Chamado/Gzip", "gzip", new byte[0]);
+        api.getWithAuthAsync("Chamado/Gzip", TOKEN).join();
+
+        assertEquals("gzip, deflate",
+            servidor.requisicoes("Chamado/Gzip").get(0).cabecalhos.getFirst("Accept-Encoding"));
+    }
+
+    @Test
+    void gzipCompletoEContabilizado() throws IOException {
+        byte[] gzip = compactar(LISTAGEM, GZIPOutputStream::new);
+        rota("Chamado/Gzip", "gzip", gzip);
+
+        assertEquals(LISTAGEM, api.getWithAuthAsync("Chamado/Gzip", TOKEN).join().getBody());
+        assertEquals(gzip.length, compressao().getBytesRede());
+        assertEquals(LISTAGEM.length(), compressao().getBytesDecodificados());
+    }
+
+    @Test
+    void deflateCompletoEContabilizado() throws IOException {
+        byte[] deflate = compactar(LISTAGEM, DeflaterOutputStream::new);
+        rota("Chamado/Deflate", "deflate", deflate);
+
+        assertEquals(LISTAGEM, api.getWithAuthAsync("Chamado/Deflate", TOKEN).join().getBody());
+        assertEquals(deflate.length, compressao().getBytesRede());
+        assertEquals(LISTAGEM.length(), compressao().getBytesDecodificados());
+    }
+
+    @Test
+    void gzipEmStreamEContabilizado() throws IOException {
+        byte[] gzip = compactar(LISTAGEM, GZIPOutputStream::new);
+        rota("Chamado/Gzip", "gzip", gzip);
+
+        assertEquals(LISTAGEM, lerEmStream("Chamado/Gzip"));
+        assertEquals(gzip.length, compressao().getBytesRede());
+        assertEquals(LISTAGEM.length(), compressao().getBytesDecodificados());
+    }
+
+    @Test
+    void deflateEmStreamEContabilizado() throws IOException {
+        byte[] deflate = compactar(LISTAGEM, DeflaterOutputStream::new);
+        rota("Chamado/Deflate", "deflate", deflate);
+
+        assertEquals(LISTAGEM, lerEmStream("Chamado/Deflate"));
+        assertEquals(deflate.length, compressao().getBytesRede());
+        assertEquals(LISTAGEM.length(), compressao().getBytesDecodificados());
+    }
+
+    @Test
+    void semCodificacaoContaOsMesmosBytes() {
+        rota("Chamado/Texto", "identity", LISTAGEM.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(LISTAGEM, lerEmStream("Chamado/Texto"));
+        assertEquals(LISTAGEM.length(), compressao().getBytesRede());
+        assertEquals(LISTAGEM.length(), compressao().getBytesDecodificados());
+    }
+
+    @Test
+    void gzipComCorpoVazioNaoFalha() {
+        // Content-Length: 0 com Content-Encoding: gzip
+        rota("Chamado/Vazio", "gzip", new byte[0]);
+
+        ApiService.ApiResponse completo = api.getWithAuthAsync("Chamado/Vazio", TOKEN).join();
+        assertEquals(200, completo.getStatusCode());
+        assertEquals("", completo.getBody());
+
+        assertEquals("", lerEmStream("Chamado/Vazio"));
+        assertEquals(0, compressao().getBytesRede());
+        assertEquals(0, compressao().getBytesDecodificados());
+    }
+
+    @Test
+    void gzipVazioEmChunkedNaoFalha() {
+        servidor.rota("Chamado/Vazio", troca -> {
+            troca.getResponseHeaders().add("Content-Encoding", "gzip");
+            // Tamanho 0: corpo em chunked, sem Content-Length
+            troca.sendResponseHeaders(200, 0);
+            troca.getResponseBody().close();
+        });
+
+        assertEquals("", lerEmStream("Chamado/Vazio"));
+        assertEquals("", api.getWithAuthAsync("Chamado/Vazio", TOKEN).join().getBody());
+    }
+}
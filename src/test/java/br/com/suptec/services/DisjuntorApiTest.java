@@ -0,0 +1,109 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.suptec.services.DisjuntorApi.Estado;
+
+class DisjuntorApiTest {
+
+    private static void falhar(DisjuntorApi disjuntor, String grupo, int vezes) {
+        for (int i = 0; i < vezes; i++) {
+            assertTrue(disjuntor.permitir(grupo));
+            disjuntor.registrarFalha(grupo);
+        }
+    }
+
+    @Test
+    void abreAposFalhasConsecutivasERejeitaSemAcessarARede() {
+        DisjuntorApi disjuntor = new DisjuntorApi(3, 60);
+        falhar(disjuntor, "Chamado", 2);
+        assertEquals(Estado.FECHADO, disjuntor.getEstado("Chamado"));
+
+        falhar(disjuntor, "Chamado", 1);
+        assertEquals(Estado.ABERTO, disjuntor.getEstado("Chamado"));
+        assertEquals(1, disjuntor.getAberturas());
+
+        assertFalse(disjuntor.permitir("Chamado"));
+        assertFalse(disjuntor.permitir("Chamado"));
+        assertEquals(2, disjuntor.getRejeitadas());
+    }
+
+    @Test
+    void sucessoZeraAsFalhasConsecutivas() {
+        DisjuntorApi disjuntor = new DisjuntorApi(3, 60);
+        falhar(disjuntor, "Chamado", 2);
+        disjuntor.registrarSucesso("Chamado");
+        falhar(disjuntor, "Chamado", 2);
+        assertEquals(Estado.FECHADO, disjuntor.getEstado("Chamado"));
+    }
+
+    @Test
+    void gruposSaoIndependentes() {
+        DisjuntorApi disjuntor = new DisjuntorApi(1, 60);
+        falhar(disjuntor, "Chamado", 1);
+        assertEquals(Estado.ABERTO, disjuntor.getEstado("Chamado"));
+        assertEquals(Estado.FECHADO, disjuntor.getEstado("Usuario"));
+        assertTrue(disjuntor.permitir("Usuario"));
+    }
+
+    @Test
+    void meioAbertoLiberaUmaUnicaRequisicaoDeTeste() {
+        DisjuntorApi disjuntor = new DisjuntorApi(1, 0);
+        falhar(disjuntor, "Chamado", 1);
+
+        assertTrue(disjuntor.permitir("Chamado"));
+        assertEquals(Estado.MEIO_ABERTO, disjuntor.getEstado("Chamado"));
+        assertFalse(disjuntor.permitir("Chamado"));
+    }
+
+    @Test
+    void testeBemSucedidoFechaOCircuito() {
+        DisjuntorApi disjuntor = new DisjuntorApi(1, 0);
+        falhar(disjuntor, "Chamado", 1);
+        assertTrue(disjuntor.permitir("Chamado"));
+
+        disjuntor.registrarSucesso("Chamado");
+        assertEquals(Estado.FECHADO, disjuntor.getEstado("Chamado"));
+        assertTrue(disjuntor.permitir("Chamado"));
+        assertTrue(disjuntor.permitir("Chamado"));
+    }
+
+    @Test
+    void testeComFalhaReabreOCircuito() {
+        DisjuntorApi disjuntor = new DisjuntorApi(3, 0);
+        falhar(disjuntor, "Chamado", 3);
+        assertTrue(disjuntor.permitir("Chamado"));
+
+        // Uma única falha no teste basta para reabrir
+        disjuntor.registrarFalha("Chamado");
+        assertEquals(Estado.ABERTO, disjuntor.getEstado("Chamado"));
+        assertEquals(2, disjuntor.getAberturas());
+    }
+
+    @Test
+    void desistirForaDoTesteNaoAlteraOCircuito() {
+        DisjuntorApi disjuntor = new DisjuntorApi(1, 60);
+        falhar(disjuntor, "Chamado", 1);
+
+        disjuntor.desistir("Chamado");
+        assertEquals(Estado.ABERTO, disjuntor.getEstado("Chamado"));
+        assertFalse(disjuntor.permitir("Chamado"));
+    }
+
+    @Test
+    void desistirDoTesteLiberaONovoTeste() {
+        DisjuntorApi disjuntor = new DisjuntorApi(1, 0);
+        falhar(disjuntor, "Chamado", 1);
+        assertTrue(disjuntor.permitir("Chamado"));
+
+        disjuntor.desistir("Chamado");
+        assertEquals(Estado.ABERTO, disjuntor.getEstado("Chamado"));
+        // A requisição seguinte faz o teste (o circuito não fica preso em MEIO_ABERTO)
+        assertTrue(disjuntor.permitir("Chamado"));
+        assertEquals(Estado.MEIO_ABERTO, disjuntor.getEstado("Chamado"));
+    }
+}
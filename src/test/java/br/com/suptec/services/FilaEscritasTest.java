@@ -0,0 +1,139 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import br.com.suptec.models.Chamado;
+
+class FilaEscritasTest {
+
+    @TempDir
+    Path diretorio;
+
+    private Path arquivo() {
+        return diretorio.resolve("pendentes.log");
+    }
+
+    private static Chamado chamado(String id, String titulo) {
+        Chamado chamado = new Chamado();
+        chamado.setChamadoID(id);
+        chamado.setTitulo(titulo);
+        chamado.setStatus("Aberto");
+        return chamado;
+    }
+
+    @Test
+    void edicoesDoMesmoChamadoSaoAgrupadas() {
+        FilaEscritas fila = new FilaEscritas(arquivo());
+        assertTrue(fila.registrarEdicao(chamado("1", "primeira")));
+        assertTrue(fila.registrarEdicao(chamado("2", "outro")));
+        assertTrue(fila.registrarEdicao(chamado("1", "segunda")));
+
+        List<FilaEscritas.Operacao> pendentes = fila.getPendentes();
+        assertEquals(2, pendentes.size());
+        // A edição agrupada vai para o fim da fila, com os campos mais recentes
+        assertEquals("2", pendentes.get(0).chamadoID);
+        assertEquals("1", pendentes.get(1).chamadoID);
+        assertEquals("segunda", pendentes.get(1).getChamado().getTitulo());
+    }
+
+    @Test
+    void exclusaoSubstituiEdicoesEImpedeNovas() {
+        FilaEscritas fila = new FilaEscritas(arquivo());
+        fila.registrarEdicao(chamado("1", "editado"));
+        assertTrue(fila.registrarExclusao("1"));
+
+        assertEquals(1, fila.getTotalPendentes());
+        assertEquals(FilaEscritas.Tipo.EXCLUIR, fila.proxima().tipo);
+        assertFalse(fila.registrarEdicao(chamado("1", "depois da exclusão")));
+    }
+
+    @Test
+    void filaEhRecuperadaDoDisco() {
+        FilaEscritas fila = new FilaEscritas(arquivo());
+        fila.registrarEdicao(chamado("1", "título com \"aspas\"\ne quebra de linha"));
+        fila.registrarExclusao("2");
+        fila.registrarEdicao(chamado("3", "terceiro"));
+        fila.concluir(fila.proxima());
+
+        FilaEscritas reaberta = new FilaEscritas(arquivo());
+        List<FilaEscritas.Operacao> pendentes = reaberta.getPendentes();
+        assertEquals(2, pendentes.size());
+        assertEquals("2", pendentes.get(0).chamadoID);
+        assertEquals(FilaEscritas.Tipo.EXCLUIR, pendentes.get(0).tipo);
+        assertEquals("3", pendentes.get(1).chamadoID);
+        assertEquals("terceiro", pendentes.get(1).getChamado().getTitulo());
+    }
+
+    @Test
+    void novasOperacoesAposReaberturaContinuamASequencia() {
+        FilaEscritas fila = new FilaEscritas(arquivo());
+        fila.registrarEdicao(chamado("1", "a"));
+        fila.registrarEdicao(chamado("2", "b"));
+
+        FilaEscritas reaberta = new FilaEscritas(arquivo());
+        reaberta.registrarEdicao(chamado("3", "c"));
+        // A confirmação não pode atingir uma operação de outra sequência
+        reaberta.concluir(reaberta.proxima());
+
+        List<FilaEscritas.Operacao> pendentes = new FilaEscritas(arquivo()).getPendentes();
+        assertEquals(2, pendentes.size());
+        assertEquals("2", pendentes.get(0).chamadoID);
+        assertEquals("3", pendentes.get(1).chamadoID);
+    }
+
+    @Test
+    void linhaIncompletaEhIgnorada() throws IOException {
+        FilaEscritas fila = new FilaEscritas(arquivo());
+        fila.registrarEdicao(chamado("1", "completo"));
+        // Queda durante a gravação do registro seguinte
+        Files.write(arquivo(), "{\"seq\":2,\"tipo\":\"EDITAR\",\"chamadoID\":\"2\",\"tit".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        FilaEscritas reaberta = new FilaEscritas(arquivo());
+        assertEquals(1, reaberta.getTotalPendentes());
+        assertEquals("1", reaberta.proxima().chamadoID);
+
+        // Ao reabrir o arquivo foi compactado: a linha incompleta não atrapalha novos registros
+        reaberta.registrarEdicao(chamado("3", "novo"));
+        assertEquals(2, new FilaEscritas(arquivo()).getTotalPendentes());
+    }
+
+    @Test
+    void edicaoConcluidaDuranteNovaEdicaoMantemANova() {
+        FilaEscritas fila = new FilaEscritas(arquivo());
+        fila.registrarEdicao(chamado("1", "enviando"));
+        FilaEscritas.Operacao emEnvio = fila.proxima();
+        fila.registrarEdicao(chamado("1", "feita durante o envio"));
+        fila.concluir(emEnvio);
+
+        assertTrue(fila.possuiPendente("1"));
+        assertEquals("feita durante o envio", fila.proxima().getChamado().getTitulo());
+        assertEquals(1, new FilaEscritas(arquivo()).getTotalPendentes());
+    }
+
+    @Test
+    void descartarRegistraConflitoERemoveArquivoQuandoVazia() {
+        FilaEscritas fila = new FilaEscritas(arquivo());
+        fila.registrarEdicao(chamado("1", "rejeitada"));
+        FilaEscritas.Conflito conflito = fila.descartar(fila.proxima(), 409);
+
+        assertEquals(409, conflito.statusCode);
+        assertEquals("rejeitada", conflito.titulo);
+        assertEquals(1, fila.getConflitos().size());
+        assertNull(fila.proxima());
+        assertFalse(Files.exists(arquivo()));
+    }
+}
@@ -0,0 +1,215 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.sun.net.httpserver.HttpHandler;
+
+import org.junit.jupiter.api.Test;
+
+class HttpCacheTest {
+
+    private static final String TOKEN = "token";
+
+    private static HttpHeaders cabecalhos(String... pares) {
+        Map<String, List<String>> mapa = new HashMap<>();
+        for (int i = 0; i < pares.length; i += 2) {
+            mapa.put(pares[i], List.of(pares[i + 1]));
+        }
+        return HttpHeaders.of(mapa, (nome, valor) -> true);
+    }
+
+    private static byte[] corpo(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void respostaComEtagEArmazenadaMasSempreRevalidada() {
+        HttpCache cache = new HttpCache(10, 1024);
+        cache.armazenar(TOKEN, "Chamado/1", cabecalhos("ETag", "\"v1\""), corpo("{}"));
+
+        HttpCache.Entrada entrada = cache.obter(TOKEN, "Chamado/1");
+        assertNotNull(entrada);
+        assertEquals("\"v1\"", entrada.etag);
+        assertFalse(entrada.isFresca());
+    }
+
+    @Test
+    void noStoreNaoEArmazenadoERemoveAEntradaAnterior() {
+        HttpCache cache = new HttpCache(10, 1024);
+        cache.armazenar(TOKEN, "Chamado/1", cabecalhos("ETag", "\"v1\""), corpo("{}"));
+        cache.armazenar(TOKEN, "Chamado/1", cabecalhos("ETag", "\"v2\"", "Cache-Control", "no-store"), corpo("{}"));
+
+        assertNull(cache.obter(TOKEN, "Chamado/1"));
+        assertFalse(HttpCache.isArmazenavel(cabecalhos("Cache-Control", "private, no-store, max-age=60")));
+    }
+
+    @Test
+    void maxAgeServeSemRevalidarEnquantoFresca() {
+        HttpCache cache = new HttpCache(10, 1024);
+        cache.armazenar(TOKEN, "Chamado/1", cabecalhos("Cache-Control", "max-age=60"), corpo("{}"));
+        assertTrue(cache.obter(TOKEN, "Chamado/1").isFresca());
+
+        // no-cache prevalece sobre o max-age
+        cache.armazenar(TOKEN, "Chamado/2", cabecalhos("Cache-Control", "no-cache, max-age=60", "ETag", "\"v1\""),
+            corpo("{}"));
+        assertFalse(cache.obter(TOKEN, "Chamado/2").isFresca());
+
+        // Sem validador nem max-age não há o que reaproveitar
+        assertFalse(HttpCache.isArmazenavel(cabecalhos("Cache-Control", "max-age=0")));
+    }
+
+    @Test
+    void revalidacaoRenovaAValidadeComOMaxAgeDo304() {
+        HttpCache cache = new HttpCache(10, 1024);
+        cache.armazenar(TOKEN, "Chamado/1", cabecalhos("ETag", "\"v1\""), corpo("{\"a\":1}"));
+        HttpCache.Entrada entrada = cache.obter(TOKEN, "Chamado/1");
+
+        cache.revalidada(entrada, cabecalhos("Cache-Control", "max-age=60"));
+
+        assertTrue(entrada.isFresca());
+        assertArrayEquals(corpo("{\"a\":1}"), cache.obter(TOKEN, "Chamado/1").corpo);
+        assertEquals(1, cache.getRevalidacoes());
+
+        cache.exigirRevalidacao(TOKEN);
+        assertFalse(entrada.isFresca());
+    }
+
+    @Test
+    void descartaAEntradaMenosUsadaRecentemente() {
+        HttpCache cache = new HttpCache(2, 1024);
+        HttpHeaders validadores = cabecalhos("ETag", "\"v1\"");
+        cache.armazenar(TOKEN, "a", validadores, corpo("a"));
+        cache.armazenar(TOKEN, "b", validadores, corpo("b"));
+        cache.obter(TOKEN, "a");
+        cache.armazenar(TOKEN, "c", validadores, corpo("c"));
+
+        assertNotNull(cache.obter(TOKEN, "a"));
+        assertNull(cache.obter(TOKEN, "b"));
+        assertNotNull(cache.obter(TOKEN, "c"));
+    }
+
+    @Test
+    void respostaMaiorQueOLimiteNaoEArmazenada() {
+        HttpCache cache = new HttpCache(10, 4);
+        cache.armazenar(TOKEN, "Chamado/1", cabecalhos("ETag", "\"v1\""), corpo("12345"));
+
+        assertNull(cache.obter(TOKEN, "Chamado/1"));
+    }
+
+    @Test
+    void validadoresDeStreamFicamSeparadosEDoToken() {
+        HttpCache cache = new HttpCache(10, 1024);
+        cache.armazenarValidadores(TOKEN, "Chamado/ListarChamados",
+            cabecalhos("ETag", "\"v1\"", "Cache-Control", "max-age=60"));
+
+        HttpCache.Entrada validadores = cache.obterValidadores(TOKEN, "Chamado/ListarChamados");
+        assertEquals("\"v1\"", validadores.etag);
+        assertNull(validadores.corpo);
+        // Sem corpo, nunca pode ser servida sem consultar a API
+        assertFalse(validadores.isFresca());
+        assertNull(cache.obter(TOKEN, "Chamado/ListarChamados"));
+        assertNull(cache.obterValidadores("outro-token", "Chamado/ListarChamados"));
+
+        cache.armazenarValidadores(TOKEN, "Chamado/ListarChamados", cabecalhos("Cache-Control", "no-store"));
+        assertNull(cache.obterValidadores(TOKEN, "Chamado/ListarChamados"));
+    }
+
+    /**
+     * Endpoint com ETag fixa: 304 quando a requisição traz a ETag atual
+     */
+    private static HttpHandler comEtag(String etag, String corpo, String... cabecalhos) {
+        return troca -> {
+            if (etag.equals(troca.getRequestHeaders().getFirst("If-None-Match"))) {
+                ServidorStub.responder(troca, 304, new byte[0], "ETag", etag);
+            } else {
+                String[] todos = new String[cabecalhos.length + 2];
+                todos[0] = "ETag";
+                todos[1] = etag;
+                System.arraycopy(cabecalhos, 0, todos, 2, cabecalhos.length);
+                ServidorStub.responder(troca, 200, corpo(corpo), todos);
+            }
+        };
+    }
+
+    @Test
+    void getRevalidaComIfNoneMatchEServeO304DoCache() throws IOException {
+        try (ServidorStub servidor = new ServidorStub()) {
+            servidor.rota("Gerente/Listar", comEtag("\"v1\"", "[1,2,3]"));
+            HttpTransport transporte = servidor.transporte(Map.of());
+            ApiService api = servidor.apiService(transporte);
+
+            assertEquals("[1,2,3]", api.getWithAuthAsync("Gerente/Listar", TOKEN).join().getBody());
+            ApiService.ApiResponse revalidada = api.getWithAuthAsync("Gerente/Listar", TOKEN).join();
+
+            assertEquals(200, revalidada.getStatusCode());
+            assertEquals("[1,2,3]", revalidada.getBody());
+            List<ServidorStub.Requisicao> requisicoes = servidor.requisicoes("Gerente/Listar");
+            assertEquals(2, requisicoes.size());
+            assertNull(requisicoes.get(0).cabecalhos.getFirst("If-None-Match"));
+            assertEquals("\"v1\"", requisicoes.get(1).cabecalhos.getFirst("If-None-Match"));
+            assertEquals(1, transporte.getCache().getRevalidacoes());
+        }
+    }
+
+    @Test
+    void getComMaxAgeNaoConsultaAApiEnquantoFresco() throws IOException {
+        try (ServidorStub servidor = new ServidorStub()) {
+            servidor.rota("Gerente/Listar", comEtag("\"v1\"", "[1]", "Cache-Control", "max-age=60"));
+            HttpTransport transporte = servidor.transporte(Map.of());
+            ApiService api = servidor.apiService(transporte);
+
+            api.getWithAuthAsync("Gerente/Listar", TOKEN).join();
+            assertEquals("[1]", api.getWithAuthAsync("Gerente/Listar", TOKEN).join().getBody());
+
+            assertEquals(1, servidor.requisicoes("Gerente/Listar").size());
+            assertEquals(1, transporte.getCache().getAcertos());
+        }
+    }
+
+    @Test
+    void getComNoStoreSempreBaixaOCorpo() throws IOException {
+        try (ServidorStub servidor = new ServidorStub()) {
+            servidor.rota("Gerente/Listar", comEtag("\"v1\"", "[1]", "Cache-Control", "no-store"));
+            ApiService api = servidor.apiService();
+
+            api.getWithAuthAsync("Gerente/Listar", TOKEN).join();
+            api.getWithAuthAsync("Gerente/Listar", TOKEN).join();
+
+            List<ServidorStub.Requisicao> requisicoes = servidor.requisicoes("Gerente/Listar");
+            assertEquals(2, requisicoes.size());
+            assertNull(requisicoes.get(1).cabecalhos.getFirst("If-None-Match"));
+        }
+    }
+
+    @Test
+    void streamCondicionalEnviaValidadoresEEntregaO304AoLeitor() throws IOException {
+        try (ServidorStub servidor = new ServidorStub()) {
+            servidor.rota("Chamado/ListarChamados", comEtag("\"v1\"", "[1,2,3]"));
+            ApiService api = servidor.apiService();
+            ApiService.LeitorStream<String> leitor =
+                (status, corpo) -> status + ":" + new String(corpo.readAllBytes(), StandardCharsets.UTF_8);
+
+            assertEquals("200:[1,2,3]", api.getStreamWithAuthAsync("Chamado/ListarChamados", TOKEN, true, leitor).join());
+            assertEquals("304:", api.getStreamWithAuthAsync("Chamado/ListarChamados", TOKEN, true, leitor).join());
+            // Quem não mantém os dados recebe sempre o corpo
+            assertEquals("200:[1,2,3]", api.getStreamWithAuthAsync("Chamado/ListarChamados", TOKEN, leitor).join());
+
+            List<ServidorStub.Requisicao> requisicoes = servidor.requisicoes("Chamado/ListarChamados");
+            assertNull(requisicoes.get(0).cabecalhos.getFirst("If-None-Match"));
+            assertEquals("\"v1\"", requisicoes.get(1).cabecalhos.getFirst("If-None-Match"));
+            assertNull(requisicoes.get(2).cabecalhos.getFirst("If-None-Match"));
+        }
+    }
+}
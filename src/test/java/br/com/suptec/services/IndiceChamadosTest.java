@@ -0,0 +1,133 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.suptec.models.Chamado;
+import br.com.suptec.utils.TextoUtils;
+
+class IndiceChamadosTest {
+
+    private static final String[] PALAVRAS = {
+        "impressora", "rede", "VPN", "Média", "Ação", "senha", "e-mail", "Financeiro",
+        "manutenção", "notebook", "monitor", "acesso", "sistema", "lento", "urgente"
+    };
+
+    private static Chamado chamado(String id, String titulo, String descricao, String setor) {
+        return new Chamado(id, "Usuário " + id, "u" + id + "@suptec.com", setor, titulo, descricao,
+            "Alta", "Aberto", null, null);
+    }
+
+    private static String frase(Random aleatorio, int palavras) {
+        StringBuilder frase = new StringBuilder();
+        for (int i = 0; i < palavras; i++) {
+            if (i > 0) {
+                frase.append(' ');
+            }
+            frase.append(PALAVRAS[aleatorio.nextInt(PALAVRAS.length)]);
+        }
+        return frase.toString();
+    }
+
+    /**
+     * Resultado esperado: comparação com todos os chamados, na ordem de inclusão
+     */
+    private static List<Chamado> buscaDireta(Map<String, Chamado> chamados, String termo) {
+        List<Chamado> resultados = new ArrayList<>();
+        for (Chamado chamado : chamados.values()) {
+            if (chamado.getChaveBusca().contains(termo)) {
+                resultados.add(chamado);
+            }
+        }
+        return resultados;
+    }
+
+    @Test
+    void buscaEncontraSubstringEmQualquerCampo() {
+        IndiceChamados indice = new IndiceChamados();
+        List<Chamado> chamados = List.of(
+            chamado("1", "Impressora não imprime", "Papel atolado", "Financeiro"),
+            chamado("2", "Sem acesso à VPN", "Erro de autenticação", "Comercial"),
+            chamado("3", "Troca de monitor", "Monitor piscando", "Financeiro"));
+        indice.reconstruir(chamados);
+
+        assertEquals(List.of(chamados.get(0)), indice.buscar("impress"));
+        assertEquals(List.of(chamados.get(1)), indice.buscar(TextoUtils.normalizar("AUTENTICAÇÃO")));
+        assertEquals(List.of(chamados.get(0), chamados.get(2)), indice.buscar("financ"));
+        // Termos curtos (sem trigrama) também funcionam
+        assertEquals(List.of(chamados.get(1)), indice.buscar("vp"));
+        assertTrue(indice.buscar("inexistente").isEmpty());
+    }
+
+    @Test
+    void termoNaoAtravessaCampos() {
+        IndiceChamados indice = new IndiceChamados();
+        indice.reconstruir(List.of(chamado("1", "abc", "def", "Setor")));
+        assertTrue(indice.buscar("abcdef").isEmpty());
+        assertTrue(indice.buscar("c" + TextoUtils.SEPARADOR + "d").isEmpty());
+    }
+
+    @Test
+    void atualizacaoMantemAPosicaoERemocaoTiraDoResultado() {
+        IndiceChamados indice = new IndiceChamados();
+        Chamado primeiro = chamado("1", "monitor", "tela", "TI");
+        Chamado segundo = chamado("2", "monitor", "cabo", "TI");
+        indice.reconstruir(List.of(primeiro, segundo));
+
+        Chamado editado = chamado("1", "teclado", "tecla presa", "TI");
+        indice.atualizar(editado);
+        assertEquals(List.of(segundo), indice.buscar("monitor"));
+        assertEquals(List.of(editado), indice.buscar("teclado"));
+
+        indice.atualizar(chamado("1", "monitor", "de novo", "TI"));
+        List<Chamado> resultados = indice.buscar("monitor");
+        assertEquals("1", resultados.get(0).getChamadoID());
+        assertEquals("2", resultados.get(1).getChamadoID());
+
+        indice.remover("2");
+        assertEquals(1, indice.buscar("monitor").size());
+        assertEquals(1, indice.getTotalIndexados());
+    }
+
+    @Test
+    void resultadoIgualAoDaBuscaDiretaAposAlteracoesAleatorias() {
+        Random aleatorio = new Random(42);
+        IndiceChamados indice = new IndiceChamados();
+        Map<String, Chamado> chamados = new LinkedHashMap<>();
+
+        // Volume suficiente para redimensionar o mapa e compactar após as remoções
+        for (int i = 0; i < 6000; i++) {
+            String id = Integer.toString(i);
+            Chamado chamado = chamado(id, frase(aleatorio, 3), frase(aleatorio, 8) + " #" + i, frase(aleatorio, 1));
+            chamados.put(id, chamado);
+            indice.atualizar(chamado);
+        }
+        for (int i = 0; i < 5000; i++) {
+            String id = Integer.toString(aleatorio.nextInt(6000));
+            if (aleatorio.nextBoolean()) {
+                chamados.remove(id);
+                indice.remover(id);
+            } else if (chamados.containsKey(id)) {
+                Chamado editado = chamado(id, frase(aleatorio, 3), frase(aleatorio, 8), frase(aleatorio, 1));
+                chamados.put(id, editado);
+                indice.atualizar(editado);
+            }
+        }
+
+        assertEquals(chamados.size(), indice.getTotalIndexados());
+        String[] termos = { "impressora", "rede vpn", "media", "acao", "ao", "e-m", "#12", "#4711",
+            "lento urgente", "x", "notebook monitor", "senhaacesso" };
+        for (String termo : termos) {
+            String normalizado = TextoUtils.normalizar(termo);
+            assertEquals(buscaDireta(chamados, normalizado), indice.buscar(normalizado), "termo: " + termo);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpTimeoutException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PoliticaRetryTest {
+
+    private static HttpHeaders retryAfter(String valor) {
+        return HttpHeaders.of(Map.of("Retry-After", List.of(valor)), (nome, v) -> true);
+    }
+
+    private static PoliticaRetry politica(int tentativas) {
+        return new PoliticaRetry(tentativas, 100, 1000, 0.1, 1000);
+    }
+
+    @Test
+    void apenasVerbosIdempotentesSaoRepetidos() {
+        PoliticaRetry politica = politica(3);
+        assertTrue(politica.proximoAtraso("GET", 1, null) >= 0);
+        assertTrue(politica.proximoAtraso("PUT", 1, null) >= 0);
+        assertTrue(politica.proximoAtraso("DELETE", 1, null) >= 0);
+        assertEquals(-1, politica.proximoAtraso("POST", 1, null));
+    }
+
+    @Test
+    void classificaFalhasTransitorias() {
+        assertTrue(PoliticaRetry.isStatusTransitorio(429));
+        assertTrue(PoliticaRetry.isStatusTransitorio(503));
+        assertFalse(PoliticaRetry.isStatusTransitorio(500));
+        assertFalse(PoliticaRetry.isStatusTransitorio(404));
+        assertTrue(PoliticaRetry.isFalhaTransitoria(new HttpTimeoutException("timeout")));
+        assertTrue(PoliticaRetry.isFalhaTransitoria(new IOException("conexão recusada")));
+        assertFalse(PoliticaRetry.isFalhaTransitoria(new IllegalStateException()));
+    }
+
+    @Test
+    void paraAoEsgotarAsTentativas() {
+        PoliticaRetry politica = politica(3);
+        assertTrue(politica.proximoAtraso("GET", 1, null) >= 0);
+        assertTrue(politica.proximoAtraso("GET", 2, null) >= 0);
+        assertEquals(-1, politica.proximoAtraso("GET", 3, null));
+        assertEquals(1, politica.getEsgotadas());
+        assertEquals(2, politica.getRetries());
+    }
+
+    @Test
+    void backoffExponencialComJitterLimitadoAoMaximo() {
+        PoliticaRetry politica = new PoliticaRetry(20, 100, 1000, 1, 1_000_000);
+        long maiorPrimeira = 0;
+        long maiorQuinta = 0;
+        for (int i = 0; i < 2000; i++) {
+            long primeira = politica.proximoAtraso("GET", 1, null);
+            long segunda = politica.proximoAtraso("GET", 2, null);
+            long quinta = politica.proximoAtraso("GET", 5, null);
+            assertTrue(primeira >= 0 && primeira <= 100, "tentativa 1: " + primeira);
+            assertTrue(segunda >= 0 && segunda <= 200, "tentativa 2: " + segunda);
+            // 100 * 2^4 = 1600, limitado ao máximo de 1000
+            assertTrue(quinta >= 0 && quinta <= 1000, "tentativa 5: " + quinta);
+            maiorPrimeira = Math.max(maiorPrimeira, primeira);
+            maiorQuinta = Math.max(maiorQuinta, quinta);
+        }
+        // Jitter completo: os atrasos cobrem o intervalo até o teto
+        assertTrue(maiorPrimeira > 50);
+        assertTrue(maiorQuinta > 500);
+    }
+
+    @Test
+    void retryAfterEmSegundosTemPrioridade() {
+        PoliticaRetry politica = politica(3);
+        assertEquals(0, politica.proximoAtraso("GET", 1, retryAfter("0")));
+        assertEquals(1000, politica.proximoAtraso("GET", 1, retryAfter(" 1 ")));
+    }
+
+    @Test
+    void retryAfterAcimaDoMaximoDevolveAFalha() {
+        PoliticaRetry politica = politica(3);
+        assertEquals(-1, politica.proximoAtraso("GET", 1, retryAfter("120")));
+        assertEquals(1, politica.getEsgotadas());
+    }
+
+    @Test
+    void retryAfterComDataHttp() {
+        PoliticaRetry politica = new PoliticaRetry(3, 100, 10_000, 0.1, 1000);
+        String data = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(5));
+        long atraso = politica.proximoAtraso("GET", 1, retryAfter(data));
+        assertTrue(atraso > 3000 && atraso <= 5000, "atraso: " + atraso);
+
+        String passada = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusHours(1));
+        assertEquals(0, politica.proximoAtraso("GET", 1, retryAfter(passada)));
+    }
+
+    @Test
+    void retryAfterInvalidoUsaOBackoff() {
+        PoliticaRetry politica = politica(3);
+        long atraso = politica.proximoAtraso("GET", 1, retryAfter("amanhã"));
+        assertTrue(atraso >= 0 && atraso <= 100);
+    }
+
+    @Test
+    void orcamentoLimitaOsRetries() {
+        // 2 créditos iniciais, 0,5 crédito por requisição
+        PoliticaRetry politica = new PoliticaRetry(3, 1, 1, 0.5, 2);
+        assertTrue(politica.proximoAtraso("GET", 1, null) >= 0);
+        assertTrue(politica.proximoAtraso("GET", 1, null) >= 0);
+        assertEquals(-1, politica.proximoAtraso("GET", 1, null));
+        assertEquals(1, politica.getNegadasPorOrcamento());
+
+        // Duas novas requisições acumulam um crédito
+        politica.registrarRequisicao();
+        politica.registrarRequisicao();
+        assertTrue(politica.proximoAtraso("GET", 1, null) >= 0);
+        assertEquals(-1, politica.proximoAtraso("GET", 1, null));
+        assertEquals(3, politica.getRetries());
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PoliticaTimeoutTest {
+
+    private static PoliticaTimeout politica(Map<String, String> regras) {
+        return new PoliticaTimeout(regras, (chave, padrao) -> padrao);
+    }
+
+    @Test
+    void semRegrasValemOsPadroes() {
+        PoliticaTimeout politica = politica(Map.of());
+        assertEquals(Duration.ofSeconds(60), politica.timeoutPara("GET", "Chamado/ListarChamados"));
+        assertEquals(Duration.ofSeconds(15), politica.timeoutPara("GET", "Chamado/Buscar/1"));
+        assertEquals(Duration.ofSeconds(20), politica.timeoutPara("PUT", "Chamado/Editar/1"));
+        assertEquals(Duration.ofSeconds(20), politica.timeoutPara("DELETE", "Chamado/Excluir/1"));
+    }
+
+    @Test
+    void padroesLidosDaConfiguracao() {
+        Map<String, String> valores = Map.of(
+            "api.timeout.listagem.segundos", "90",
+            "api.timeout.leitura.segundos", "5",
+            "api.timeout.escrita.segundos", "7");
+        PoliticaTimeout politica = new PoliticaTimeout(Map.of(), (chave, padrao) -> valores.getOrDefault(chave, padrao));
+        assertEquals(Duration.ofSeconds(90), politica.timeoutPara("GET", "Usuario/ListarUsuarios"));
+        assertEquals(Duration.ofSeconds(5), politica.timeoutPara("GET", "Usuario/1"));
+        assertEquals(Duration.ofSeconds(7), politica.timeoutPara("POST", "Usuario/Adicionar"));
+    }
+
+    @Test
+    void regraMaisEspecificaVence() {
+        Map<String, String> regras = new LinkedHashMap<>();
+        regras.put("*.Chamado/*", "30");
+        regras.put("GET.Chamado/*", "40");
+        regras.put("GET.Chamado/Listar*", "120");
+        regras.put("POST.AuthDesktop/*", "8");
+        PoliticaTimeout politica = politica(regras);
+
+        // Mais caracteres literais vence
+        assertEquals(Duration.ofSeconds(120), politica.timeoutPara("GET", "Chamado/ListarChamados"));
+        // Mesmo padrão: verbo explícito vence o *
+        assertEquals(Duration.ofSeconds(40), politica.timeoutPara("GET", "Chamado/Buscar/1"));
+        assertEquals(Duration.ofSeconds(30), politica.timeoutPara("PUT", "Chamado/Editar/1"));
+        // Regras configuradas valem antes dos padrões
+        assertEquals(Duration.ofSeconds(8), politica.timeoutPara("POST", "AuthDesktop/LoginDesktop"));
+        assertEquals(Duration.ofSeconds(15), politica.timeoutPara("GET", "AuthDesktop/Perfil"));
+    }
+
+    @Test
+    void queryStringEMaiusculasNaoAfetamACombinacao() {
+        PoliticaTimeout politica = politica(Map.of("GET.Chamado/Listar*", "120"));
+        assertEquals(Duration.ofSeconds(120), politica.timeoutPara("GET", "Chamado/ListarChamados?desde=2024-01-01"));
+        assertEquals(Duration.ofSeconds(120), politica.timeoutPara("GET", "chamado/listarchamados"));
+    }
+
+    @Test
+    void regrasInvalidasSaoIgnoradas() {
+        Map<String, String> regras = new LinkedHashMap<>();
+        regras.put("semVerbo", "10");
+        regras.put("GET.Chamado/*", "abc");
+        PoliticaTimeout politica = politica(regras);
+        assertEquals(Duration.ofSeconds(15), politica.timeoutPara("GET", "Chamado/Buscar/1"));
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.suptec.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequisicoesCompartilhadasTest {
+
+    private static final String TOKEN = "token";
+    private static final String LISTAGEM = "Chamado/ListarChamados";
+    private static final int CHAMADORES = 5;
+
+    // Maior que os buffers do HttpClient: o corpo chega em várias partes
+    private static final String CORPO = "[" + "{\"chamadoID\":\"1\",\"titulo\":\"Impressora\"},".repeat(5_000) + "{}]";
+
+    private ServidorStub servidor;
+    private HttpTransport transporte;
+    private ApiService api;
+    // A API só responde depois que todas as chamadas foram feitas
+    private final CountDownLatch liberarResposta = new CountDownLatch(1);
+
+    @BeforeEach
+    void iniciarServidor() throws IOException {
+        servidor = new ServidorStub();
+        transporte = servidor.transporte(Map.of("api.cache.ativo", "false", "api.http.compressao", "false"));
+        api = servidor.apiService(transporte);
+    }
+
+    @AfterEach
+    void pararServidor() {
+        liberarResposta.countDown();
+        servidor.close();
+    }
+
+    private void aguardarLiberacao() throws IOException {
+        try {
+            liberarResposta.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private RequisicoesCompartilhadas compartilhadas() {
+        return transporte.getRequisicoesCompartilhadas();
+    }
+
+    private List<CompletableFuture<String>> lerEmStream(int chamadores, ApiService.LeitorStream<String> leitor) {
+        List<CompletableFuture<String>> leituras = new ArrayList<>();
+        for (int i = 0; i < chamadores; i++) {
+            leituras.add(api.getStreamWithAuthAsync(LISTAGEM, TOKEN, leitor));
+        }
+        return leituras;
+    }
+
+    private static String lerTudo(int status, java.io.InputStream corpo) throws IOException {
+        return status + ":" + new String(corpo.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void chamadasSimultaneasFazemUmaUnicaRequisicaoEmStream() {
+        servidor.rota(LISTAGEM, troca -> {
+            aguardarLiberacao();
+            ServidorStub.responder(troca, 200, CORPO.getBytes(StandardCharsets.UTF_8));
+        });
+
+        List<CompletableFuture<String>> leituras = lerEmStream(CHAMADORES, RequisicoesCompartilhadasTest::lerTudo);
+        assertEquals(1, compartilhadas().getOriginais());
+        assertEquals(CHAMADORES - 1, compartilhadas().getCompartilhadas());
+        liberarResposta.countDown();
+
+        // Cada chamador lê, com o próprio leitor, o corpo completo
+        for (CompletableFuture<String> leitura : leituras) {
+            assertEquals("200:" + CORPO, leitura.join());
+        }
+        assertEquals(1, servidor.requisicoes(LISTAGEM).size());
+    }
+
+    @Test
+    void chaveELiberadaAoFimDaRequisicao() {
+        servidor.rota(LISTAGEM, troca -> ServidorStub.responder(troca, 200, CORPO.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("200:" + CORPO, api.getStreamWithAuthAsync(LISTAGEM, TOKEN, RequisicoesCompartilhadasTest::lerTudo).join());
+        assertEquals("200:" + CORPO, api.getStreamWithAuthAsync(LISTAGEM, TOKEN, RequisicoesCompartilhadasTest::lerTudo).join());
+
+        assertEquals(2, servidor.requisicoes(LISTAGEM).size());
+        assertEquals(2, compartilhadas().getOriginais());
+        assertEquals(0, compartilhadas().getCompartilhadas());
+    }
+
+    @Test
+    void tokensDiferentesNaoCompartilham() {
+        servidor.rota(LISTAGEM, troca -> {
+            aguardarLiberacao();
+            ServidorStub.responder(troca, 200, CORPO.getBytes(StandardCharsets.UTF_8));
+        });
+
+        CompletableFuture<String> primeiro = api.getStreamWithAuthAsync(LISTAGEM, TOKEN, RequisicoesCompartilhadasTest::lerTudo);
+        CompletableFuture<String> outro = api.getStreamWithAuthAsync(LISTAGEM, "outro-token", RequisicoesCompartilhadasTest::lerTudo);
+        liberarResposta.countDown();
+
+        assertEquals("200:" + CORPO, primeiro.join());
+        assertEquals("200:" + CORPO, outro.join());
+        assertEquals(2, servidor.requisicoes(LISTAGEM).size());
+    }
+
+    @Test
+    void falhaDeConexaoChegaATodosOsChamadores() {
+        // A conexão é encerrada sem resposta
+        servidor.rota(LISTAGEM, troca -> aguardarLiberacao());
+
+        List<CompletableFuture<String>> leituras = lerEmStream(CHAMADORES, RequisicoesCompartilhadasTest::lerTudo);
+        liberarResposta.countDown();
+
+        for (CompletableFuture<String> leitura : leituras) {
+            assertEquals("-1:", leitura.join());
+        }
+        // O próprio HttpClient repete o GET uma vez quando a conexão cai sem resposta,
+        // então o servidor pode contar duas: a requisição compartilhada é uma só
+        assertEquals(1, compartilhadas().getOriginais());
+        assertEquals(CHAMADORES - 1, compartilhadas().getCompartilhadas());
+    }
+
+    @Test
+    void erroDoLeitorChegaATodosOsChamadores() {
+        servidor.rota(LISTAGEM, troca -> {
+            aguardarLiberacao();
+            ServidorStub.responder(troca, 200, CORPO.getBytes(StandardCharsets.UTF_8));
+        });
+
+        List<CompletableFuture<String>> leituras = lerEmStream(CHAMADORES, (status, corpo) -> {
+            throw new IOException("corpo inválido");
+        });
+        liberarResposta.countDown();
+
+        for (CompletableFuture<String> leitura : leituras) {
+            CompletionException erro = assertThrows(CompletionException.class, leitura::join);
+            assertInstanceOf(IOException.class, erro.getCause());
+        }
+        assertEquals(1, servidor.requisicoes(LISTAGEM).size());
+
+        // A chave foi liberada apesar da falha
+        servidor.rota(LISTAGEM, troca -> ServidorStub.responder(troca, 200, CORPO.getBytes(StandardCharsets.UTF_8)));
+        assertEquals("200:" + CORPO, api.getStreamWithAuthAsync(LISTAGEM, TOKEN, RequisicoesCompartilhadasTest::lerTudo).join());
+    }
+
+    @Test
+    void getsCompletosSimultaneosFazemUmaUnicaRequisicao() {
+        servidor.rota("Gerente/Listar", troca -> {
+            aguardarLiberacao();
+            ServidorStub.responder(troca, 200, CORPO.getBytes(StandardCharsets.UTF_8));
+        });
+
+        List<CompletableFuture<ApiService.ApiResponse>> respostas = new ArrayList<>();
+        for (int i = 0; i < CHAMADORES; i++) {
+            respostas.add(api.getWithAuthAsync("Gerente/Listar", TOKEN));
+        }
+        liberarResposta.countDown();
+
+        for (CompletableFuture<ApiService.ApiResponse> resposta : respostas) {
+            assertEquals(CORPO, resposta.join().getBody());
+        }
+        assertEquals(1, servidor.requisicoes("Gerente/Listar").size());
+        assertTrue(compartilhadas().getCompartilhadas() >= CHAMADORES - 1);
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.suptec.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * API falsa em um HttpServer local (porta livre) para os testes que passam
+ * pelo {@link ApiService}. Registra as requisições recebidas.
+ */
+class ServidorStub implements AutoCloseable {
+
+    /**
+     * Requisição recebida pelo servidor
+     */
+    static class Requisicao {
+        final String metodo;
+        final String endpoint;
+        final String query;
+        final Headers cabecalhos;
+        final byte[] corpo;
+
+        Requisicao(HttpExchange troca, String endpoint) throws IOException {
+            this.metodo = troca.getRequestMethod();
+            this.endpoint = endpoint;
+            this.query = troca.getRequestURI().getRawQuery();
+            this.cabecalhos = troca.getRequestHeaders();
+            this.corpo = troca.getRequestBody().readAllBytes();
+        }
+    }
+
+    private final HttpServer servidor;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, HttpHandler> rotas = new ConcurrentHashMap<>();
+    private final List<Requisicao> requisicoes = new CopyOnWriteArrayList<>();
+
+    ServidorStub() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        servidor.createContext("/api/", this::atender);
+        servidor.setExecutor(executor);
+        servidor.start();
+    }
+
+    private void atender(HttpExchange troca) throws IOException {
+        String endpoint = troca.getRequestURI().getPath().substring("/api/".length());
+        requisicoes.add(new Requisicao(troca, endpoint));
+        HttpHandler rota = rotas.get(endpoint);
+        try {
+            if (rota == null) {
+                responder(troca, 404, new byte[0]);
+            } else {
+                rota.handle(troca);
+            }
+        } finally {
+            troca.close();
+        }
+    }
+
+    /**
+     * Define a resposta de um endpoint (sem a barra inicial e sem a query)
+     */
+    void rota(String endpoint, HttpHandler rota) {
+        rotas.put(endpoint, rota);
+    }
+
+    String baseUrl() {
+        return "http://" + servidor.getAddress().getHostString() + ":" + servidor.getAddress().getPort() + "/api/";
+    }
+
+    List<Requisicao> requisicoes(String endpoint) {
+        return requisicoes.stream().filter(r -> r.endpoint.equals(endpoint)).toList();
+    }
+
+    /**
+     * Transporte próprio (não o compartilhado), sem novas tentativas nem
+     * circuit breaker, salvo se configurados
+     */
+    HttpTransport transporte(Map<String, String> configuracoes) {
+        Map<String, String> config = new HashMap<>();
+        config.put("api.http.versao", "HTTP_1_1");
+        config.put("api.retry.tentativas", "1");
+        config.put("api.circuito.falhas", "0");
+        config.putAll(configuracoes);
+        return new HttpTransport(config::getOrDefault, new PoliticaTimeout(Map.of(), (chave, padrao) -> padrao));
+    }
+
+    /**
+     * ApiService apontado para este servidor
+     */
+    ApiService apiService(HttpTransport transporte) {
+        return new ApiService(transporte, baseUrl());
+    }
+
+    ApiService apiService() {
+        return apiService(transporte(Map.of()));
+    }
+
+    /**
+     * Envia a resposta; corpo vazio é enviado com Content-Length: 0
+     */
+    static void responder(HttpExchange troca, int status, byte[] corpo, String... cabecalhos) throws IOException {
+        for (int i = 0; i < cabecalhos.length; i += 2) {
+            troca.getResponseHeaders().add(cabecalhos[i], cabecalhos[i + 1]);
+        }
+        boolean semCorpo = corpo.length == 0 || status == 304 || status == 204;
+        troca.sendResponseHeaders(status, semCorpo ? -1 : corpo.length);
+        if (!semCorpo) {
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(corpo);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        servidor.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.suptec.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.gson.JsonObject;
+
+import org.junit.jupiter.api.Test;
+
+class JsonUtilsTest {
+
+    private static String texto(byte[] json) {
+        return new String(json, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void escreverJsonOmiteCamposNull() {
+        String nome = "Ana";
+        String telefone = null;
+        byte[] json = JsonUtils.escreverJson(out -> {
+            out.beginObject();
+            out.name("nome").value(nome);
+            out.name("telefone").value(telefone);
+            out.endObject();
+        });
+
+        assertEquals("{\"nome\":\"Ana\"}", texto(json));
+    }
+
+    @Test
+    void escreverJsonIgualAoGsonParaOMesmoObjeto() {
+        JsonObject objeto = new JsonObject();
+        objeto.addProperty("nome", "João \"TI\"\n");
+        objeto.addProperty("email", (String) null);
+        objeto.addProperty("setor", "Suporte");
+
+        byte[] json = JsonUtils.escreverJson(out -> {
+            out.beginObject();
+            out.name("nome").value("João \"TI\"\n");
+            out.name("email").value((String) null);
+            out.name("setor").value("Suporte");
+            out.endObject();
+        });
+
+        assertEquals(JsonUtils.toJson(objeto), texto(json));
+    }
+
+    @Test
+    void nullsPodemSerReativadosPeloEscritor() {
+        byte[] json = JsonUtils.escreverJson(out -> {
+            out.setSerializeNulls(true);
+            out.beginObject();
+            out.name("descricao").value((String) null);
+            out.endObject();
+        });
+
+        assertEquals("{\"descricao\":null}", texto(json));
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.suptec.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TextoUtilsTest {
+
+    @Test
+    void normalizarRemoveAcentosECedilha() {
+        assertEquals("media", TextoUtils.normalizar("Média"));
+        assertEquals("media", TextoUtils.normalizar("MEDIA"));
+        assertEquals("acao urgente", TextoUtils.normalizar("AÇÃO Urgente"));
+        assertEquals("impressora", TextoUtils.normalizar("impressora"));
+    }
+
+    @Test
+    void normalizarNullResultaEmVazio() {
+        assertEquals("", TextoUtils.normalizar(null));
+    }
+
+    @Test
+    void chaveBuscaSeparaOsCampos() {
+        String chave = TextoUtils.chaveBusca("Impressora", null, "Financeiro");
+        assertEquals("impressora" + TextoUtils.SEPARADOR + TextoUtils.SEPARADOR + "financeiro" + TextoUtils.SEPARADOR,
+            chave);
+        // Um termo não casa atravessando dois campos
+        assertFalse(chave.contains("impressorafinanceiro"));
+    }
+
+    @Test
+    void equivalentesIgnoraAcentosEMaiusculas() {
+        assertTrue(TextoUtils.equivalentes("Técnico", "TECNICO"));
+        assertFalse(TextoUtils.equivalentes("Técnico", "Gerente"));
+        assertTrue(TextoUtils.equivalentes(null, null));
+        assertFalse(TextoUtils.equivalentes(null, ""));
+    }
+}